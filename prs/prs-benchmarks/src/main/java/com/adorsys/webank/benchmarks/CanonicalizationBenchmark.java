@@ -0,0 +1,77 @@
+package com.adorsys.webank.benchmarks;
+
+import com.adorsys.webank.model.OtpData;
+import com.adorsys.webank.model.ProofOfWorkData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.erdtman.jcs.JsonCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RFC 8785 canonicalisation of the JSON that the OTP and proof-of-work hashes are computed over. Serialisation with
+ * Jackson is measured separately, since the services do both and either may dominate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CanonicalizationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private OtpData otpData;
+    private ProofOfWorkData proofOfWorkData;
+    private String otpJson;
+    private String proofOfWorkJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        Fixtures fixtures = new Fixtures();
+        // Configured as Spring Boot configures the application's mapper
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        otpData = OtpData.builder()
+                .otp("12345")
+                .devicePub(fixtures.deviceKey.toPublicJWK())
+                .phoneNumber("+237691234567")
+                .salt(UUID.randomUUID().toString())
+                .build();
+        proofOfWorkData = ProofOfWorkData.create(UUID.randomUUID().toString(), fixtures.deviceKey.toPublicJWK(),
+                "1234567");
+        otpJson = objectMapper.writeValueAsString(otpData);
+        proofOfWorkJson = objectMapper.writeValueAsString(proofOfWorkData);
+    }
+
+    @Benchmark
+    public String canonicalizeOtpData() throws IOException {
+        return new JsonCanonicalizer(otpJson).getEncodedString();
+    }
+
+    @Benchmark
+    public String canonicalizeProofOfWorkData() throws IOException {
+        return new JsonCanonicalizer(proofOfWorkJson).getEncodedString();
+    }
+
+    @Benchmark
+    public String serializeOtpData() throws IOException {
+        return objectMapper.writeValueAsString(otpData);
+    }
+
+    @Benchmark
+    public String serializeProofOfWorkData() throws IOException {
+        return objectMapper.writeValueAsString(proofOfWorkData);
+    }
+}
@@ -0,0 +1,66 @@
+package com.adorsys.webank.benchmarks;
+
+import com.adorsys.webank.config.CertGeneratorHelper;
+import com.adorsys.webank.config.PasswordEncoderConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The server-side cryptography of device registration and the OTP flows: signing a device certificate with
+ * {@link CertGeneratorHelper}, and hashing and checking an OTP with the Argon2 encoder of {@link PasswordEncoderConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoBenchmark {
+
+    /**
+     * Shape of the canonical JSON hashed for an OTP: OTP, device key, phone number and salt.
+     */
+    private static final String OTP_JSON = "{\"devicePub\":{\"crv\":\"P-256\",\"kid\":\"device\",\"kty\":\"EC\","
+            + "\"x\":\"f83OJ3D2xF1Bg8vub9tLe1gHMzV76e8Tus9uPHvRVEU\",\"y\":\"x_FEzRu9m36HLN_tue659LNpXW6pCyStikYjKIWI5a0\"},"
+            + "\"otp\":\"12345\",\"phoneNumber\":\"+237691234567\",\"salt\":\"3b1f2c5e-4a6d-4f0e-9c8b-7d2a1e0f6b9c\"}";
+
+    private CertGeneratorHelper certGenerator;
+    private String deviceJwk;
+    private PasswordEncoder passwordEncoder;
+    private String otpHash;
+
+    @Setup
+    public void setUp() throws Exception {
+        Fixtures fixtures = new Fixtures();
+        certGenerator = fixtures.certGenerator;
+        deviceJwk = fixtures.deviceKey.toPublicJWK().toJSONString();
+        passwordEncoder = new PasswordEncoderConfig().passwordEncoder();
+        otpHash = passwordEncoder.encode(OTP_JSON);
+    }
+
+    @Benchmark
+    public String generateCertificate() {
+        return certGenerator.generateCertificate(deviceJwk);
+    }
+
+    @Benchmark
+    public String argon2Encode() {
+        return passwordEncoder.encode(OTP_JSON);
+    }
+
+    @Benchmark
+    public boolean argon2Matches() {
+        return passwordEncoder.matches(OTP_JSON, otpHash);
+    }
+}
@@ -0,0 +1,64 @@
+package com.adorsys.webank.benchmarks;
+
+import com.adorsys.webank.config.CertGeneratorHelper;
+import com.adorsys.webank.config.JwtValidator;
+import com.adorsys.webank.config.KeyLoader;
+import com.adorsys.webank.properties.JwtProperties;
+import com.adorsys.webank.properties.ServerKeysProperties;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keys and tokens as a mobile client and the server produce them: a server key pair that signs device certificates,
+ * and a device key that signs each request, with the certificate in the header and the hash of the signed
+ * parameters in the payload.
+ */
+final class Fixtures {
+
+    final ECKey serverKey;
+    final ECKey deviceKey;
+    final KeyLoader keyLoader;
+    final CertGeneratorHelper certGenerator;
+    final String deviceCertificate;
+
+    Fixtures() throws JOSEException {
+        serverKey = new ECKeyGenerator(Curve.P_256).keyID("server").generate();
+        deviceKey = new ECKeyGenerator(Curve.P_256).keyID(UUID.randomUUID().toString()).generate();
+
+        ServerKeysProperties serverKeys = new ServerKeysProperties();
+        serverKeys.setPrivateKey(serverKey.toJSONString());
+        serverKeys.setPublicKey(serverKey.toPublicJWK().toJSONString());
+        keyLoader = new KeyLoader(serverKeys);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("https://webank.example");
+        jwtProperties.setExpirationTimeMs(86_400_000L);
+        certGenerator = new CertGeneratorHelper(keyLoader, jwtProperties);
+        deviceCertificate = certGenerator.generateCertificate(deviceKey.toPublicJWK().toJSONString());
+    }
+
+    /**
+     * @return a request JWS signed by the device, carrying its certificate and the hash of {@code params}
+     */
+    String requestToken(String... params) throws JOSEException, NoSuchAlgorithmException {
+        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.ES256)
+                .jwk(deviceKey.toPublicJWK())
+                .customParam("devJwt", deviceCertificate)
+                .build();
+        JWSObject jws = new JWSObject(header,
+                new Payload(Map.<String, Object>of("hash", JwtValidator.hashPayload(String.join("", params)))));
+        jws.sign(new ECDSASigner(deviceKey));
+        return jws.serialize();
+    }
+}
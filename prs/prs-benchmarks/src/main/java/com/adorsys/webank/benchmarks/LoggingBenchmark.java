@@ -0,0 +1,179 @@
+package com.adorsys.webank.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.OutputStreamAppender;
+import com.adorsys.webank.config.JwtValidator;
+import com.adorsys.webank.observability.LogSamplingFilter;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.File;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of logging on the JWT validation every authenticated request goes through. {@link JwtValidator} logs twelve
+ * INFO lines per call; this runs it on four threads with the appenders of the {@code postgres} profile:
+ * <ul>
+ *     <li>{@code off}: the {@code com.adorsys.webank} loggers at WARN, the baseline without logging</li>
+ *     <li>{@code sync}: JSON file and console written on the calling thread, as before the asynchronous appenders</li>
+ *     <li>{@code async}: the same appenders behind bounded, non-blocking {@link AsyncAppender}s</li>
+ *     <li>{@code async-sampled}: as {@code async}, with the {@link LogSamplingFilter} of {@code logback-spring.xml}</li>
+ * </ul>
+ * The difference between a mode and {@code off} is what logging adds to each validation. The console appender writes
+ * to a null stream so that the terminal does not slow the run down, which makes {@code sync} an underestimate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class LoggingBenchmark {
+
+    private static final String CONSOLE_PATTERN =
+            "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] [%X{correlationId}] %-5level %logger{36} - %msg%n";
+
+    @Param({"off", "sync", "async", "async-sampled"})
+    public String logging;
+
+    private final String phoneNumber = "+237691234567";
+    private final String publicKey = "{\"kty\":\"EC\",\"crv\":\"P-256\"}";
+    private LoggerContext context;
+    private File logFile;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        ECKey deviceKey = new ECKeyGenerator(Curve.P_256).generate();
+        JWK publicJwk = deviceKey.toPublicJWK();
+        String hash = JwtValidator.hashPayload(phoneNumber + publicKey);
+        JWSObject jws = new JWSObject(new JWSHeader.Builder(JWSAlgorithm.ES256).jwk(publicJwk).build(),
+                new Payload(Map.<String, Object>of("hash", hash)));
+        jws.sign(new ECDSASigner(deviceKey));
+        token = jws.serialize();
+
+        context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.reset();
+        logFile = Files.createTempFile("prs-logging-benchmark", ".json").toFile();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.setLevel(Level.INFO);
+        context.getLogger("com.adorsys.webank").setLevel("off".equals(logging) ? Level.WARN : Level.INFO);
+        if (!"off".equals(logging)) {
+            boolean async = logging.startsWith("async");
+            root.addAppender(async ? async(jsonFile()) : jsonFile());
+            root.addAppender(async ? async(console()) : console());
+        }
+        if ("async-sampled".equals(logging)) {
+            LogSamplingFilter sampling = new LogSamplingFilter();
+            sampling.setContext(context);
+            sampling.addLogger("com.adorsys.webank.config.JwtValidator");
+            sampling.addLogger("com.adorsys.webank.config.JwtExtractor");
+            sampling.addLogger("com.adorsys.webank.config.CertValidator");
+            sampling.addLogger("com.adorsys.webank.config.SecurityUtils");
+            sampling.addLogger("com.adorsys.webank.security");
+            sampling.start();
+            context.addTurboFilter(sampling);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        context.stop();
+        Files.deleteIfExists(logFile.toPath());
+    }
+
+    @Benchmark
+    public JWK validateAndExtract(RequestThread thread) throws Exception {
+        return JwtValidator.validateAndExtract(token, phoneNumber, publicKey);
+    }
+
+    /**
+     * Gives each benchmark thread a correlation ID, as {@code CorrelationIdFilter} does for request threads.
+     */
+    @State(Scope.Thread)
+    public static class RequestThread {
+
+        @Setup
+        public void setUp() {
+            MDC.put("correlationId", UUID.randomUUID().toString());
+        }
+    }
+
+    private Appender<ILoggingEvent> jsonFile() {
+        LogstashEncoder encoder = new LogstashEncoder();
+        encoder.setContext(context);
+        encoder.addIncludeMdcKeyName("correlationId");
+        encoder.setCustomFields("{\"application\":\"webank-prs\"}");
+        encoder.start();
+
+        FileAppender<ILoggingEvent> appender = new FileAppender<>();
+        appender.setContext(context);
+        appender.setName("JSON_FILE");
+        appender.setFile(logFile.getAbsolutePath());
+        appender.setEncoder(encoder);
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> console() {
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(CONSOLE_PATTERN);
+        encoder.start();
+
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setName("CONSOLE");
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Appender<ILoggingEvent> async(Appender<ILoggingEvent> delegate) {
+        AsyncAppender appender = new AsyncAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC_" + delegate.getName());
+        appender.setQueueSize(8192);
+        appender.setNeverBlock(true);
+        appender.setIncludeCallerData(false);
+        appender.addAppender(delegate);
+        appender.start();
+        return appender;
+    }
+}
@@ -0,0 +1,83 @@
+package com.adorsys.webank.benchmarks;
+
+import com.adorsys.webank.security.extractor.EndpointParameterMapper;
+import com.adorsys.webank.security.extractor.RequestParameterExtractorFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RequestParameterExtractorFilter} on the bodies it buffers and parses before authentication: a small OTP
+ * request, and KYC document submissions whose four base64 images add up to {@code documentMegabytes}. The
+ * allocation per operation ({@code gc.alloc.rate.norm}) matters here as much as the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestFilterBenchmark {
+
+    @Param({"0", "1", "4", "8"})
+    public int documentMegabytes;
+
+    private RequestParameterExtractorFilter filter;
+    private String path;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        filter = new RequestParameterExtractorFilter(EndpointParameterMapper.builder()
+                .endpointParameters(Map.of(
+                        "api/prs/otp/send", List.of("phoneNumber"),
+                        "api/prs/kyc/documents", List.of("frontId", "backId", "selfieId", "taxId", "accountId")))
+                .build());
+        if (documentMegabytes == 0) {
+            path = "/api/prs/otp/send";
+            body = "{\"phoneNumber\":\"+237691234567\"}".getBytes(StandardCharsets.UTF_8);
+        } else {
+            path = "/api/prs/kyc/documents";
+            String document = document(documentMegabytes * 1024 * 1024 / 4);
+            body = ("{\"frontId\":\"" + document + "\",\"backId\":\"" + document + "\",\"selfieId\":\"" + document
+                    + "\",\"taxId\":\"" + document + "\",\"accountId\":\"ACC1234567890\"}")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setContentType("application/json");
+        request.setContent(body);
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> blackhole.consume(RequestParameterExtractorFilter.getCurrentRequestParams()));
+    }
+
+    /**
+     * @return a base64 string of about {@code length} characters, like an encoded image
+     */
+    private static String document(int length) {
+        byte[] image = new byte[length * 3 / 4];
+        new Random(42).nextBytes(image);
+        return Base64.getEncoder().encodeToString(image);
+    }
+}
@@ -0,0 +1,83 @@
+package com.adorsys.webank.benchmarks;
+
+import com.adorsys.webank.config.CertValidator;
+import com.adorsys.webank.config.JwtValidator;
+import com.adorsys.webank.security.EmbeddedJwkJwtDecoder;
+import com.adorsys.webank.security.extractor.EndpointParameterMapper;
+import com.adorsys.webank.security.extractor.RequestParameterExtractorFilter;
+import com.nimbusds.jose.jwk.JWK;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The checks every authenticated request goes through, on a valid request token for {@code /api/prs/otp/send}:
+ * the request signature and payload hash ({@link JwtValidator}), the device certificate ({@link CertValidator}), and
+ * both together with the claims extraction of the security filter chain ({@link EmbeddedJwkJwtDecoder}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityBenchmark {
+
+    private static final String PHONE_NUMBER = "+237691234567";
+
+    private CertValidator certValidator;
+    private EmbeddedJwkJwtDecoder decoder;
+    private RequestParameterExtractorFilter filter;
+    private String token;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws Exception {
+        Fixtures fixtures = new Fixtures();
+        certValidator = new CertValidator(fixtures.keyLoader);
+        decoder = new EmbeddedJwkJwtDecoder();
+        filter = new RequestParameterExtractorFilter(EndpointParameterMapper.builder()
+                .endpointParameters(Map.of("api/prs/otp/send", List.of("phoneNumber")))
+                .build());
+        token = fixtures.requestToken(PHONE_NUMBER);
+        body = ("{\"phoneNumber\":\"" + PHONE_NUMBER + "\"}").getBytes();
+    }
+
+    @Benchmark
+    public JWK validateAndExtract() throws Exception {
+        return JwtValidator.validateAndExtract(token, PHONE_NUMBER);
+    }
+
+    @Benchmark
+    public boolean certValidateJWT() {
+        return certValidator.validateJWT(token);
+    }
+
+    /**
+     * The decoder reads the signed parameters that {@link RequestParameterExtractorFilter} extracted for the current
+     * request, so it runs inside the filter, as in production. {@link RequestFilterBenchmark} gives the filter alone.
+     */
+    @Benchmark
+    public Jwt decode() throws Exception {
+        Jwt[] decoded = new Jwt[1];
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/prs/otp/send");
+        request.setContentType("application/json");
+        request.setContent(body);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> decoded[0] = decoder.decode(token));
+        return decoded[0];
+    }
+}
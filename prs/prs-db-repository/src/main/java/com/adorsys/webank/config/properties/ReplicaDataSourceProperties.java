@@ -0,0 +1,68 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Settings for the read replica that serves {@code @Transactional(readOnly = true)} service methods. All other
+ * work keeps using the primary configured under {@code spring.datasource}.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "spring.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Replication lag of a PostgreSQL standby in seconds: zero on a primary and on a standby that has replayed
+     * everything it received, otherwise the age of the last replayed transaction.
+     */
+    public static final String POSTGRES_LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() THEN 0"
+            + " WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /** Derived from the URL when not set. */
+    private String driverClassName;
+
+    /** Driver properties of the replica connections, like {@code spring.datasource.hikari.data-source-properties}. */
+    @NotNull
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+
+    /** Maximum number of pooled replica connections. */
+    @Min(1)
+    private int maximumPoolSize = 10;
+
+    /** Read-only transactions go to the primary while the replica lags behind by more than this. */
+    @NotNull
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /** Interval between replica lag checks. */
+    @NotNull
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** Upper bound on obtaining a replica connection and on the lag check itself. */
+    @NotNull
+    private Duration timeout = Duration.ofSeconds(2);
+
+    /** Query returning the replica's lag in seconds; a failure or a {@code NULL} result marks it unhealthy. */
+    @NotBlank
+    private String lagQuery = POSTGRES_LAG_QUERY;
+}
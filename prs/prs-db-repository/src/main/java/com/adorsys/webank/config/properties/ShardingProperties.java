@@ -0,0 +1,76 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for spreading the account-keyed tables ({@code personal_information_table}, {@code user_documents},
+ * {@code kyc_status_events}) over several databases. Every other table stays on the first shard, which takes
+ * the place of {@code spring.datasource}.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "spring.datasource.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    /** Shard databases; the first one also holds the tables that are not sharded. */
+    @Valid
+    private List<Shard> shards = new ArrayList<>();
+
+    /** Driver properties of every shard connection, like {@code spring.datasource.hikari.data-source-properties}. */
+    @NotNull
+    private Map<String, String> dataSourceProperties = new LinkedHashMap<>();
+
+    /**
+     * Points per shard on the consistent hash ring. More points spread accounts more evenly, at the cost of a
+     * larger ring.
+     */
+    @Min(1)
+    private int virtualNodes = 160;
+
+    @Valid
+    @NotNull
+    private Rebalance rebalance = new Rebalance();
+
+    @Data
+    public static class Shard {
+
+        /** Stable shard name; accounts are placed by hashing against it, so renaming a shard moves its accounts. */
+        @NotBlank
+        private String name;
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        /** Maximum number of pooled connections to this shard. */
+        @Min(1)
+        private int maximumPoolSize = 10;
+    }
+
+    @Data
+    public static class Rebalance {
+
+        /** Start as a one-off job that moves misplaced accounts to their shard, then exits. */
+        private boolean enabled = false;
+
+        /** Only report how many accounts would move. */
+        private boolean dryRun = true;
+    }
+}
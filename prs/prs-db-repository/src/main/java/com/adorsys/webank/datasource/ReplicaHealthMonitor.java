@@ -0,0 +1,77 @@
+package com.adorsys.webank.datasource;
+
+import com.adorsys.webank.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Periodically measures the replication lag of the read replica and decides whether read-only transactions may
+ * use it. The replica counts as unhealthy until the first successful check, while the lag query fails and while
+ * the lag exceeds {@code spring.datasource.replica.max-lag}.
+ * <p>
+ * The last measured lag is published as {@code prs.datasource.replica.lag} (seconds, {@code NaN} when unknown)
+ * and the routing decision as {@code prs.datasource.replica.healthy}.
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final ReplicaDataSourceProperties properties;
+    private volatile boolean healthy;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaHealthMonitor(DataSource replica, ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout((int) Math.max(1, properties.getTimeout().toSeconds()));
+        this.properties = properties;
+
+        Gauge.builder("prs.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Replication lag of the read replica at the last check")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("prs.datasource.replica.healthy", this, monitor -> monitor.healthy ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the replica")
+                .register(meterRegistry);
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${spring.datasource.replica.health-check-interval:PT5S}")
+    public void check() {
+        Double lag;
+        try {
+            lag = replicaJdbcTemplate.queryForObject(properties.getLagQuery(), Double.class);
+        } catch (DataAccessException e) {
+            lagSeconds = Double.NaN;
+            update(false, "lag check failed: " + e.getMessage());
+            return;
+        }
+
+        if (lag == null) {
+            lagSeconds = Double.NaN;
+            update(false, "replica reported no replay position");
+            return;
+        }
+        lagSeconds = lag;
+        double maxLagSeconds = properties.getMaxLag().toMillis() / 1000.0;
+        update(lag <= maxLagSeconds, "lag of " + lag + "s exceeds " + maxLagSeconds + "s");
+    }
+
+    private void update(boolean nowHealthy, String reason) {
+        boolean wasHealthy = healthy;
+        healthy = nowHealthy;
+        if (wasHealthy && !nowHealthy) {
+            log.warn("Read replica marked unhealthy, read-only transactions fall back to the primary: {}", reason);
+        } else if (!wasHealthy && nowHealthy) {
+            log.info("Read replica healthy, routing read-only transactions to it (lag {}s)", lagSeconds);
+        }
+    }
+}
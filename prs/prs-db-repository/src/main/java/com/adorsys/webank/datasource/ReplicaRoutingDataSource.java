@@ -0,0 +1,61 @@
+package com.adorsys.webank.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Hands out replica connections inside read-only transactions while the {@link ReplicaHealthMonitor} considers the
+ * replica healthy, and primary connections otherwise.
+ * <p>
+ * The read-only flag is only known once the transaction is set up, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching the connection to
+ * the first statement. Routed read-only transactions are counted in {@code prs.datasource.read_only_transactions},
+ * tagged with the target they were sent to.
+ */
+final class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final String METRIC_NAME = "prs.datasource.read_only_transactions";
+
+    private final ReplicaHealthMonitor healthMonitor;
+    private final Counter toReplica;
+    private final Counter toPrimary;
+
+    ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor healthMonitor,
+                             MeterRegistry meterRegistry) {
+        this.healthMonitor = healthMonitor;
+        this.toReplica = counter(meterRegistry, "replica");
+        this.toPrimary = counter(meterRegistry, "primary");
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Target.PRIMARY;
+        }
+        if (healthMonitor.isHealthy()) {
+            toReplica.increment();
+            return Target.REPLICA;
+        }
+        toPrimary.increment();
+        return Target.PRIMARY;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder(METRIC_NAME)
+                .description("Read-only transactions, by the data source their connection was taken from")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
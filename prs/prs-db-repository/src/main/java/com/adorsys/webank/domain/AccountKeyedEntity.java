@@ -0,0 +1,35 @@
+package com.adorsys.webank.domain;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entity keyed by the account ID it belongs to. Since the ID is assigned by the application, Spring Data cannot tell
+ * a new entity from an existing one and would merge it, which first SELECTs the row. Entities therefore count as new
+ * until they are loaded or persisted, so saving a freshly built entity is a plain INSERT.
+ */
+@MappedSuperclass
+public abstract class AccountKeyedEntity implements Persistable<String>, AccountScoped {
+
+    @Transient
+    private boolean persisted;
+
+    @Override
+    public String getId() {
+        return getAccountId();
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.adorsys.webank.domain;
+
+/**
+ * Entity whose rows belong to a single account. When sharding is enabled, such rows live on the shard the
+ * account ID maps to.
+ */
+public interface AccountScoped {
+
+    String getAccountId();
+}
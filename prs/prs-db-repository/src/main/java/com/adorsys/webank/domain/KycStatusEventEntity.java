@@ -0,0 +1,39 @@
+package com.adorsys.webank.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox row recording a KYC status transition. Written in the same transaction as the status change and
+ * read by the status event feed; rows are short-lived and purged after the configured retention.
+ */
+@Entity
+@Table(name = "kyc_status_events", indexes = {
+    @Index(name = "idx_kyc_status_events_created_at", columnList = "created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KycStatusEventEntity implements AccountScoped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "kyc_status_events_seq")
+    @SequenceGenerator(name = "kyc_status_events_seq", sequenceName = "kyc_status_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private String accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PersonalInfoStatus status;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
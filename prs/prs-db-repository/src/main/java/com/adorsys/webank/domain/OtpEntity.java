@@ -11,7 +11,6 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "otp_requests", indexes = {
-    @Index(name = "idx_public_key_hash", columnList = "publicKeyHash"),
     @Index(name = "idx_phone_number", columnList = "phone_number"),
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_created_at", columnList = "created_at")
@@ -31,13 +30,14 @@ public class OtpEntity {
     @Column(name = "phone_number", nullable = false, length = 20)
     private String phoneNumber;
 
-    @Column(name = "public_key_hash", unique = true, nullable = false)
-    private String publicKeyHash;
+    /** Raw SHA-256 digest of the device public key; the UNIQUE constraint is its only index. */
+    @Column(name = "public_key_hash", unique = true, nullable = false, length = 32)
+    private byte[] publicKeyHash;
 
     @Column(name = "otp_hash", nullable = false)
     private String otpHash;
 
-    @Column(name = "otp", nullable = false, length = 20)
+    @Column(name = "otp_code", nullable = false, length = 20)
     private String otpCode;
 
     @Enumerated(EnumType.STRING)
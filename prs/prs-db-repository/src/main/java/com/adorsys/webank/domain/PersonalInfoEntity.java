@@ -6,6 +6,10 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
+/**
+ * KYC details of an account. Submissions update the existing row column by column; an entity is only built and saved
+ * when no row exists yet, so it is always inserted.
+ */
 @Entity
 @Getter
 @Setter
@@ -19,7 +23,7 @@ import java.time.LocalDateTime;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_email", columnList = "email")
 })
-public class PersonalInfoEntity {
+public class PersonalInfoEntity extends AccountKeyedEntity {
 
     @Id
     @Column(name = "account_id", nullable = false)
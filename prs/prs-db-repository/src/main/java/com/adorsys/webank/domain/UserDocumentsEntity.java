@@ -4,6 +4,11 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.*;
+
+/**
+ * Identity documents of an account. Uploads replace the documents of the existing row; an entity is only built and
+ * saved for the first upload, so it is always inserted.
+ */
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
@@ -15,7 +20,7 @@ import lombok.*;
     @Index(name = "idx_account_id", columnList = "account_id"),
     @Index(name = "idx_status", columnList = "status")
 })
-public class UserDocumentsEntity {
+public class UserDocumentsEntity extends AccountKeyedEntity {
 
     @Id
     @Column(name = "account_id", nullable = false)
@@ -37,7 +42,23 @@ public class UserDocumentsEntity {
     @Column(name = "tax_id", nullable = true, columnDefinition = "TEXT")
     private String taxID;
 
+    @Column(name = "front_thumbnail", nullable = true, columnDefinition = "TEXT")
+    private String frontThumbnail;
+
+    @Column(name = "back_thumbnail", nullable = true, columnDefinition = "TEXT")
+    private String backThumbnail;
+
+    @Column(name = "selfie_thumbnail", nullable = true, columnDefinition = "TEXT")
+    private String selfieThumbnail;
+
+    @Column(name = "tax_thumbnail", nullable = true, columnDefinition = "TEXT")
+    private String taxThumbnail;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = true)
     private UserDocumentsStatus status;
+
+    /** Identifies the current upload, so processing results of an older upload are never stored. */
+    @Column(name = "upload_id", nullable = true, length = 36)
+    private String uploadId;
 }
@@ -7,7 +7,7 @@ import java.util.UUID;
 public interface OtpProjection {
     UUID getId();
     String getPhoneNumber();
-    String getPublicKeyHash();
+    byte[] getPublicKeyHash();
     String getOtpHash();
     String getOtpCode();
     OtpStatus getStatus();
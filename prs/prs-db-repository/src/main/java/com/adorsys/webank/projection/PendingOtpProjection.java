@@ -0,0 +1,12 @@
+package com.adorsys.webank.projection;
+
+import com.adorsys.webank.domain.OtpStatus;
+
+/**
+ * Columns shown in the pending OTP list; all of them are included in {@code idx_otp_requests_pending}.
+ */
+public interface PendingOtpProjection {
+    String getPhoneNumber();
+    String getOtpCode();
+    OtpStatus getStatus();
+}
@@ -8,5 +8,9 @@ public interface UserDocumentsProjection {
     String getBackID();
     String getSelfieID();
     String getTaxID();
+    String getFrontThumbnail();
+    String getBackThumbnail();
+    String getSelfieThumbnail();
+    String getTaxThumbnail();
     UserDocumentsStatus getStatus();
 } 
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.adorsys.webank.repository;
+
+import com.adorsys.webank.domain.KycStatusEventEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface KycStatusEventRepository extends JpaRepository<KycStatusEventEntity, Long> {
+
+    /** Number of events read per query by the event feed poller. */
+    int POLL_BATCH_SIZE = 500;
+
+    /**
+     * Reads the next {@code limit} events after the position {@code (createdAt, id)}. Events sharing the creation time
+     * of the last event of a page are ordered by ID, so paging does not skip any of them.
+     */
+    @Query("SELECT e FROM KycStatusEventEntity e "
+            + "WHERE e.createdAt >= :createdAt AND (e.createdAt > :createdAt OR e.id > :id) "
+            + "ORDER BY e.createdAt ASC, e.id ASC")
+    List<KycStatusEventEntity> findAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    /**
+     * Purges events older than the cutoff.
+     *
+     * @return the number of deleted rows
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM KycStatusEventEntity e WHERE e.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,6 +2,7 @@ package com.adorsys.webank.repository;
 import com.adorsys.webank.domain.OtpEntity;
 import com.adorsys.webank.domain.OtpStatus;
 import com.adorsys.webank.projection.OtpProjection;
+import com.adorsys.webank.projection.PendingOtpProjection;
 
 import java.util.List;
 import java.util.UUID;
@@ -13,25 +14,62 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import java.time.LocalDateTime;
+import java.util.Base64;
 
 
 @Repository
 public interface OtpRequestRepository extends JpaRepository<OtpEntity, UUID> {
-    Optional<OtpProjection> findByPublicKeyHash(String publicKeyHash);
-    List<OtpProjection> findByStatus(OtpStatus status);
+
+    /*
+     * Every query is bounded by created_at >= :since, so with the partitioned table (db/partitioning) only the
+     * partitions inside the lookup window are read. Callers get the bound from OtpPartitioningProperties.
+     */
+
+    Optional<OtpProjection> findByPublicKeyHashAndCreatedAtGreaterThanEqual(byte[] publicKeyHash, LocalDateTime since);
+
+    /**
+     * Narrow read of the OTPs in a status, oldest first. For {@link OtpStatus#PENDING} it is served from the
+     * partial covering index {@code idx_otp_requests_pending} without visiting the table.
+     */
+    List<PendingOtpProjection> findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+            OtpStatus status, LocalDateTime since);
 
     @Modifying
     @Query("UPDATE OtpEntity o SET " +
             "o.otpCode = :otpCode, " +
             "o.status = :status, " +
             "o.updatedAt = :updatedAt " +
-            "WHERE o.publicKeyHash = :publicKeyHash")
+            "WHERE o.publicKeyHash = :publicKeyHash " +
+            "AND o.createdAt >= :since")
     int updateOtpByPublicKeyHash(
-            @Param("publicKeyHash") String publicKeyHash,
+            @Param("publicKeyHash") byte[] publicKeyHash,
+            @Param("since") LocalDateTime since,
             @Param("otpCode") String otpCode,
             @Param("status") OtpStatus status,
             @Param("updatedAt") LocalDateTime updatedAt
     );
 
-    Optional<OtpEntity> findEntityByPublicKeyHash(String publicKeyHash);
-}
\ No newline at end of file
+    Optional<OtpEntity> findEntityByPublicKeyHashAndCreatedAtGreaterThanEqual(byte[] publicKeyHash, LocalDateTime since);
+
+    /*
+     * The public key hash is exchanged as base64 text by the services and stored as 32 raw bytes;
+     * these overloads convert at the repository boundary.
+     */
+
+    default Optional<OtpProjection> findByPublicKeyHash(String publicKeyHash, LocalDateTime since) {
+        return findByPublicKeyHashAndCreatedAtGreaterThanEqual(toBytes(publicKeyHash), since);
+    }
+
+    default int updateOtpByPublicKeyHash(String publicKeyHash, LocalDateTime since, String otpCode, OtpStatus status,
+                                         LocalDateTime updatedAt) {
+        return updateOtpByPublicKeyHash(toBytes(publicKeyHash), since, otpCode, status, updatedAt);
+    }
+
+    default Optional<OtpEntity> findEntityByPublicKeyHash(String publicKeyHash, LocalDateTime since) {
+        return findEntityByPublicKeyHashAndCreatedAtGreaterThanEqual(toBytes(publicKeyHash), since);
+    }
+
+    private static byte[] toBytes(String publicKeyHash) {
+        return Base64.getDecoder().decode(publicKeyHash);
+    }
+}
@@ -3,15 +3,71 @@ package com.adorsys.webank.repository;
 import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.domain.PersonalInfoStatus;
 import com.adorsys.webank.projection.PersonalInfoProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PersonalInfoRepository extends JpaRepository<PersonalInfoEntity, String> {
     Optional<PersonalInfoProjection> findByAccountId(String accountId);
     List<PersonalInfoProjection> findByStatus(PersonalInfoStatus status);
     List<PersonalInfoProjection> findByDocumentUniqueId(String documentUniqueId);
+
+    /**
+     * Streams every account ID from the primary key index, fetched in chunks instead of loaded at once.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @Query("SELECT p.accountId FROM PersonalInfoEntity p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllAccountIds();
+
+    /**
+     * Partial update of the identity document fields submitted through {@code /kyc/info}. Location,
+     * email and OTP columns written by other endpoints are left untouched; the rejection reason is
+     * cleared because the record goes back to review.
+     *
+     * @return the number of updated rows, 0 when the account has no record yet
+     */
+    @Modifying
+    @Query("UPDATE PersonalInfoEntity p SET " +
+           "p.documentUniqueId = :documentUniqueId, " +
+           "p.expirationDate = :expirationDate, " +
+           "p.status = :status, " +
+           "p.rejectionReason = NULL " +
+           "WHERE p.accountId = :accountId")
+    int updateKycInfo(@Param("accountId") String accountId,
+                      @Param("documentUniqueId") String documentUniqueId,
+                      @Param("expirationDate") String expirationDate,
+                      @Param("status") PersonalInfoStatus status);
+
+    /**
+     * Partial update for a complete KYC submission: identity document, location and email in one
+     * statement. OTP columns are left untouched and the rejection reason is cleared for re-review.
+     *
+     * @return the number of updated rows, 0 when the account has no record yet
+     */
+    @Modifying
+    @Query("UPDATE PersonalInfoEntity p SET " +
+           "p.documentUniqueId = :documentUniqueId, " +
+           "p.expirationDate = :expirationDate, " +
+           "p.location = :location, " +
+           "p.email = :email, " +
+           "p.status = :status, " +
+           "p.rejectionReason = NULL " +
+           "WHERE p.accountId = :accountId")
+    int updateKycSubmission(@Param("accountId") String accountId,
+                            @Param("documentUniqueId") String documentUniqueId,
+                            @Param("expirationDate") String expirationDate,
+                            @Param("location") String location,
+                            @Param("email") String email,
+                            @Param("status") PersonalInfoStatus status);
 }
@@ -1,10 +1,74 @@
 package com.adorsys.webank.repository;
 
 import com.adorsys.webank.domain.UserDocumentsEntity;
+import com.adorsys.webank.domain.UserDocumentsStatus;
 import com.adorsys.webank.projection.UserDocumentsProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 public interface UserDocumentsRepository extends JpaRepository<UserDocumentsEntity, String> {
     Optional<UserDocumentsProjection> findByAccountId(String accountId);
+
+    /**
+     * Replaces the documents of an existing record in a single statement. Thumbnails of the previous
+     * upload are cleared; the processing stage regenerates them for the new images. The upload id
+     * identifies this upload to the processing stage.
+     *
+     * @return the number of updated rows, 0 when the account has no record yet
+     */
+    @Modifying
+    @Query("UPDATE UserDocumentsEntity d SET " +
+           "d.frontID = :frontId, " +
+           "d.backID = :backId, " +
+           "d.selfieID = :selfieId, " +
+           "d.taxID = :taxId, " +
+           "d.status = :status, " +
+           "d.frontThumbnail = NULL, " +
+           "d.backThumbnail = NULL, " +
+           "d.selfieThumbnail = NULL, " +
+           "d.taxThumbnail = NULL, " +
+           "d.uploadId = :uploadId " +
+           "WHERE d.accountId = :accountId")
+    int updateDocuments(@Param("accountId") String accountId,
+                        @Param("frontId") String frontId,
+                        @Param("backId") String backId,
+                        @Param("selfieId") String selfieId,
+                        @Param("taxId") String taxId,
+                        @Param("status") UserDocumentsStatus status,
+                        @Param("uploadId") String uploadId);
+
+    /**
+     * Stores the output of the document processing stage. A {@code null} document keeps the
+     * stored value, so only images that actually shrank are rewritten. Nothing is written once a
+     * newer upload has replaced the one that was processed.
+     *
+     * @return the number of updated rows, 0 when the upload has been superseded
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserDocumentsEntity d SET " +
+           "d.frontID = COALESCE(:frontId, d.frontID), " +
+           "d.backID = COALESCE(:backId, d.backID), " +
+           "d.selfieID = COALESCE(:selfieId, d.selfieID), " +
+           "d.taxID = COALESCE(:taxId, d.taxID), " +
+           "d.frontThumbnail = :frontThumbnail, " +
+           "d.backThumbnail = :backThumbnail, " +
+           "d.selfieThumbnail = :selfieThumbnail, " +
+           "d.taxThumbnail = :taxThumbnail " +
+           "WHERE d.accountId = :accountId AND d.uploadId = :uploadId")
+    int updateProcessedDocuments(@Param("accountId") String accountId,
+                                 @Param("uploadId") String uploadId,
+                                 @Param("frontId") String frontId,
+                                 @Param("backId") String backId,
+                                 @Param("selfieId") String selfieId,
+                                 @Param("taxId") String taxId,
+                                 @Param("frontThumbnail") String frontThumbnail,
+                                 @Param("backThumbnail") String backThumbnail,
+                                 @Param("selfieThumbnail") String selfieThumbnail,
+                                 @Param("taxThumbnail") String taxThumbnail);
 }
@@ -0,0 +1,129 @@
+package com.adorsys.webank.sharding;
+
+import com.adorsys.webank.domain.AccountScoped;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Selects the shard for calls on an account-keyed repository from the account ID among the arguments: a
+ * {@code @Param("accountId")} or {@code ...AccountId} parameter, a {@code String} ID of a {@code ...ById} method,
+ * or {@link AccountScoped} entities, also inside collections.
+ * <p>
+ * The first routed call inside a transaction pins the transaction to its shard; a later call for an account on
+ * another shard fails, as one transaction cannot span databases. So does the first routed call when the
+ * transaction already fetched its connection from another shard, for example the first shard for an unsharded
+ * table. Calls that carry no account ID, such as
+ * list queries, must run inside {@link AccountShards#scatterGather} or {@link AccountShards#onShard}.
+ */
+final class AccountShardInterceptor implements MethodInterceptor {
+
+    private final AccountShards accountShards;
+
+    AccountShardInterceptor(AccountShards accountShards) {
+        this.accountShards = accountShards;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        String shard = shardOf(method, invocation.getArguments());
+        String current = ShardContext.current();
+
+        if (shard == null) {
+            if (current == null && isRepositoryMethod(method)) {
+                throw new IllegalStateException(method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                        + " is not keyed by account and must run through AccountShards on a sharded database");
+            }
+            return invocation.proceed();
+        }
+        if (current != null) {
+            if (!current.equals(shard)) {
+                throw new IllegalStateException("Account on shard " + shard + " accessed from a transaction on shard "
+                        + current + " in " + method.getName());
+            }
+            return invocation.proceed();
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Pinning only routes the connection if the transaction has not fetched one yet
+            String connected = ShardContext.connectedShard();
+            if (connected != null && !connected.equals(shard)) {
+                throw new IllegalStateException("Account on shard " + shard + " accessed from a transaction already "
+                        + "connected to shard " + connected + " in " + method.getName());
+            }
+            // Pin the surrounding transaction; its connection is fetched lazily by the first statement below
+            ShardContext.select(shard);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ShardContext.restore(null);
+                }
+            });
+            return invocation.proceed();
+        }
+        return proceedOn(shard, invocation);
+    }
+
+    private static Object proceedOn(String shard, MethodInvocation invocation) throws Throwable {
+        String previous = ShardContext.current();
+        ShardContext.select(shard);
+        try {
+            return invocation.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    /** {@code Object} methods such as {@code toString} do not touch the database. */
+    private static boolean isRepositoryMethod(Method method) {
+        return method.getDeclaringClass() != Object.class;
+    }
+
+    /**
+     * The single shard addressed by the call, or {@code null} when it carries no account ID.
+     */
+    private String shardOf(Method method, Object[] arguments) {
+        Set<String> shards = new LinkedHashSet<>();
+        Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+        boolean byId = method.getName().endsWith("ById");
+        for (int i = 0; i < arguments.length; i++) {
+            boolean accountParameter = byId || method.getName().contains("AccountId")
+                    || isAccountIdParam(parameterAnnotations[i]);
+            collect(arguments[i], accountParameter, shards);
+        }
+        if (shards.size() > 1) {
+            throw new IllegalStateException(method.getName() + " addresses accounts on several shards " + shards
+                    + "; split the call with AccountShards.groupByShard");
+        }
+        return shards.isEmpty() ? null : shards.iterator().next();
+    }
+
+    private void collect(Object argument, boolean accountParameter, Set<String> shards) {
+        if (argument instanceof AccountScoped entity && entity.getAccountId() != null) {
+            shards.add(accountShards.shardFor(entity.getAccountId()));
+        } else if (argument instanceof String accountId && accountParameter) {
+            shards.add(accountShards.shardFor(accountId));
+        } else if (argument instanceof Iterable<?> elements) {
+            for (Object element : elements) {
+                collect(element, accountParameter, shards);
+            }
+        }
+    }
+
+    private static boolean isAccountIdParam(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof Param param && "accountId".equals(param.value())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
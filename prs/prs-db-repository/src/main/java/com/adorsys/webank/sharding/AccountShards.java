@@ -0,0 +1,188 @@
+package com.adorsys.webank.sharding;
+
+import com.adorsys.webank.config.properties.ShardingProperties;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Entry point for work that is not confined to one account when the account-keyed tables are sharded: queries
+ * that scatter over every shard and merge the results, and batches that have to be split per shard.
+ * <p>
+ * Single-account repository calls need none of this; they are routed by their account ID. Without sharding
+ * every method runs its work once, on the caller's thread and in the caller's transaction.
+ */
+@Slf4j
+@Component
+public class AccountShards {
+
+    /** Name of the only shard when sharding is disabled. */
+    public static final String DEFAULT_SHARD = "default";
+
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ConsistentHashRing ring;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate transaction;
+    private final ExecutorService scatterExecutor;
+
+    public AccountShards(ShardingProperties properties, PlatformTransactionManager transactionManager) {
+        if (!properties.isEnabled()) {
+            this.ring = null;
+            this.readOnlyTransaction = null;
+            this.transaction = null;
+            this.scatterExecutor = null;
+            return;
+        }
+
+        List<String> names = properties.getShards().stream().map(ShardingProperties.Shard::getName).toList();
+        if (names.isEmpty() || new HashSet<>(names).size() != names.size()) {
+            throw new IllegalStateException("Sharding needs at least one shard and unique shard names, got " + names);
+        }
+        this.ring = new ConsistentHashRing(names, properties.getVirtualNodes());
+        // Each shard's work runs in a transaction of its own, never joining the caller's
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Shard queries run in the caller's trace context, so their spans nest under the request
+        this.scatterExecutor = ContextExecutorService.wrap(Executors.newFixedThreadPool(names.size(), runnable -> {
+            Thread thread = new Thread(runnable, "prs-shard-scatter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }), CONTEXT_SNAPSHOTS::captureAll);
+        log.info("Account-keyed tables sharded over {}", names);
+    }
+
+    public boolean isSharded() {
+        return ring != null;
+    }
+
+    ConsistentHashRing ring() {
+        return ring;
+    }
+
+    public List<String> shards() {
+        return ring != null ? ring.nodes() : List.of(DEFAULT_SHARD);
+    }
+
+    public String shardFor(String accountId) {
+        return ring != null ? ring.nodeFor(accountId) : DEFAULT_SHARD;
+    }
+
+    /**
+     * Runs a read-only query on every shard in parallel and concatenates the results in shard order. The query
+     * must not depend on the caller's transaction or thread-bound state other than the logging context.
+     */
+    public <T> List<T> scatterGather(Supplier<? extends Collection<T>> query) {
+        if (ring == null) {
+            return new ArrayList<>(query.get());
+        }
+
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<CompletableFuture<? extends Collection<T>>> parts = new ArrayList<>();
+        for (String shard : ring.nodes()) {
+            parts.add(CompletableFuture.supplyAsync(() -> withMdc(mdc,
+                    () -> ShardContext.callOn(shard, () -> readOnlyTransaction.execute(status -> query.get()))),
+                    scatterExecutor));
+        }
+
+        List<T> merged = new ArrayList<>();
+        for (CompletableFuture<? extends Collection<T>> part : parts) {
+            merged.addAll(join(part));
+        }
+        return merged;
+    }
+
+    /**
+     * Runs {@code work} on every shard in turn, each in a read-write transaction of its own.
+     *
+     * @return the result of each shard, in shard order
+     */
+    public <T> List<T> onEveryShard(Supplier<T> work) {
+        if (ring == null) {
+            return List.of(work.get());
+        }
+        List<T> results = new ArrayList<>();
+        for (String shard : ring.nodes()) {
+            results.add(onShard(shard, work));
+        }
+        return results;
+    }
+
+    /**
+     * Runs {@code work} on the given shard in a read-write transaction of its own.
+     */
+    public <T> T onShard(String shard, Supplier<T> work) {
+        if (ring == null) {
+            return work.get();
+        }
+        return ShardContext.callOn(shard, () -> transaction.execute(status -> work.get()));
+    }
+
+    /**
+     * Splits items by the shard of their account, keeping the input order within each shard. Items without
+     * an account ID go to the first shard.
+     */
+    public <T> Map<String, List<T>> groupByShard(Collection<T> items, Function<T, String> accountId) {
+        Map<String, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            String id = accountId.apply(item);
+            String shard = id == null ? shards().get(0) : shardFor(id);
+            groups.computeIfAbsent(shard, key -> new ArrayList<>()).add(item);
+        }
+        return groups;
+    }
+
+    private static <T> T withMdc(Map<String, String> mdc, Supplier<T> work) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            return work.get();
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.adorsys.webank.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * The shard the current thread works on. The routing data source hands out connections to it; without a shard
+ * the connection goes to the first shard, which holds the tables that are not sharded.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    /** Transaction resource holding the shard of the connection the transaction has fetched. */
+    private static final Object CONNECTED_SHARD = new Object();
+
+    private ShardContext() {
+    }
+
+    /** The current shard, or {@code null} when none is selected. */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs {@code work} on the given shard and restores the previous selection afterwards.
+     */
+    public static <T> T callOn(String shard, Supplier<T> work) {
+        String previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static void select(String shard) {
+        CURRENT.set(shard);
+    }
+
+    static void restore(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * The shard of the connection the current transaction already holds, or {@code null} while it has not fetched
+     * one yet.
+     */
+    static String connectedShard() {
+        return (String) TransactionSynchronizationManager.getResource(CONNECTED_SHARD);
+    }
+
+    /**
+     * Records the shard of a connection just fetched. Only the first connection of a transaction is recorded; the
+     * record is set aside while the transaction is suspended and dropped when it completes.
+     */
+    static void connected(String shard) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(CONNECTED_SHARD)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(CONNECTED_SHARD, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CONNECTED_SHARD);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(CONNECTED_SHARD, shard);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CONNECTED_SHARD);
+            }
+        });
+    }
+}
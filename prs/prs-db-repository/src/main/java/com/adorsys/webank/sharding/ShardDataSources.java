@@ -0,0 +1,52 @@
+package com.adorsys.webank.sharding;
+
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One connection pool per configured shard, in configuration order. The pools are owned here rather than
+ * registered as beans, so the application keeps exactly one {@link DataSource} candidate: the routing one.
+ */
+public class ShardDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+    public ShardDataSources(ShardingProperties properties, MeterRegistry meterRegistry) {
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build();
+            dataSource.setPoolName("prs-shard-" + shard.getName());
+            properties.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(shard.getName(), dataSource);
+        }
+    }
+
+    /** Shard name to data source, the first entry being the shard that also holds the unsharded tables. */
+    public Map<String, DataSource> asMap() {
+        return Collections.unmodifiableMap(pools);
+    }
+
+    /** Name of the first shard, which also holds the unsharded tables. */
+    public String homeShard() {
+        return pools.keySet().iterator().next();
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,127 @@
+package com.adorsys.webank.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Moves accounts whose rows sit on a shard other than the one the hash ring assigns them to, e.g. after a shard
+ * was added. Each account is copied into its target shard in one transaction and then deleted from its source
+ * in another; a run interrupted in between is completed by the next run, which finds the copy and only deletes.
+ * <p>
+ * Status events are not moved: they only matter to clients waiting at the time of the change and expire with
+ * the outbox retention. The tool expects no application instance to write meanwhile.
+ */
+@Slf4j
+public class ShardRebalancer {
+
+    /** Account-keyed tables moved with their account, all keyed by an {@code account_id} column. */
+    static final List<String> TABLES = List.of("personal_information_table", "user_documents");
+
+    private final Map<String, DataSource> shards;
+    private final ConsistentHashRing ring;
+
+    public ShardRebalancer(Map<String, DataSource> shards, ConsistentHashRing ring) {
+        this.shards = shards;
+        this.ring = ring;
+    }
+
+    /**
+     * @return number of accounts moved (or, in a dry run, to be moved) per {@code "source -> target"} pair
+     */
+    public Map<String, Integer> rebalance(boolean dryRun) {
+        Map<String, Integer> moves = new TreeMap<>();
+        for (String source : shards.keySet()) {
+            for (String accountId : misplacedAccounts(source)) {
+                String target = ring.nodeFor(accountId);
+                if (!dryRun) {
+                    move(accountId, source, target);
+                }
+                moves.merge(source + " -> " + target, 1, Integer::sum);
+            }
+        }
+        return moves;
+    }
+
+    private List<String> misplacedAccounts(String source) {
+        List<String> misplaced = new ArrayList<>();
+        jdbc(source).query(String.join(" UNION ", TABLES.stream()
+                .map(table -> "SELECT account_id FROM " + table)
+                .toList()), row -> {
+            String accountId = row.getString(1);
+            if (!ring.nodeFor(accountId).equals(source)) {
+                misplaced.add(accountId);
+            }
+        });
+        log.info("Shard {}: {} accounts to move", source, misplaced.size());
+        return misplaced;
+    }
+
+    private void move(String accountId, String source, String target) {
+        JdbcTemplate from = jdbc(source);
+        JdbcTemplate to = jdbc(target);
+        Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        for (String table : TABLES) {
+            rows.put(table, from.queryForList("SELECT * FROM " + table + " WHERE account_id = ?", accountId));
+        }
+
+        boolean postgres = isPostgres(shards.get(target));
+        transaction(target).executeWithoutResult(status -> rows.forEach((table, tableRows) -> {
+            Integer present = to.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE account_id = ?",
+                    Integer.class, accountId);
+            if (present != null && present > 0) {
+                return;
+            }
+            for (Map<String, Object> row : tableRows) {
+                insert(to, table, row, postgres);
+            }
+        }));
+        transaction(source).executeWithoutResult(status -> TABLES.forEach(
+                table -> from.update("DELETE FROM " + table + " WHERE account_id = ?", accountId)));
+    }
+
+    private static void insert(JdbcTemplate to, String table, Map<String, Object> row, boolean postgres) {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", row.keySet()) + ") VALUES ("
+                + String.join(", ", row.keySet().stream().map(column -> "?").toList()) + ")";
+        to.update(sql, statement -> {
+            int index = 1;
+            for (Object value : row.values()) {
+                if (postgres && value instanceof String) {
+                    // Untyped, so that PostgreSQL casts it to the column type, including the enum status columns
+                    statement.setObject(index++, value, Types.OTHER);
+                } else {
+                    statement.setObject(index++, value);
+                }
+            }
+        });
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(product);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Cannot determine the database of a shard", e);
+        }
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(shards.get(shard));
+    }
+
+    private TransactionTemplate transaction(String shard) {
+        return new TransactionTemplate(new DataSourceTransactionManager(shards.get(shard)));
+    }
+}
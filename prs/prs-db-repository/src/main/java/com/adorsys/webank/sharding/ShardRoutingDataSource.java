@@ -0,0 +1,54 @@
+package com.adorsys.webank.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections to the shard selected in {@link ShardContext}, or to the first shard when none is.
+ * <p>
+ * Transactions open before the repository call that selects the shard, so this data source must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching the connection to
+ * the first statement. The shard of a connection fetched inside a transaction is recorded with
+ * {@link ShardContext#connected}, so that a later call for another shard fails instead of using this connection.
+ */
+final class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final String homeShard;
+
+    ShardRoutingDataSource(Map<String, DataSource> shards, String homeShard) {
+        this.homeShard = homeShard;
+        setTargetDataSources(new HashMap<>(shards));
+        setDefaultTargetDataSource(shards.get(homeShard));
+        // An unknown shard name is a bug, not a reason to silently write to the first shard
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection connection = super.getConnection();
+        ShardContext.connected(currentShard());
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection connection = super.getConnection(username, password);
+        ShardContext.connected(currentShard());
+        return connection;
+    }
+
+    private String currentShard() {
+        String shard = ShardContext.current();
+        return shard != null ? shard : homeShard;
+    }
+}
@@ -0,0 +1,105 @@
+package com.adorsys.webank.sharding;
+
+import com.adorsys.webank.config.properties.ReplicaDataSourceProperties;
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.adorsys.webank.repository.KycStatusEventRepository;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.repository.UserDocumentsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured data source with one that routes the account-keyed tables to the shards
+ * configured under {@code spring.datasource.sharding}. Flyway migrates every shard; all shards carry the full
+ * schema, but only the first one is used for the tables that are not sharded.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.sharding", name = "enabled", havingValue = "true")
+public class ShardingConfiguration {
+
+    @Bean
+    public ShardDataSources shardDataSources(ShardingProperties properties,
+                                             ReplicaDataSourceProperties replicaProperties,
+                                             MeterRegistry meterRegistry) {
+        if (replicaProperties.isEnabled()) {
+            throw new IllegalStateException("spring.datasource.sharding and spring.datasource.replica cannot be enabled together");
+        }
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("spring.datasource.sharding.shards must list at least one shard");
+        }
+        return new ShardDataSources(properties, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardDataSources shardDataSources) {
+        ShardRoutingDataSource routing = new ShardRoutingDataSource(shardDataSources.asMap(), shardDataSources.homeShard());
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Routes the account-keyed repositories by the account ID of each call.
+     */
+    @Bean
+    public static BeanPostProcessor accountShardRepositoryPostProcessor(ObjectProvider<AccountShards> accountShards) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof PersonalInfoRepository || bean instanceof UserDocumentsRepository
+                        || bean instanceof KycStatusEventRepository)) {
+                    return bean;
+                }
+                ProxyFactory proxyFactory = new ProxyFactory(bean);
+                proxyFactory.addAdvice(new AccountShardInterceptor(accountShards.getObject()));
+                return proxyFactory.getProxy();
+            }
+        };
+    }
+
+    @Bean
+    public FlywayMigrationStrategy shardFlywayMigrationStrategy(ShardDataSources shardDataSources) {
+        return flyway -> shardDataSources.asMap().forEach((name, shard) -> {
+            log.info("Migrating shard {}", name);
+            Flyway.configure()
+                    .configuration(flyway.getConfiguration())
+                    .dataSource(shard)
+                    .load()
+                    .migrate();
+        });
+    }
+
+    /**
+     * Offline rebalancing: moves every account to the shard the current ring assigns it to, then stops the
+     * application. Run it with all other instances stopped after changing the shard list.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.datasource.sharding.rebalance", name = "enabled", havingValue = "true")
+    public ApplicationRunner shardRebalanceRunner(ShardDataSources shardDataSources, AccountShards accountShards,
+                                                  ShardingProperties properties, ApplicationContext context) {
+        return args -> {
+            boolean dryRun = properties.getRebalance().isDryRun();
+            Map<String, Integer> moves = new ShardRebalancer(shardDataSources.asMap(), accountShards.ring()).rebalance(dryRun);
+            log.info("Shard rebalancing {}: {}", dryRun ? "dry run, accounts that would move" : "done, accounts moved",
+                    moves.isEmpty() ? "none" : moves);
+            System.exit(SpringApplication.exit(context, () -> 0));
+        };
+    }
+}
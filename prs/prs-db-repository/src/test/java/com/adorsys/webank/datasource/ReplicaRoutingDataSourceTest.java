@@ -0,0 +1,154 @@
+package com.adorsys.webank.datasource;
+
+import com.adorsys.webank.config.properties.ReplicaDataSourceProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the routing data source against two in-memory H2 databases, each holding a marker row naming itself.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReplicaDataSourceProperties properties;
+    private ReplicaHealthMonitor healthMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ReplicaDataSourceProperties();
+        properties.setMaxLag(Duration.ofSeconds(5));
+        properties.setLagQuery("SELECT 0");
+        healthMonitor = new ReplicaHealthMonitor(replica, properties, meterRegistry);
+
+        DataSource routing = ReadReplicaConfiguration.routingDataSource(primary, replica, healthMonitor, meterRegistry);
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE marker (name VARCHAR(16))");
+        template.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private String databaseUsedBy(TransactionTemplate transaction) {
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void readOnlyTransaction_HealthyReplica_UsesReplica() {
+        // Given
+        healthMonitor.check();
+
+        // When
+        String database = databaseUsedBy(readOnly);
+
+        // Then
+        assertEquals("replica", database);
+        assertEquals(1.0, meterRegistry.get("prs.datasource.read_only_transactions").tag("target", "replica").counter().count());
+    }
+
+    @Test
+    void readWriteTransaction_HealthyReplica_UsesPrimary() {
+        // Given
+        healthMonitor.check();
+
+        // When
+        String database = databaseUsedBy(readWrite);
+
+        // Then
+        assertEquals("primary", database);
+    }
+
+    @Test
+    void noTransaction_UsesPrimary() {
+        // Given
+        healthMonitor.check();
+
+        // When
+        String database = jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+
+        // Then
+        assertEquals("primary", database);
+    }
+
+    @Test
+    void readOnlyTransaction_BeforeFirstCheck_UsesPrimary() {
+        // When
+        String database = databaseUsedBy(readOnly);
+
+        // Then
+        assertFalse(healthMonitor.isHealthy());
+        assertEquals("primary", database);
+    }
+
+    @Test
+    void readOnlyTransaction_LagAboveTolerance_FallsBackToPrimary() {
+        // Given
+        properties.setLagQuery("SELECT 30");
+        healthMonitor.check();
+
+        // When
+        String database = databaseUsedBy(readOnly);
+
+        // Then
+        assertFalse(healthMonitor.isHealthy());
+        assertEquals("primary", database);
+        assertEquals(30.0, meterRegistry.get("prs.datasource.replica.lag").gauge().value());
+        assertEquals(1.0, meterRegistry.get("prs.datasource.read_only_transactions").tag("target", "primary").counter().count());
+    }
+
+    @Test
+    void readOnlyTransaction_LagCheckFails_FallsBackToPrimary() {
+        // Given
+        properties.setLagQuery("SELECT lag FROM missing_table");
+        healthMonitor.check();
+
+        // When
+        String database = databaseUsedBy(readOnly);
+
+        // Then
+        assertFalse(healthMonitor.isHealthy());
+        assertEquals("primary", database);
+        assertTrue(Double.isNaN(meterRegistry.get("prs.datasource.replica.lag").gauge().value()));
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaRecovers_UsesReplicaAgain() {
+        // Given
+        properties.setLagQuery("SELECT 30");
+        healthMonitor.check();
+        properties.setLagQuery("SELECT 1");
+
+        // When
+        healthMonitor.check();
+
+        // Then
+        assertTrue(healthMonitor.isHealthy());
+        assertEquals("replica", databaseUsedBy(readOnly));
+        assertEquals(1.0, meterRegistry.get("prs.datasource.replica.healthy").gauge().value());
+    }
+}
@@ -36,6 +36,7 @@ class EntityConstraintsTest {
         Column publicKeyHashColumn = getField(OtpEntity.class, "publicKeyHash").getAnnotation(Column.class);
         assertFalse(publicKeyHashColumn.nullable(), "publicKeyHash should not be nullable");
         assertTrue(publicKeyHashColumn.unique(), "publicKeyHash should be unique");
+        assertEquals(32, publicKeyHashColumn.length(), "publicKeyHash should hold a 32-byte SHA-256 digest");
         
         Column otpCodeColumn = getField(OtpEntity.class, "otpCode").getAnnotation(Column.class);
         assertFalse(otpCodeColumn.nullable(), "otpCode should not be nullable");
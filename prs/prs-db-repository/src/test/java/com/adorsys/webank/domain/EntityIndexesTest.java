@@ -29,9 +29,10 @@ class EntityIndexesTest {
         assertNotNull(table, "Table annotation should be present");
         
         Index[] indexes = table.indexes();
-        assertEquals(4, indexes.length, "Should have 4 indexes");
+        assertEquals(3, indexes.length, "Should have 3 indexes");
         
-        assertTrue(containsIndex(indexes, "idx_public_key_hash", "publicKeyHash"), "Should have publicKeyHash index");
+        // public_key_hash is indexed by its UNIQUE constraint only
+        assertFalse(containsIndex(indexes, "idx_public_key_hash", "publicKeyHash"), "Should not duplicate the unique index on publicKeyHash");
         assertTrue(containsIndex(indexes, "idx_phone_number", "phone_number"), "Should have phone_number index");
         assertTrue(containsIndex(indexes, "idx_status", "status"), "Should have status index");
         assertTrue(containsIndex(indexes, "idx_created_at", "created_at"), "Should have created_at index");
@@ -49,6 +50,17 @@ class EntityIndexesTest {
         assertTrue(containsIndex(indexes, "idx_status", "status"), "Should have status index");
     }
 
+    @Test
+    void testKycStatusEventEntityIndexes() {
+        Table table = KycStatusEventEntity.class.getAnnotation(Table.class);
+        assertNotNull(table, "Table annotation should be present");
+
+        Index[] indexes = table.indexes();
+        assertEquals(1, indexes.length, "Should have 1 index");
+
+        assertTrue(containsIndex(indexes, "idx_kyc_status_events_created_at", "created_at"), "Should have created_at index");
+    }
+
     private boolean containsIndex(Index[] indexes, String name, String columnList) {
         for (Index index : indexes) {
             if (index.name().equals(name) && index.columnList().equals(columnList)) {
@@ -0,0 +1,97 @@
+package com.adorsys.webank.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Migrates a PostgreSQL container in partitioning mode and checks that the {@code OtpRequestRepository} queries,
+ * bounded by the lookup window, only read the recent daily partitions of {@code otp_requests}.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class OtpPartitionPruningTest {
+
+    private static final String MIGRATIONS = "filesystem:../prs-rest-server/src/main/resources/db/migration";
+    private static final String PARTITIONING = "filesystem:../prs-rest-server/src/main/resources/db/partitioning";
+    private static final LocalDate OLD_DAY = LocalDate.now().minusDays(10);
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @BeforeAll
+    static void migrate() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations(MIGRATIONS, PARTITIONING)
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE " + partition(OLD_DAY) + " PARTITION OF otp_requests "
+                    + "FOR VALUES FROM ('" + OLD_DAY + "') TO ('" + OLD_DAY.plusDays(1) + "')");
+            statement.execute("INSERT INTO otp_requests (id, phone_number, public_key_hash, otp_hash, otp_code, status, created_at, updated_at) "
+                    + "SELECT gen_random_uuid(), '+2376' || lpad(i::text, 8, '0'), sha256(i::text::bytea), 'hash', '12345', "
+                    + "(CASE WHEN i % 50 = 0 THEN 'PENDING' ELSE 'COMPLETE' END)::otp_status, "
+                    + "now() - i * interval '10 seconds', now() - i * interval '10 seconds' "
+                    + "FROM generate_series(1, 20000) AS i");
+            statement.execute("VACUUM ANALYZE otp_requests");
+        }
+    }
+
+    @Test
+    void findEntityByPublicKeyHash_WithinLookupWindow_SkipsOlderPartitions() throws SQLException {
+        String plan = explain("SELECT * FROM otp_requests WHERE public_key_hash = sha256('100'::bytea) "
+                + "AND created_at >= '" + lookupStart() + "'");
+
+        assertTrue(plan.contains(partition(LocalDate.now())), plan);
+        assertFalse(plan.contains(partition(OLD_DAY)), plan);
+    }
+
+    @Test
+    void findPendingByStatus_WithinLookupWindow_SkipsOlderPartitions() throws SQLException {
+        String plan = explain("SELECT phone_number, otp_code, status FROM otp_requests WHERE status = 'PENDING' "
+                + "AND created_at >= '" + lookupStart() + "' ORDER BY created_at");
+
+        assertFalse(plan.contains(partition(OLD_DAY)), plan);
+        assertFalse(plan.contains("Seq Scan on " + partition(LocalDate.now()) + " "), plan);
+    }
+
+    private static String lookupStart() {
+        return LocalDateTime.now().minusDays(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    private static String partition(LocalDate day) {
+        return "otp_requests_p" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("EXPLAIN " + sql)) {
+            while (rows.next()) {
+                plan.append(rows.getString(1)).append('\n');
+            }
+        }
+        return plan.toString();
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+    }
+}
@@ -0,0 +1,266 @@
+package com.adorsys.webank.repository;
+
+import com.adorsys.webank.domain.OtpStatus;
+import com.adorsys.webank.domain.PersonalInfoEntity;
+import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.domain.UserDocumentsStatus;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Calls each repository method against a PostgreSQL database migrated with the application's Flyway scripts and
+ * seeded with a realistic status mix, captures the statements Hibernate sends through a datasource-proxy, and fails
+ * when {@code EXPLAIN} of one of them plans a sequential scan. The captured parameters are bound to the
+ * {@code EXPLAIN} as well: the pending queues rely on partial indexes, which PostgreSQL only matches in the custom
+ * plans it builds for the bound status value.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.datasource.hikari.data-source-properties.stringtype=unspecified"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    private static final String MIGRATIONS = "filesystem:../prs-rest-server/src/main/resources/db/migration";
+    private static final int ROWS = 50_000;
+    private static final LocalDateTime UNBOUNDED = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private PersonalInfoRepository personalInfoRepository;
+
+    @Autowired
+    private UserDocumentsRepository userDocumentsRepository;
+
+    @Autowired
+    private OtpRequestRepository otpRequestRepository;
+
+    @Autowired
+    private KycStatusEventRepository kycStatusEventRepository;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .locations(MIGRATIONS)
+                .load()
+                .migrate();
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // 2% of KYC records and OTPs are pending, the rest are decided or completed
+            statement.execute("INSERT INTO personal_information_table (account_id, document_id, document_expiration_date, status) "
+                    + "SELECT 'account-' || i, 'DOC' || i, '2030-12-31', "
+                    + "(CASE WHEN i % 50 = 0 THEN 'PENDING' ELSE 'APPROVED' END)::personal_info_status "
+                    + "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute("INSERT INTO user_documents (account_id, front_id, back_id, selfie_id, status, upload_id) "
+                    + "SELECT 'account-' || i, 'front', 'back', 'selfie', 'APPROVED'::user_documents_status, "
+                    + "gen_random_uuid()::text "
+                    + "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute("INSERT INTO otp_requests (id, phone_number, public_key_hash, otp_hash, otp_code, status, created_at, updated_at) "
+                    + "SELECT gen_random_uuid(), '+2376' || lpad(i::text, 8, '0'), sha256(i::text::bytea), 'hash', '12345', "
+                    + "(CASE WHEN i % 50 = 0 THEN 'PENDING' ELSE 'COMPLETE' END)::otp_status, "
+                    + "now() - i * interval '1 minute', now() - i * interval '1 minute' "
+                    + "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute("INSERT INTO kyc_status_events (id, account_id, status, created_at) "
+                    + "SELECT i, 'account-' || i, 'APPROVED', now() - i * interval '50 milliseconds' "
+                    + "FROM generate_series(1, " + ROWS + ") AS i");
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    /*
+     * Every repository method with arguments that hit the seeded data, the OTP lookups with an unbounded start and
+     * no partitioning (OtpPartitionPruningTest covers the partitioned table). PersonalInfoRepository#streamAllAccountIds
+     * reads the whole table by design and is not listed.
+     */
+    static Stream<Arguments> repositoryQueries() {
+        return Stream.of(
+                repositoryQuery("PersonalInfoRepository.findByAccountId",
+                        test -> test.personalInfoRepository.findByAccountId("account-100")),
+                repositoryQuery("PersonalInfoRepository.findByStatus(PENDING)",
+                        test -> test.personalInfoRepository.findByStatus(PersonalInfoStatus.PENDING)),
+                repositoryQuery("PersonalInfoRepository.findByDocumentUniqueId",
+                        test -> test.personalInfoRepository.findByDocumentUniqueId("DOC100")),
+                repositoryQuery("PersonalInfoRepository.updateKycInfo",
+                        test -> test.personalInfoRepository.updateKycInfo("account-100", "DOC1", "2031-01-01",
+                                PersonalInfoStatus.PENDING)),
+                repositoryQuery("PersonalInfoRepository.updateKycSubmission",
+                        test -> test.personalInfoRepository.updateKycSubmission("account-100", "DOC1", "2031-01-01",
+                                "Yaounde", "user@example.com", PersonalInfoStatus.PENDING)),
+                repositoryQuery("PersonalInfoRepository.findAllById",
+                        test -> test.personalInfoRepository.findAllById(List.of("account-1", "account-2", "account-3"))),
+                repositoryQuery("UserDocumentsRepository.findByAccountId",
+                        test -> test.userDocumentsRepository.findByAccountId("account-100")),
+                repositoryQuery("UserDocumentsRepository.updateDocuments",
+                        test -> test.userDocumentsRepository.updateDocuments("account-100", "f", "b", "s", null,
+                                UserDocumentsStatus.PENDING, "upload-100")),
+                repositoryQuery("UserDocumentsRepository.updateProcessedDocuments",
+                        test -> test.userDocumentsRepository.updateProcessedDocuments("account-100", "upload-100",
+                                "f", null, null, null, "f-thumb", "b-thumb", "s-thumb", null)),
+                repositoryQuery("OtpRequestRepository.findByPublicKeyHashAndCreatedAtGreaterThanEqual",
+                        test -> test.otpRequestRepository.findByPublicKeyHashAndCreatedAtGreaterThanEqual(
+                                publicKeyHash(100), UNBOUNDED)),
+                repositoryQuery("OtpRequestRepository.findEntityByPublicKeyHashAndCreatedAtGreaterThanEqual",
+                        test -> test.otpRequestRepository.findEntityByPublicKeyHashAndCreatedAtGreaterThanEqual(
+                                publicKeyHash(100), UNBOUNDED)),
+                repositoryQuery("OtpRequestRepository.updateOtpByPublicKeyHash",
+                        test -> test.otpRequestRepository.updateOtpByPublicKeyHash(publicKeyHash(100), UNBOUNDED,
+                                "54321", OtpStatus.PENDING, LocalDateTime.now())),
+                repositoryQuery("OtpRequestRepository.findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(PENDING)",
+                        test -> test.otpRequestRepository.findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(
+                                OtpStatus.PENDING, UNBOUNDED)),
+                repositoryQuery("KycStatusEventRepository.findAfter",
+                        test -> test.kycStatusEventRepository.findAfter(LocalDateTime.now().minusSeconds(5), 1000L,
+                                Limit.of(KycStatusEventRepository.POLL_BATCH_SIZE))),
+                repositoryQuery("KycStatusEventRepository.deleteCreatedBefore",
+                        test -> test.kycStatusEventRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(1)))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryQueries")
+    void repositoryQuery_DoesNotScanWholeTable(String query, Consumer<QueryPlanTest> call) throws Exception {
+        // Given
+        STATEMENTS.clear();
+
+        // When
+        call.accept(this);
+
+        // Then
+        List<CapturedStatement> statements = new ArrayList<>(STATEMENTS);
+        assertFalse(statements.isEmpty(), query + " sent no statement");
+        for (CapturedStatement statement : statements) {
+            String plan = explain(statement);
+            assertFalse(plan.contains("Seq Scan"),
+                    query + " plans a sequential scan for " + statement.sql() + ":\n" + plan);
+        }
+    }
+
+    private static Arguments repositoryQuery(String query, Consumer<QueryPlanTest> call) {
+        return Arguments.of(query, call);
+    }
+
+    private static String explain(CapturedStatement statement) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (Connection connection = connect();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (ParameterSetOperation operation : statement.parameters()) {
+                operation.getMethod().invoke(explain, operation.getArgs());
+            }
+            try (ResultSet rows = explain.executeQuery()) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+
+    private static byte[] publicKeyHash(int seed) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(String.valueOf(seed).getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Connects like the application does, with string parameters sent untyped for the enum columns. */
+    private static Connection connect() throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", POSTGRES.getUsername());
+        properties.setProperty("password", POSTGRES.getPassword());
+        properties.setProperty("stringtype", "unspecified");
+        return DriverManager.getConnection(POSTGRES.getJdbcUrl(), properties);
+    }
+
+    private record CapturedStatement(String sql, List<ParameterSetOperation> parameters) {
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = PersonalInfoEntity.class)
+    @EnableJpaRepositories(basePackageClasses = PersonalInfoRepository.class)
+    static class RepositoryQueries {
+
+        /*
+         * Wraps the test datasource so every statement Hibernate executes is recorded with its first parameter set,
+         * the one the EXPLAIN replays.
+         */
+        @Bean
+        static BeanPostProcessor statementCapture() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .afterQuery((execution, queries) -> queries.stream()
+                                    .filter(query -> isPlannable(query.getQuery()))
+                                    .map(query -> new CapturedStatement(query.getQuery(),
+                                            query.getParametersList().isEmpty()
+                                                    ? List.of()
+                                                    : List.copyOf(query.getParametersList().get(0))))
+                                    .forEach(STATEMENTS::add))
+                            .build();
+                }
+            };
+        }
+
+        private static boolean isPlannable(String sql) {
+            String statement = sql.stripLeading().toLowerCase(Locale.ROOT);
+            return statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete");
+        }
+    }
+}
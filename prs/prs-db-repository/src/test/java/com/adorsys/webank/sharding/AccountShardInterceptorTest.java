@@ -0,0 +1,145 @@
+package com.adorsys.webank.sharding;
+
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.adorsys.webank.domain.PersonalInfoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class AccountShardInterceptorTest {
+
+    /** Stand-in for an account-keyed repository; every method reports the shard it ran on. */
+    interface AccountRepository {
+        String findByAccountId(String accountId);
+
+        String findById(String accountId);
+
+        String findAllById(Iterable<String> accountIds);
+
+        String save(PersonalInfoEntity entity);
+
+        String updateStatus(@Param("accountId") String accountId, @Param("status") String status);
+
+        String findByDocumentUniqueId(String documentUniqueId);
+    }
+
+    private AccountShards accountShards;
+    private AccountRepository repository;
+    private String accountOnA;
+    private String accountOnB;
+
+    @BeforeEach
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setShards(List.of(shard("shard-a"), shard("shard-b")));
+        accountShards = new AccountShards(properties, mock(PlatformTransactionManager.class));
+        accountOnA = accountOn("shard-a");
+        accountOnB = accountOn("shard-b");
+
+        AccountRepository target = new AccountRepository() {
+            public String findByAccountId(String accountId) { return ShardContext.current(); }
+            public String findById(String accountId) { return ShardContext.current(); }
+            public String findAllById(Iterable<String> accountIds) { return ShardContext.current(); }
+            public String save(PersonalInfoEntity entity) { return ShardContext.current(); }
+            public String updateStatus(String accountId, String status) { return ShardContext.current(); }
+            public String findByDocumentUniqueId(String documentUniqueId) { return ShardContext.current(); }
+        };
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.addAdvice(new AccountShardInterceptor(accountShards));
+        repository = (AccountRepository) proxyFactory.getProxy();
+    }
+
+    @Test
+    void accountKeyedCalls_RouteToAccountShard() {
+        assertEquals("shard-a", repository.findByAccountId(accountOnA));
+        assertEquals("shard-b", repository.findById(accountOnB));
+        assertEquals("shard-b", repository.updateStatus(accountOnB, "APPROVED"));
+        assertEquals("shard-a", repository.save(PersonalInfoEntity.builder().accountId(accountOnA).build()));
+        assertEquals("shard-a", repository.findAllById(List.of(accountOnA)));
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    void accountKeyedCall_NonAccountStringArgument_IsNotRouted() {
+        // Given
+        String documentId = accountOnB;
+
+        // When / Then: a document ID is not an account ID, so the call needs an explicit shard
+        assertThrows(IllegalStateException.class, () -> repository.findByDocumentUniqueId(documentId));
+        assertEquals("shard-b", ShardContext.callOn("shard-b", () -> repository.findByDocumentUniqueId(documentId)));
+    }
+
+    @Test
+    void callSpanningShards_Throws() {
+        assertThrows(IllegalStateException.class, () -> repository.findAllById(List.of(accountOnA, accountOnB)));
+    }
+
+    @Test
+    void transaction_PinnedToFirstShard_RejectsOtherShard() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals("shard-a", repository.findByAccountId(accountOnA));
+
+            // When / Then
+            assertEquals("shard-a", repository.findById(accountOnA));
+            assertThrows(IllegalStateException.class, () -> repository.findById(accountOnB));
+            assertEquals("shard-a", ShardContext.current());
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(0));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: completing the transaction releases the shard
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    void transaction_AlreadyConnectedToOtherShard_RejectsAccountCall() {
+        // Given: a transaction that fetched its connection from shard-b before any routed call
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            ShardContext.connected("shard-b");
+
+            // When / Then
+            assertThrows(IllegalStateException.class, () -> repository.findByAccountId(accountOnA));
+            assertNull(ShardContext.current());
+            assertEquals("shard-b", repository.findByAccountId(accountOnB));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(0));
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: completing the transaction releases the connection record
+        assertNull(ShardContext.connectedShard());
+        assertNull(ShardContext.current());
+    }
+
+    private String accountOn(String shard) {
+        for (int i = 0; ; i++) {
+            String candidate = "account-" + i;
+            if (accountShards.shardFor(candidate).equals(shard)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static ShardingProperties.Shard shard(String name) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName(name);
+        return shard;
+    }
+}
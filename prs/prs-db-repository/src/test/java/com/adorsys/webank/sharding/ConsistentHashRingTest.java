@@ -0,0 +1,71 @@
+package com.adorsys.webank.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int ACCOUNTS = 100_000;
+
+    @Test
+    void nodeFor_SpreadsAccountsEvenly() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-a", "shard-b", "shard-c", "shard-d"), 160);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // When
+        for (int i = 0; i < ACCOUNTS; i++) {
+            counts.merge(ring.nodeFor("account-" + i), 1, Integer::sum);
+        }
+
+        // Then
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(Math.abs(count - ACCOUNTS / 4) < ACCOUNTS / 4 * 0.15, "Uneven shard size: " + counts);
+        }
+    }
+
+    @Test
+    void nodeFor_SameNodes_SamePlacement() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("shard-a", "shard-b"), 160);
+        ConsistentHashRing sameRing = new ConsistentHashRing(List.of("shard-a", "shard-b"), 160);
+
+        // Then
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(ring.nodeFor("account-" + i), sameRing.nodeFor("account-" + i));
+        }
+    }
+
+    @Test
+    void nodeFor_NodeAdded_OnlyMovesAccountsToNewNode() {
+        // Given
+        ConsistentHashRing before = new ConsistentHashRing(List.of("shard-a", "shard-b", "shard-c"), 160);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("shard-a", "shard-b", "shard-c", "shard-d"), 160);
+        int moved = 0;
+
+        // When
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String account = "account-" + i;
+            String oldNode = before.nodeFor(account);
+            String newNode = after.nodeFor(account);
+            if (!oldNode.equals(newNode)) {
+                assertEquals("shard-d", newNode);
+                moved++;
+            }
+        }
+
+        // Then: about a quarter of the accounts, instead of three quarters with modulo placement
+        assertTrue(moved > ACCOUNTS * 0.2 && moved < ACCOUNTS * 0.3, "Moved " + moved);
+    }
+
+    @Test
+    void constructor_NoNodes_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), 160));
+    }
+}
@@ -0,0 +1,137 @@
+package com.adorsys.webank.sharding;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rebalances accounts between in-memory H2 databases after a third shard joins two existing ones.
+ */
+class ShardRebalancerTest {
+
+    private static final int ACCOUNTS = 300;
+
+    private final Map<String, DataSource> shards = new LinkedHashMap<>();
+    private ConsistentHashRing ring;
+
+    @BeforeEach
+    void setUp() {
+        ConsistentHashRing previous = new ConsistentHashRing(List.of("shard-a", "shard-b"), 160);
+        ring = new ConsistentHashRing(List.of("shard-a", "shard-b", "shard-c"), 160);
+        for (String name : ring.nodes()) {
+            shards.put(name, database(name));
+        }
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountId = "account-" + i;
+            JdbcTemplate jdbc = jdbc(previous.nodeFor(accountId));
+            jdbc.update("INSERT INTO personal_information_table (account_id, document_id, status) VALUES (?, ?, ?)",
+                    accountId, "doc-" + i, "PENDING");
+            if (i % 2 == 0) {
+                jdbc.update("INSERT INTO user_documents (account_id, front_id, status) VALUES (?, ?, ?)",
+                        accountId, "front-" + i, "PENDING");
+            }
+        }
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE personal_information_table (account_id VARCHAR(255) PRIMARY KEY, "
+                + "document_id VARCHAR(20), status VARCHAR(20))");
+        jdbc.execute("CREATE TABLE user_documents (account_id VARCHAR(255) PRIMARY KEY, "
+                + "front_id TEXT, status VARCHAR(20))");
+        return dataSource;
+    }
+
+    private JdbcTemplate jdbc(String shard) {
+        return new JdbcTemplate(shards.get(shard));
+    }
+
+    private int count(String shard, String table) {
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    void rebalance_DryRun_ReportsMovesWithoutChangingData() {
+        // When
+        Map<String, Integer> moves = new ShardRebalancer(shards, ring).rebalance(true);
+
+        // Then
+        assertTrue(moves.keySet().stream().allMatch(move -> move.endsWith("-> shard-c")), moves.toString());
+        assertTrue(moves.values().stream().mapToInt(Integer::intValue).sum() > 0);
+        assertEquals(0, count("shard-c", "personal_information_table"));
+    }
+
+    @Test
+    void rebalance_MovesEveryAccountWithItsDocumentsToItsShard() {
+        // When
+        Map<String, Integer> moves = new ShardRebalancer(shards, ring).rebalance(false);
+
+        // Then
+        int moved = moves.values().stream().mapToInt(Integer::intValue).sum();
+        assertEquals(moved, count("shard-c", "personal_information_table"));
+        int total = 0;
+        for (String shard : ring.nodes()) {
+            List<String> accountIds = jdbc(shard).queryForList(
+                    "SELECT account_id FROM personal_information_table", String.class);
+            accountIds.forEach(accountId -> assertEquals(shard, ring.nodeFor(accountId)));
+            jdbc(shard).queryForList("SELECT account_id FROM user_documents", String.class)
+                    .forEach(accountId -> assertEquals(shard, ring.nodeFor(accountId)));
+            total += accountIds.size();
+        }
+        assertEquals(ACCOUNTS, total);
+        String movedAccount = jdbc("shard-c").queryForObject(
+                "SELECT account_id FROM personal_information_table ORDER BY account_id LIMIT 1", String.class);
+        assertEquals("doc-" + movedAccount.substring("account-".length()), jdbc("shard-c").queryForObject(
+                "SELECT document_id FROM personal_information_table WHERE account_id = ?", String.class, movedAccount));
+    }
+
+    @Test
+    void rebalance_SecondRun_MovesNothing() {
+        // Given
+        new ShardRebalancer(shards, ring).rebalance(false);
+
+        // When
+        Map<String, Integer> moves = new ShardRebalancer(shards, ring).rebalance(false);
+
+        // Then
+        assertTrue(moves.isEmpty());
+    }
+
+    @Test
+    void rebalance_InterruptedAfterCopy_CompletesWithoutDuplicating() {
+        // Given: an account copied to its new shard but not yet deleted from the old one
+        String accountId = accountMovingTo("shard-c");
+        String source = new ConsistentHashRing(List.of("shard-a", "shard-b"), 160).nodeFor(accountId);
+        jdbc("shard-c").update("INSERT INTO personal_information_table (account_id, document_id, status) "
+                + "SELECT ?, 'copied', 'PENDING'", accountId);
+
+        // When
+        new ShardRebalancer(shards, ring).rebalance(false);
+
+        // Then
+        assertEquals(0, jdbc(source).queryForObject(
+                "SELECT COUNT(*) FROM personal_information_table WHERE account_id = ?", Integer.class, accountId));
+        assertEquals("copied", jdbc("shard-c").queryForObject(
+                "SELECT document_id FROM personal_information_table WHERE account_id = ?", String.class, accountId));
+    }
+
+    private String accountMovingTo(String shard) {
+        for (int i = 0; i < ACCOUNTS; i++) {
+            if (ring.nodeFor("account-" + i).equals(shard)) {
+                return "account-" + i;
+            }
+        }
+        throw new IllegalStateException("No account maps to " + shard);
+    }
+}
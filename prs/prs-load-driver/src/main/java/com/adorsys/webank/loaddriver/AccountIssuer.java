@@ -0,0 +1,51 @@
+package com.adorsys.webank.loaddriver;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Stands in for the account backend, which opens the account of a registered device and issues the
+ * {@code accountJwt} certificate the OTP and KYC endpoints require. The service only checks that the certificate is
+ * signed with its own key, so the driver signs it with {@code SERVER_PRIVATE_KEY_JSON}.
+ */
+final class AccountIssuer {
+
+    private static final Duration VALIDITY = Duration.ofHours(1);
+
+    private final ECKey serverKey;
+    private final ECDSASigner signer;
+
+    AccountIssuer(String serverPrivateKeyJson) throws ParseException, JOSEException {
+        this.serverKey = ECKey.parse(serverPrivateKeyJson);
+        this.signer = new ECDSASigner(serverKey);
+    }
+
+    String accountCertificate(String accountId, ECKey devicePublicKey) throws JOSEException {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .issuer("prs-load-driver")
+                .subject(accountId)
+                .claim("cnf", Map.of("jwk", devicePublicKey.toJSONObject()))
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(VALIDITY)))
+                .build();
+        SignedJWT certificate = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256)
+                .keyID(serverKey.getKeyID())
+                .type(JOSEObjectType.JWT)
+                .build(), claims);
+        certificate.sign(signer);
+        return certificate.serialize();
+    }
+}
@@ -0,0 +1,61 @@
+package com.adorsys.webank.loaddriver;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSObject;
+import com.nimbusds.jose.Payload;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A mobile device: a P-256 key pair that signs every request. The request JWS carries the public key in its
+ * {@code jwk} header, optionally a certificate header, and the SHA-256 of the endpoint's signed parameters,
+ * concatenated in the order the service expects them, as {@code hash} claim.
+ */
+final class Device {
+
+    private final ECKey key;
+    private final ECDSASigner signer;
+
+    Device() throws JOSEException {
+        this.key = new ECKeyGenerator(Curve.P_256).keyID(UUID.randomUUID().toString()).generate();
+        this.signer = new ECDSASigner(key);
+    }
+
+    ECKey publicKey() {
+        return key.toPublicJWK();
+    }
+
+    /**
+     * @param certificateHeader {@code accountJwt} for account-level requests, or {@code null} before registration
+     */
+    String requestToken(String certificateHeader, String certificate, String... params) throws JOSEException {
+        JWSHeader.Builder header = new JWSHeader.Builder(JWSAlgorithm.ES256).jwk(publicKey());
+        if (certificateHeader != null) {
+            header.customParam(certificateHeader, certificate);
+        }
+        JWSObject jws = new JWSObject(header.build(),
+                new Payload(Map.<String, Object>of("hash", sha256Hex(String.join("", params)))));
+        jws.sign(signer);
+        return jws.serialize();
+    }
+
+    static String sha256Hex(String input) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.adorsys.webank.loaddriver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drives complete onboardings against a running service at a fixed arrival rate: new sessions start on schedule
+ * whether or not earlier ones have finished, so a slow service shows as growing latency and dropped sessions rather
+ * than as a lower request rate. Prints the latency percentiles and throughput of every step when done, and writes
+ * them to a JSON file.
+ *
+ * @see LoadOptions for the options
+ */
+@Slf4j
+public final class LoadDriver {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(5);
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options = LoadOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<Step, StepStats> steps = new EnumMap<>(Step.class);
+        for (Step step : Step.values()) {
+            steps.put(step, new StepStats(step.label()));
+        }
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger dropped = new AtomicInteger();
+        OnboardingSession.Context context = new OnboardingSession.Context(options,
+                HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build(), objectMapper,
+                new AccountIssuer(options.serverPrivateKey()), document(options.documentKb() * 1024), steps,
+                new StepStats("onboarding"), completed, failed);
+
+        ThreadPoolExecutor sessions = new ThreadPoolExecutor(options.maxSessions(), options.maxSessions(),
+                0, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        log.info("Starting {} onboardings per second for {} against {}", options.rate(), options.duration(),
+                options.baseUrl());
+
+        long start = System.nanoTime();
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                sessions.execute(new OnboardingSession(context)::execute);
+            } catch (RejectedExecutionException e) {
+                dropped.incrementAndGet();
+            }
+        }, 0, (long) (TimeUnit.SECONDS.toNanos(1) / options.rate()), TimeUnit.NANOSECONDS);
+        scheduler.scheduleAtFixedRate(() -> log.info("{} completed, {} failed, {} dropped, {} running",
+                        completed.get(), failed.get(), dropped.get(), sessions.getActiveCount()),
+                PROGRESS_INTERVAL.toMillis(), PROGRESS_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+
+        Thread.sleep(options.duration().toMillis());
+        scheduler.shutdownNow();
+        sessions.shutdown();
+        if (!sessions.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("Sessions still running after {}, reporting without them", DRAIN_TIMEOUT);
+            sessions.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        List<StepStats.Summary> summaries = new ArrayList<>();
+        steps.values().forEach(stats -> summaries.add(stats.summary(seconds)));
+        StepStats.Summary onboarding = context.onboarding().summary(seconds);
+        print(summaries, onboarding, seconds, dropped.get());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", options.baseUrl().toString());
+        result.put("rate", options.rate());
+        result.put("durationSeconds", seconds);
+        result.put("documentKb", options.documentKb());
+        result.put("completed", completed.get());
+        result.put("failed", failed.get());
+        result.put("dropped", dropped.get());
+        result.put("onboarding", onboarding);
+        result.put("steps", summaries);
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.output().toFile(), result);
+        log.info("Results written to {}", options.output().toAbsolutePath());
+    }
+
+    private static void print(List<StepStats.Summary> steps, StepStats.Summary onboarding, double seconds,
+                              int dropped) {
+        String format = "%-28s %8s %7s %10s %10s %10s %10s %8s%n";
+        StringBuilder table = new StringBuilder(String.format(format,
+                "step", "ok", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms", "req/s"));
+        for (StepStats.Summary step : steps) {
+            table.append(summaryRow(format, step));
+        }
+        table.append(summaryRow(format, onboarding));
+        log.info("Finished after {} s, {} sessions dropped\n{}", String.format("%.1f", seconds), dropped, table);
+    }
+
+    private static String summaryRow(String format, StepStats.Summary summary) {
+        return String.format(format, summary.step(), summary.count(), summary.errors(),
+                String.format("%.1f", summary.p50Ms()), String.format("%.1f", summary.p90Ms()),
+                String.format("%.1f", summary.p99Ms()), String.format("%.1f", summary.maxMs()),
+                String.format("%.2f", summary.perSecond()));
+    }
+
+    /**
+     * @return a base64 string of {@code length} characters, like an encoded ID card photo
+     */
+    private static String document(int length) {
+        byte[] image = new byte[length * 3 / 4];
+        new Random(42).nextBytes(image);
+        return Base64.getEncoder().encodeToString(image);
+    }
+}
@@ -0,0 +1,53 @@
+package com.adorsys.webank.loaddriver;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options of the {@link LoadDriver}, given as {@code --name=value}.
+ *
+ * @param baseUrl          where the service listens
+ * @param rate             onboarding sessions started per second, whether or not earlier ones have finished
+ * @param duration         how long sessions are started for; running sessions are then allowed to finish
+ * @param maxSessions      sessions running at once; arrivals beyond are dropped and counted
+ * @param documentKb       size of each of the four base64 KYC images
+ * @param powDifficulty    leading zero hex digits the proof-of-work hash must have, as the mobile client solves it
+ * @param serverPrivateKey the service's signing key, to issue account certificates as the account backend does
+ * @param output           JSON file the results are written to
+ */
+record LoadOptions(URI baseUrl, double rate, Duration duration, int maxSessions, int documentKb, int powDifficulty,
+                   String serverPrivateKey, Path output) {
+
+    static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        String serverPrivateKey = values.getOrDefault("server-private-key", System.getenv("SERVER_PRIVATE_KEY_JSON"));
+        if (serverPrivateKey == null || serverPrivateKey.isBlank()) {
+            throw new IllegalArgumentException(
+                    "Export SERVER_PRIVATE_KEY_JSON as for the service, or pass --server-private-key");
+        }
+        LoadOptions options = new LoadOptions(
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                Double.parseDouble(values.getOrDefault("rate", "2")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("max-sessions", "64")),
+                Integer.parseInt(values.getOrDefault("document-kb", "256")),
+                Integer.parseInt(values.getOrDefault("pow-difficulty", "2")),
+                serverPrivateKey,
+                Path.of(values.getOrDefault("output", "target/load-result.json")));
+        if (options.rate <= 0 || options.maxSessions <= 0 || options.documentKb <= 0 || options.powDifficulty < 0) {
+            throw new IllegalArgumentException("rate, max-sessions and document-kb must be positive, pow-difficulty not negative");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,222 @@
+package com.adorsys.webank.loaddriver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * One onboarding, from a fresh device to its KYC certificate. Every request is timed in the {@link StepStats} of its
+ * {@link Step}; the first failing request ends the session and counts as an error of its step.
+ */
+@Slf4j
+final class OnboardingSession {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int LOGGED_FAILURES = 20;
+    private static final AtomicInteger FAILURES = new AtomicInteger();
+
+    private final Context context;
+    private final String sessionId = UUID.randomUUID().toString();
+
+    /**
+     * What all sessions share.
+     */
+    record Context(LoadOptions options, HttpClient httpClient, ObjectMapper objectMapper, AccountIssuer accountIssuer,
+                   String document, Map<Step, StepStats> steps, StepStats onboarding, AtomicInteger completed,
+                   AtomicInteger failed) {
+    }
+
+    OnboardingSession(Context context) {
+        this.context = context;
+    }
+
+    /**
+     * Runs the session to its end, recording its outcome in the shared {@link Context}.
+     */
+    void execute() {
+        long start = System.nanoTime();
+        try {
+            onboard();
+            context.onboarding().record(System.nanoTime() - start);
+            context.completed().incrementAndGet();
+        } catch (StepFailedException e) {
+            context.steps().get(e.step).fail();
+            context.onboarding().fail();
+            context.failed().incrementAndGet();
+            if (FAILURES.incrementAndGet() <= LOGGED_FAILURES) {
+                log.warn("{} failed [correlationId={}-{}]: {}", e.step.label(), sessionId, e.step.ordinal(),
+                        e.getMessage());
+            }
+        } catch (Exception e) {
+            context.onboarding().fail();
+            context.failed().incrementAndGet();
+            log.error("Session failed on the client side [correlationId={}]", sessionId, e);
+        }
+    }
+
+    private void onboard() throws Exception {
+        Device device = new Device();
+
+        String timeStamp = Instant.now().toString();
+        JsonNode init = json(send(Step.DEVICE_INIT, "/api/prs/dev/init", device.requestToken(null, null, timeStamp),
+                body("timeStamp", timeStamp)));
+        String initiationNonce = require(Step.DEVICE_INIT, init.path("nonce").asText(null), init);
+
+        ProofOfWork pow = ProofOfWork.solve(context.objectMapper(), initiationNonce, device.publicKey(),
+                context.options().powDifficulty());
+        JsonNode validation = json(send(Step.DEVICE_VALIDATE, "/api/prs/dev/validate",
+                device.requestToken(null, null, initiationNonce, pow.powHash(), pow.powNonce()),
+                body("initiationNonce", initiationNonce, "powHash", pow.powHash(), "powNonce", pow.powNonce())));
+        require(Step.DEVICE_VALIDATE, validation.path("certificate").asText(null), validation);
+
+        // The account backend opens the account for the registered device
+        String accountId = "ACC" + digits(10);
+        String accountJwt = context.accountIssuer().accountCertificate(accountId, device.publicKey());
+
+        String phoneNumber = "+2376" + digits(8);
+        send(Step.OTP_SEND, "/api/prs/otp/send", device.requestToken("accountJwt", accountJwt, phoneNumber),
+                body("phoneNumber", phoneNumber));
+        String otp = pendingOtp(device, accountJwt, phoneNumber);
+        JsonNode otpValidation = json(send(Step.OTP_VALIDATE, "/api/prs/otp/validate",
+                device.requestToken("accountJwt", accountJwt, phoneNumber, otp),
+                body("phoneNumber", phoneNumber, "otpInput", otp)));
+        if (!otpValidation.path("valid").asBoolean()) {
+            throw new StepFailedException(Step.OTP_VALIDATE, otpValidation.toString());
+        }
+
+        String idNumber = "ID" + digits(9);
+        String expiryDate = LocalDate.now().plusYears(5).toString();
+        String location = "Yaounde, Cameroon";
+        // personal_info.email holds 30 characters
+        String email = "load" + digits(10) + "@example.com";
+        send(Step.KYC_INFO, "/api/prs/kyc/info",
+                device.requestToken("accountJwt", accountJwt, idNumber, expiryDate, accountId),
+                body("idNumber", idNumber, "expiryDate", expiryDate, "accountId", accountId));
+        send(Step.KYC_LOCATION, "/api/prs/kyc/location",
+                device.requestToken("accountJwt", accountJwt, location, accountId),
+                body("location", location, "accountId", accountId));
+        // EndpointConfig lists no parameters for /kyc/email, so its token hashes none
+        send(Step.KYC_EMAIL, "/api/prs/kyc/email",
+                device.requestToken("accountJwt", accountJwt),
+                body("email", email, "accountId", accountId));
+        String document = context.document();
+        send(Step.KYC_DOCUMENTS, "/api/prs/kyc/documents",
+                device.requestToken("accountJwt", accountJwt, document, document, document, document, accountId),
+                body("frontId", document, "backId", document, "selfieId", document, "taxId", document,
+                        "accountId", accountId));
+
+        // The back office approves the KYC
+        String update = send(Step.KYC_STATUS_UPDATE, "/api/prs/kyc/status/update",
+                device.requestToken("accountJwt", accountJwt, idNumber, expiryDate, accountId, "APPROVED"),
+                body("idNumber", idNumber, "expiryDate", expiryDate, "accountId", accountId, "status", "APPROVED"));
+        if (!update.startsWith("KYC status updated successfully")) {
+            throw new StepFailedException(Step.KYC_STATUS_UPDATE, update);
+        }
+
+        String certificate = send(Step.KYC_CERT, "/api/prs/kyc/cert/" + accountId,
+                device.requestToken("accountJwt", accountJwt), null);
+        if (!certificate.startsWith("Your certificate is")) {
+            throw new StepFailedException(Step.KYC_CERT, certificate);
+        }
+    }
+
+    /**
+     * Reads the OTP the service generated from the back office list, since the {@code h2} profile sends no SMS.
+     */
+    private String pendingOtp(Device device, String accountJwt, String phoneNumber) throws Exception {
+        JsonNode pending = json(send(Step.OTP_PENDING, "/api/prs/otp/pending",
+                device.requestToken("accountJwt", accountJwt), null));
+        for (JsonNode entry : pending) {
+            if (phoneNumber.equals(entry.path("phoneNumber").asText())) {
+                return entry.path("otpCode").asText();
+            }
+        }
+        throw new StepFailedException(Step.OTP_PENDING, "No pending OTP for the session's phone number");
+    }
+
+    /**
+     * Sends a {@code POST} with {@code body}, or a {@code GET} without, and times it under {@code step}.
+     *
+     * @return the response body
+     */
+    private String send(Step step, String path, String token, Map<String, String> body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(context.options().baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("X-Correlation-ID", sessionId + "-" + step.ordinal());
+        if (body != null) {
+            request.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(context.objectMapper().writeValueAsString(body)));
+        } else {
+            request.GET();
+        }
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = context.httpClient().send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new StepFailedException(step, e.toString());
+        }
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() / 100 != 2) {
+            throw new StepFailedException(step, "HTTP " + response.statusCode() + " " + abbreviate(response.body()));
+        }
+        context.steps().get(step).record(elapsed);
+        return response.body();
+    }
+
+    private JsonNode json(String body) throws IOException {
+        return context.objectMapper().readTree(body);
+    }
+
+    private static String require(Step step, String value, JsonNode response) {
+        if (value == null || value.isEmpty()) {
+            throw new StepFailedException(step, abbreviate(response.toString()));
+        }
+        return value;
+    }
+
+    private static Map<String, String> body(String... namesAndValues) {
+        Map<String, String> body = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            body.put(namesAndValues[i], namesAndValues[i + 1]);
+        }
+        return body;
+    }
+
+    private static String digits(int count) {
+        StringBuilder digits = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            digits.append(ThreadLocalRandom.current().nextInt(10));
+        }
+        return digits.toString();
+    }
+
+    private static String abbreviate(String text) {
+        return text == null || text.length() <= 200 ? text : text.substring(0, 200) + "...";
+    }
+
+    private static final class StepFailedException extends RuntimeException {
+
+        private final Step step;
+
+        StepFailedException(Step step, String message) {
+            super(message);
+            this.step = step;
+        }
+    }
+}
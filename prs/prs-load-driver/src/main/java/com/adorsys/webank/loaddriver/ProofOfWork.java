@@ -0,0 +1,33 @@
+package com.adorsys.webank.loaddriver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nimbusds.jose.jwk.ECKey;
+import org.erdtman.jcs.JsonCanonicalizer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The device-registration proof of work: a {@code powNonce} such that the SHA-256 of the canonical JSON of the
+ * initiation nonce, device key and {@code powNonce} starts with {@code difficulty} zero hex digits. The service
+ * recomputes the hash the same way, with RFC 8785 canonicalisation.
+ */
+record ProofOfWork(String powNonce, String powHash) {
+
+    static ProofOfWork solve(ObjectMapper objectMapper, String initiationNonce, ECKey devicePublicKey, int difficulty)
+            throws IOException {
+        String prefix = "0".repeat(difficulty);
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("initiationNonce", initiationNonce);
+        data.put("devicePub", devicePublicKey.toJSONObject());
+        for (long nonce = 0; ; nonce++) {
+            data.put("powNonce", Long.toString(nonce));
+            String canonical = new JsonCanonicalizer(objectMapper.writeValueAsString(data)).getEncodedString();
+            String hash = Device.sha256Hex(canonical);
+            if (hash.startsWith(prefix)) {
+                return new ProofOfWork(Long.toString(nonce), hash);
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.adorsys.webank.loaddriver;
+
+/**
+ * The requests of one onboarding, in the order a mobile client sends them, plus the back office reading the OTP
+ * (there is no SMS gateway in the {@code h2} profile) and approving the KYC.
+ */
+enum Step {
+
+    DEVICE_INIT("POST /dev/init"),
+    DEVICE_VALIDATE("POST /dev/validate"),
+    OTP_SEND("POST /otp/send"),
+    OTP_PENDING("GET /otp/pending"),
+    OTP_VALIDATE("POST /otp/validate"),
+    KYC_INFO("POST /kyc/info"),
+    KYC_LOCATION("POST /kyc/location"),
+    KYC_EMAIL("POST /kyc/email"),
+    KYC_DOCUMENTS("POST /kyc/documents"),
+    KYC_STATUS_UPDATE("POST /kyc/status/update"),
+    KYC_CERT("GET /kyc/cert/{accountId}");
+
+    private final String label;
+
+    Step(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,51 @@
+package com.adorsys.webank.loaddriver;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of one {@link Step}, all kept so that the percentiles are exact.
+ */
+final class StepStats {
+
+    private final String name;
+    private long[] nanos = new long[1024];
+    private int count;
+    private int errors;
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    record Summary(String step, int count, int errors, double p50Ms, double p90Ms, double p99Ms, double maxMs,
+                   double perSecond) {
+    }
+
+    synchronized void record(long elapsedNanos) {
+        if (count == nanos.length) {
+            nanos = Arrays.copyOf(nanos, count * 2);
+        }
+        nanos[count++] = elapsedNanos;
+    }
+
+    synchronized void fail() {
+        errors++;
+    }
+
+    /**
+     * @param seconds length of the run, for the throughput of successful requests
+     */
+    synchronized Summary summary(double seconds) {
+        long[] sorted = Arrays.copyOf(nanos, count);
+        Arrays.sort(sorted);
+        return new Summary(name, count, errors, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                percentile(sorted, 0.99), count == 0 ? 0 : sorted[count - 1] / 1e6, count / seconds);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(rank, 1) - 1] / 1e6;
+    }
+}
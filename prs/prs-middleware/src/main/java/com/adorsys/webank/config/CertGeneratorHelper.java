@@ -1,5 +1,7 @@
 package com.adorsys.webank.config;
 
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.adorsys.webank.properties.JwtProperties;
 import com.nimbusds.jose.*;
 import com.nimbusds.jose.crypto.ECDSASigner;
@@ -56,9 +58,10 @@ public class CertGeneratorHelper {
                     .build();
 
             SignedJWT signedJWT = new SignedJWT(header, claimsSet);
-            signedJWT.sign(signer);
-
-            return signedJWT.serialize();
+            return StageTimer.record(Stage.CERTIFICATE_SIGNING, () -> {
+                signedJWT.sign(signer);
+                return signedJWT.serialize();
+            });
 
         } catch (IllegalStateException | JOSEException | ParseException | NoSuchAlgorithmException e) {
             log.error("Error generating certificate", e);
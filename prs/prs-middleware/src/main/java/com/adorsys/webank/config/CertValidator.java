@@ -10,6 +10,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import com.adorsys.webank.exceptions.SecurityConfigurationException;
 import com.adorsys.webank.exceptions.JwtPayloadParseException;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 
 import java.text.ParseException;
 
@@ -45,7 +47,7 @@ public class CertValidator {
     }
 
     private SignedJWT parseJWT(String token) throws ParseException {
-        return SignedJWT.parse(token);
+        return StageTimer.record(Stage.JOSE_PARSE, () -> SignedJWT.parse(token));
     }
 
     private String extractCertificate(SignedJWT signedJWT) {
@@ -85,7 +87,7 @@ public class CertValidator {
         }
 
         JWSVerifier certVerifier = new ECDSAVerifier(publicKey);
-        boolean isValid = certJwt.verify(certVerifier);
+        boolean isValid = StageTimer.record(Stage.SIGNATURE_VERIFICATION, () -> certJwt.verify(certVerifier));
 
         if (!isValid) {
             log.error("Extracted JWT (devJwt/accountJwt) signature validation failed.");
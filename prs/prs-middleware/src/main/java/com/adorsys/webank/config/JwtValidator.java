@@ -15,6 +15,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import com.adorsys.webank.exceptions.SecurityConfigurationException;
 import com.adorsys.webank.exceptions.JwtPayloadParseException;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
@@ -35,7 +37,7 @@ public class JwtValidator {
         String concatenatedPayload = concatenatePayloads(params);
         logger.debug("Concatenated payload: {}", concatenatedPayload);
 
-        JWSObject jwsObject = JWSObject.parse(jwtToken);
+        JWSObject jwsObject = StageTimer.record(Stage.JOSE_PARSE, () -> JWSObject.parse(jwtToken));
         logger.info("Parsed JWSObject successfully");
 
         JWK jwk = extractAndValidateJWK(jwsObject);
@@ -73,7 +75,7 @@ public class JwtValidator {
         String jwkString = new ObjectMapper().writeValueAsString(jwkObject);
         logger.debug("Parsed JWK string: {}", jwkString);
 
-        JWK jwk = JWK.parse(jwkString);
+        JWK jwk = StageTimer.record(Stage.JOSE_PARSE, () -> JWK.parse(jwkString));
         if (!(jwk instanceof ECKey)) {
             logger.error("Invalid key type, expected ECKey but found {}", jwk.getKeyType());
             throw new SecurityConfigurationException("Invalid key type, expected ECKey", null);
@@ -86,8 +88,9 @@ public class JwtValidator {
     private static void verifySignature(JWSObject jwsObject, ECKey ecKey)
             throws JOSEException, BadJWTException {
         logger.info("Verifying JWT signature");
-        var verifier = ecKey.toECPublicKey();
-        if (!jwsObject.verify(new ECDSAVerifier(verifier))) {
+        boolean valid = StageTimer.record(Stage.SIGNATURE_VERIFICATION,
+                () -> jwsObject.verify(new ECDSAVerifier(ecKey.toECPublicKey())));
+        if (!valid) {
             logger.error("Invalid signature detected");
             throw new SecurityConfigurationException("Invalid signature", null);
         }
@@ -126,7 +129,7 @@ public class JwtValidator {
 
     public static String extractClaim(String jwtToken, String claimKey) {
         try {
-            SignedJWT signedJWT = SignedJWT.parse(jwtToken);
+            SignedJWT signedJWT = StageTimer.record(Stage.JOSE_PARSE, () -> SignedJWT.parse(jwtToken));
             logger.info("Successfully parsed JWT token:{}", signedJWT);
             return signedJWT.getHeader().toJSONObject().get(claimKey).toString();
         } catch (ParseException e) {
@@ -144,7 +147,7 @@ public class JwtValidator {
      */
     public static ECKey extractDeviceJwk(String jwtToken) {
         try {
-            SignedJWT signedJWT = SignedJWT.parse(jwtToken);
+            SignedJWT signedJWT = StageTimer.record(Stage.JOSE_PARSE, () -> SignedJWT.parse(jwtToken));
             Object jwkObject = signedJWT.getHeader().toJSONObject().get("jwk");
             if (jwkObject == null) {
                 throw new SecurityConfigurationException("Missing 'jwk' in JWT header", null);
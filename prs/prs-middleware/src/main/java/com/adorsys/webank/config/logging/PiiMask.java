@@ -0,0 +1,93 @@
+package com.adorsys.webank.config.logging;
+
+/**
+ * Log argument that masks personal data when the message is rendered. Nothing is computed when the statement's level
+ * is disabled, and when it is enabled the masked value is built in a single buffer of the exact size, without
+ * substrings or regular expressions.
+ *
+ * <pre>{@code
+ * log.info("KYC info submitted for account: {} [correlationId={}]", PiiMask.accountId(accountId), correlationId);
+ * }</pre>
+ *
+ * Values that have to be a {@link String}, such as MDC entries, use {@code PiiMask.accountId(accountId).toString()}.
+ */
+public final class PiiMask {
+
+    private static final String HIDDEN = "********";
+    private static final String STARS = "****";
+    private static final String PHONE_STARS = "******";
+
+    private enum Kind { IDENTIFIER, PHONE_NUMBER, EMAIL, HIDDEN }
+
+    private final Kind kind;
+    private final String value;
+
+    private PiiMask(Kind kind, String value) {
+        this.kind = kind;
+        this.value = value;
+    }
+
+    /**
+     * Shows the first 2 and last 2 characters of an account ID, e.g. {@code AC****89}.
+     */
+    public static PiiMask accountId(String accountId) {
+        return new PiiMask(Kind.IDENTIFIER, accountId);
+    }
+
+    /**
+     * Shows the first 2 and last 2 characters of an ID card, document or key identifier.
+     */
+    public static PiiMask identifier(String identifier) {
+        return new PiiMask(Kind.IDENTIFIER, identifier);
+    }
+
+    /**
+     * Shows the last 4 digits of a phone number, e.g. {@code ******4567}.
+     */
+    public static PiiMask phoneNumber(String phoneNumber) {
+        return new PiiMask(Kind.PHONE_NUMBER, phoneNumber);
+    }
+
+    /**
+     * Shows the first character and the domain of an email address, e.g. {@code j****@example.com}.
+     */
+    public static PiiMask email(String email) {
+        return new PiiMask(Kind.EMAIL, email);
+    }
+
+    /**
+     * Shows nothing of the value, for secrets such as passwords and OTPs.
+     */
+    public static PiiMask hidden(String value) {
+        return new PiiMask(Kind.HIDDEN, value);
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case IDENTIFIER -> value == null || value.length() < 5 ? HIDDEN : keep(2, STARS, 2);
+            case PHONE_NUMBER -> value == null || value.length() < 4 ? HIDDEN : keep(0, PHONE_STARS, 4);
+            case EMAIL -> email();
+            case HIDDEN -> HIDDEN;
+        };
+    }
+
+    private String email() {
+        int at = value == null ? -1 : value.indexOf('@');
+        if (at < 0) {
+            return HIDDEN;
+        }
+        return keep(Math.min(at, 1), STARS, value.length() - at);
+    }
+
+    /**
+     * @return the first {@code head} and last {@code tail} characters of the value, with {@code stars} in between
+     */
+    private String keep(int head, String stars, int tail) {
+        char[] masked = new char[head + stars.length() + tail];
+        value.getChars(0, head, masked, 0);
+        stars.getChars(0, stars.length(), masked, head);
+        value.getChars(value.length() - tail, value.length(), masked, head + stars.length());
+        return new String(masked);
+    }
+}
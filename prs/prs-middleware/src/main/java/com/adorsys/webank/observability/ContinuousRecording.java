@@ -0,0 +1,140 @@
+package com.adorsys.webank.observability;
+
+import com.adorsys.webank.properties.FlightRecorderProperties;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * JDK Flight Recorder recording that runs from startup and keeps the last {@code flight-recorder.max-age} on disk, so
+ * that a CPU spike or GC pressure can be profiled after the fact by dumping the minutes around it, without
+ * restarting the pod. Besides the JDK's own events the recording holds the {@link StageEvent}s and
+ * {@link RepositoryCallEvent}s of the service. Dumps are meant to be downloaded and deleted right away; of those
+ * left behind, only the most recent few are kept.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "flight-recorder", name = "enabled", havingValue = "true")
+public class ContinuousRecording {
+
+    static final String RECORDING_NAME = "prs-continuous";
+
+    /** Dump files left in the dump directory, for example by an interrupted download. */
+    static final int RETAINED_DUMPS = 3;
+
+    private static final String DUMP_PREFIX = "prs-";
+    private static final String DUMP_SUFFIX = ".jfr";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+
+    private final Recording recording;
+    private final Duration maxAge;
+    private final Path dumpDirectory;
+    private final byte[] dumpToken;
+
+    public ContinuousRecording(FlightRecorderProperties properties) throws IOException, ParseException {
+        this.maxAge = properties.getMaxAge();
+        this.dumpDirectory = Path.of(properties.getDumpDirectory()).toAbsolutePath();
+        this.dumpToken = properties.getDumpToken().getBytes(StandardCharsets.UTF_8);
+        this.recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(properties.getMaxSize().toBytes());
+        recording.start();
+        log.info("Started JFR recording {} with {} settings, keeping the last {}", RECORDING_NAME,
+                properties.getSettings(), maxAge);
+    }
+
+    public Duration maxAge() {
+        return maxAge;
+    }
+
+    public long size() {
+        return recording.getSize();
+    }
+
+    /**
+     * @return whether {@code token} is the configured dump token, compared in constant time; never with no token set
+     */
+    public boolean authorizes(String token) {
+        return dumpToken.length > 0 && token != null
+                && MessageDigest.isEqual(dumpToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes the last {@code period} of the recording, at most {@link #maxAge()}, to a new file in the dump directory
+     * and deletes all but the {@value #RETAINED_DUMPS} most recent dumps there. JFR stores data in chunks, so the file
+     * may start somewhat earlier than requested.
+     *
+     * @return the file written
+     */
+    public synchronized Path dump(Duration period) throws IOException {
+        Duration dumped = period.compareTo(maxAge) > 0 ? maxAge : period;
+        Files.createDirectories(dumpDirectory);
+        Path file = dumpDirectory.resolve(DUMP_PREFIX + LocalDateTime.now().format(FILE_TIMESTAMP) + "-"
+                + dumped.toMinutes() + "m" + DUMP_SUFFIX);
+        // Recording.dump always writes everything, the JFR.dump diagnostic command can limit the age
+        String[] arguments = {
+                "name=" + RECORDING_NAME,
+                "filename=" + file,
+                "maxage=" + Math.max(dumped.toSeconds(), 1) + "s"
+        };
+        try {
+            Object result = ManagementFactory.getPlatformMBeanServer().invoke(
+                    new ObjectName("com.sun.management:type=DiagnosticCommand"), "jfrDump",
+                    new Object[]{arguments}, new String[]{String[].class.getName()});
+            log.debug("JFR.dump: {}", result);
+        } catch (JMException e) {
+            throw new IOException("Failed to dump JFR recording " + RECORDING_NAME, e);
+        }
+        if (!Files.exists(file)) {
+            throw new IOException("JFR recording " + RECORDING_NAME + " holds no data for the last " + dumped);
+        }
+        log.info("Dumped the last {} of JFR recording {} to {}", dumped, RECORDING_NAME, file);
+        pruneDumps();
+        return file;
+    }
+
+    private void pruneDumps() throws IOException {
+        List<Path> dumps;
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            // Timestamped names sort chronologically
+            dumps = files.filter(ContinuousRecording::isDump)
+                    .sorted(Comparator.comparing(Path::getFileName).reversed())
+                    .toList();
+        }
+        for (Path old : dumps.subList(Math.min(RETAINED_DUMPS, dumps.size()), dumps.size())) {
+            Files.deleteIfExists(old);
+            log.debug("Deleted old JFR dump {}", old);
+        }
+    }
+
+    private static boolean isDump(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(DUMP_PREFIX) && name.endsWith(DUMP_SUFFIX);
+    }
+
+    @PreDestroy
+    public void close() {
+        recording.close();
+    }
+}
@@ -0,0 +1,154 @@
+package com.adorsys.webank.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Logback turbo filter that lets through at most {@code maxPerSecond} events per second for each log statement of the
+ * configured loggers, and drops the rest before any message is formatted. A log statement is identified by its logger
+ * and its message template, so the repeated "JWT signature verification passed" of every request is sampled without
+ * hiding a rarer message from the same class. Warnings and errors are never dropped.
+ *
+ * <pre>{@code
+ * <turboFilter class="com.adorsys.webank.observability.LogSamplingFilter">
+ *     <logger>com.adorsys.webank.security</logger>
+ *     <maxPerSecond>10</maxPerSecond>
+ * </turboFilter>
+ * }</pre>
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    /**
+     * Above this many distinct log statements, new ones are no longer tracked and always let through. Templates
+     * built by string concatenation would otherwise grow the map without bound.
+     */
+    static final int MAX_TRACKED_STATEMENTS = 1024;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final List<String> loggers = new ArrayList<>();
+    private final Map<Logger, Map<String, AtomicLong>> windows = new ConcurrentHashMap<>();
+    private final AtomicInteger tracked = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+    private int maxPerSecond = 10;
+
+    public LogSamplingFilter() {
+        this(System::nanoTime);
+    }
+
+    LogSamplingFilter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+    }
+
+    /**
+     * Adds a logger name; its descendants are sampled too.
+     */
+    public void addLogger(String logger) {
+        loggers.add(logger);
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    /**
+     * @return the number of events dropped since the filter started
+     */
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+
+    @Override
+    public void start() {
+        if (loggers.isEmpty()) {
+            addError("No logger configured for " + getName());
+            return;
+        }
+        if (maxPerSecond < 0 || maxPerSecond > COUNT_MASK) {
+            addError("maxPerSecond must be between 0 and " + COUNT_MASK);
+            return;
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() calls come without a format; only real log statements are counted.
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)
+                || !level.isGreaterOrEqual(logger.getEffectiveLevel()) || !sampled(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        AtomicLong window = window(logger, format);
+        if (window == null || tryAcquire(window, (nanoClock.getAsLong() - origin) / 1_000_000_000L)) {
+            return FilterReply.NEUTRAL;
+        }
+        suppressed.increment();
+        return FilterReply.DENY;
+    }
+
+    private boolean sampled(String name) {
+        for (String prefix : loggers) {
+            if (name.startsWith(prefix)
+                    && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.')) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AtomicLong window(Logger logger, String format) {
+        Map<String, AtomicLong> statements = windows.computeIfAbsent(logger, l -> new ConcurrentHashMap<>());
+        AtomicLong window = statements.get(format);
+        if (window != null) {
+            return window;
+        }
+        if (tracked.get() >= MAX_TRACKED_STATEMENTS) {
+            return null;
+        }
+        return statements.computeIfAbsent(format, f -> {
+            tracked.incrementAndGet();
+            return new AtomicLong();
+        });
+    }
+
+    /**
+     * The window packs the second since the filter was created in its upper bits and the number of events let
+     * through in that second in its lower {@value #COUNT_BITS} bits, so that both are updated by a single
+     * compare-and-set.
+     */
+    private boolean tryAcquire(AtomicLong window, long second) {
+        if (maxPerSecond == 0) {
+            return false;
+        }
+        while (true) {
+            long state = window.get();
+            long next;
+            if (state >>> COUNT_BITS != second) {
+                next = second << COUNT_BITS;
+            } else if ((state & COUNT_MASK) < maxPerSecond) {
+                next = state;
+            } else {
+                return false;
+            }
+            if (window.compareAndSet(state, next + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.adorsys.webank.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.slf4j.MDC;
+
+/**
+ * JDK Flight Recorder event for a repository call, begun before the call and recorded after it, also when it throws.
+ */
+@Name("com.adorsys.webank.RepositoryCall")
+@Label("PRS Repository Call")
+@Description("A call to a Spring Data repository, including the time to get a connection")
+@Category("WeBank PRS")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Correlation ID")
+    String correlationId;
+
+    public void record(String repository, String method) {
+        end();
+        if (shouldCommit()) {
+            this.repository = repository;
+            this.method = method;
+            this.correlationId = MDC.get("correlationId");
+            commit();
+        }
+    }
+}
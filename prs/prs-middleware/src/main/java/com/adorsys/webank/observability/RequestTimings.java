@@ -0,0 +1,129 @@
+package com.adorsys.webank.observability;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Per-request accumulator of stage durations, SQL statement count, allocated bytes and CPU time, rendered as a W3C
+ * {@code Server-Timing} header value or kept by the slow request recorder.
+ * <p>
+ * An accumulator only exists for requests that are being timed; it is bound to the request thread by
+ * {@link #start()}. For every other request {@link #record} finds none and returns, so the cost is one thread-local
+ * lookup. Work handed to other threads (scatter queries over shards, async responses) is not included.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = ThreadResources.allocatedBytes();
+    private final long startCpuNanos = ThreadResources.cpuNanos();
+    private final Map<String, long[]> stages = new LinkedHashMap<>();
+    private int statements;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Binds a new accumulator to the current thread; {@link #clear()} must follow when the request is done.
+     */
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Adds {@code nanos} to the named stage of the current request, if it is being timed.
+     *
+     * @param name a Server-Timing metric name: a token without spaces, commas or semicolons
+     */
+    public static void record(String name, long nanos) {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.addStage(name, nanos);
+        }
+    }
+
+    /**
+     * Counts one SQL statement sent by the current request, if it is being timed.
+     */
+    public static void countStatement() {
+        RequestTimings timings = CURRENT.get();
+        if (timings != null) {
+            timings.addStatement();
+        }
+    }
+
+    synchronized void addStage(String name, long nanos) {
+        long[] totals = stages.computeIfAbsent(name, key -> new long[2]);
+        totals[0] += nanos;
+        totals[1]++;
+    }
+
+    private synchronized void addStatement() {
+        statements++;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * @return summed duration in milliseconds per stage, in the order the stages first ran
+     */
+    public synchronized Map<String, Double> stageMillis() {
+        Map<String, Double> millis = new LinkedHashMap<>();
+        stages.forEach((name, totals) -> millis.put(name, totals[0] / 1_000_000.0));
+        return millis;
+    }
+
+    public synchronized int statementCount() {
+        return statements;
+    }
+
+    /**
+     * Bytes allocated on the heap by the thread that started the request since then; only meaningful on that
+     * thread. {@code -1} if the JVM does not measure thread allocation.
+     */
+    public long allocatedBytes() {
+        return ThreadResources.since(startAllocatedBytes, ThreadResources.allocatedBytes());
+    }
+
+    /**
+     * CPU time used by the thread that started the request since then; only meaningful on that thread.
+     * {@code -1} if the JVM does not measure thread CPU time.
+     */
+    public long cpuNanos() {
+        return ThreadResources.since(startCpuNanos, ThreadResources.cpuNanos());
+    }
+
+    /**
+     * Renders the stages in the order they first ran, each with its summed duration and, if it ran more than once,
+     * its count, followed by the time since {@link #start()} as {@code total}.
+     */
+    public synchronized String toHeaderValue() {
+        StringBuilder header = new StringBuilder();
+        stages.forEach((name, totals) -> {
+            header.append(name).append(";dur=").append(millis(totals[0]));
+            if (totals[1] > 1) {
+                header.append(";desc=\"").append(totals[1]).append(" calls\"");
+            }
+            header.append(", ");
+        });
+        return header.append("total;dur=").append(millis(elapsedNanos())).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
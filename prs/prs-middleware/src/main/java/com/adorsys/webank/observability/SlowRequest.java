@@ -0,0 +1,29 @@
+package com.adorsys.webank.observability;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A request that exceeded a threshold of the slow request recorder, as kept by {@link SlowRequestRecorder}.
+ *
+ * @param endpoint       the matched route pattern, so that account IDs and other path values are not kept
+ * @param stages         summed milliseconds per timed stage, including repository calls as {@code db}
+ * @param statements     SQL statements sent by Hibernate
+ * @param allocatedBytes heap allocated by the request thread, {@code -1} if not measured
+ * @param cpuMs          CPU time of the request thread, {@code -1} if not measured
+ * @param outliers       the thresholds it exceeded: {@code latency}, {@code allocation} and/or {@code cpu}
+ */
+public record SlowRequest(
+        Instant finishedAt,
+        String correlationId,
+        String method,
+        String endpoint,
+        int status,
+        double durationMs,
+        Map<String, Double> stages,
+        int statements,
+        long allocatedBytes,
+        double cpuMs,
+        List<String> outliers) {
+}
@@ -0,0 +1,137 @@
+package com.adorsys.webank.observability;
+
+import com.adorsys.webank.properties.SlowRequestProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Flight recorder for slow requests: keeps the slowest requests since startup and, in a ring buffer, the most recent
+ * ones over the latency threshold or over the allocation or CPU thresholds, each with its stage breakdown. Recording takes no locks, so request threads never wait on
+ * each other or on a reader; while requests are being recorded the kept set may briefly exceed its capacity.
+ */
+@Component
+public class SlowRequestRecorder {
+
+    private static final Comparator<Ranked> FASTEST_FIRST =
+            Comparator.comparingLong(Ranked::nanos).thenComparingLong(Ranked::sequence);
+
+    private final boolean enabled;
+    private final Duration threshold;
+    private final long thresholdNanos;
+    private final long allocationThresholdBytes;
+    private final long cpuThresholdNanos;
+    private final int slowestCapacity;
+
+    private final ConcurrentSkipListMap<Ranked, SlowRequest> slowest = new ConcurrentSkipListMap<>(FASTEST_FIRST);
+    private final AtomicInteger slowestSize = new AtomicInteger();
+    private final AtomicReferenceArray<SlowRequest> recent;
+    private final AtomicLong recorded = new AtomicLong();
+
+    private record Ranked(long nanos, long sequence) {
+    }
+
+    public SlowRequestRecorder(SlowRequestProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.threshold = properties.getThreshold();
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.allocationThresholdBytes = properties.getAllocationThreshold().toBytes();
+        this.cpuThresholdNanos = properties.getCpuThreshold().toNanos();
+        this.slowestCapacity = properties.getSlowestCapacity();
+        this.recent = new AtomicReferenceArray<>(properties.getRecentCapacity());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Duration threshold() {
+        return threshold;
+    }
+
+    /**
+     * Keeps the finished request if it exceeded any threshold; only those over the latency threshold compete for
+     * the slowest. Must be called on the request thread, before its timings are cleared.
+     *
+     * @param endpoint route pattern of the request, not its concrete path
+     */
+    public void record(RequestTimings timings, String correlationId, String method, String endpoint, int status) {
+        if (!enabled) {
+            return;
+        }
+        long nanos = timings.elapsedNanos();
+        long allocatedBytes = timings.allocatedBytes();
+        long cpuNanos = timings.cpuNanos();
+        List<String> outliers = new ArrayList<>(3);
+        if (nanos >= thresholdNanos) {
+            outliers.add("latency");
+        }
+        if (allocatedBytes >= allocationThresholdBytes) {
+            outliers.add("allocation");
+        }
+        if (cpuNanos >= cpuThresholdNanos) {
+            outliers.add("cpu");
+        }
+        if (outliers.isEmpty()) {
+            return;
+        }
+
+        SlowRequest request = new SlowRequest(Instant.now(), correlationId, method, endpoint, status,
+                nanos / 1_000_000.0, timings.stageMillis(), timings.statementCount(), allocatedBytes,
+                cpuNanos < 0 ? -1 : cpuNanos / 1_000_000.0, outliers);
+        long sequence = recorded.getAndIncrement();
+        recent.set((int) (sequence % recent.length()), request);
+        if (nanos >= thresholdNanos) {
+            keepIfAmongSlowest(new Ranked(nanos, sequence), request);
+        }
+    }
+
+    private void keepIfAmongSlowest(Ranked ranked, SlowRequest request) {
+        if (slowestSize.get() >= slowestCapacity) {
+            Map.Entry<Ranked, SlowRequest> fastest = slowest.firstEntry();
+            if (fastest != null && FASTEST_FIRST.compare(ranked, fastest.getKey()) <= 0) {
+                return;
+            }
+        }
+        slowest.put(ranked, request);
+        slowestSize.incrementAndGet();
+        // Claim each removal on the counter first, so that concurrent callers never evict more than the excess
+        int size;
+        while ((size = slowestSize.get()) > slowestCapacity) {
+            if (slowestSize.compareAndSet(size, size - 1)) {
+                slowest.pollFirstEntry();
+            }
+        }
+    }
+
+    /**
+     * @return the slowest requests since startup, slowest first
+     */
+    public List<SlowRequest> slowest() {
+        return new ArrayList<>(slowest.descendingMap().values());
+    }
+
+    /**
+     * @return the most recent slow or outlier requests, newest first
+     */
+    public List<SlowRequest> recent() {
+        long written = recorded.get();
+        List<SlowRequest> requests = new ArrayList<>();
+        for (long sequence = written - 1; sequence >= Math.max(0, written - recent.length()); sequence--) {
+            SlowRequest request = recent.get((int) (sequence % recent.length()));
+            if (request != null) {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+}
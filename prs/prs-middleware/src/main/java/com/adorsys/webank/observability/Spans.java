@@ -0,0 +1,47 @@
+package com.adorsys.webank.observability;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.MDC;
+
+/**
+ * Opens tracing spans around work that is not a Spring bean method: the {@link Stage}s timed by {@link StageTimer}
+ * and the JWT decoding of the security filter chain. Each span is a child of the current one, usually the request's
+ * or a service method's, and carries the request's correlation ID.
+ * <p>
+ * Like {@link StageTimer}, this is static because some of the traced code is. Until the application installs its
+ * tracer with {@link #install(Tracer)}, spans are no-ops.
+ */
+public final class Spans {
+
+    static final String CORRELATION_ID_TAG = "correlation.id";
+
+    private static volatile Tracer tracer = Tracer.NOOP;
+
+    private Spans() {
+    }
+
+    public static void install(Tracer tracer) {
+        Spans.tracer = tracer;
+    }
+
+    /**
+     * Runs {@code work} in a span named {@code name}, recording the exception it throws, if any, on the span.
+     */
+    public static <T, E extends Exception> T inSpan(String name, StageTimer.StageWork<T, E> work) throws E {
+        Tracer current = tracer;
+        Span span = current.nextSpan().name(name);
+        String correlationId = MDC.get("correlationId");
+        if (correlationId != null) {
+            span.tag(CORRELATION_ID_TAG, correlationId);
+        }
+        try (Tracer.SpanInScope ignored = current.withSpan(span.start())) {
+            return work.call();
+        } catch (Exception | Error e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
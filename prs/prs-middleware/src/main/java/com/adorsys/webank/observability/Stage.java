@@ -0,0 +1,37 @@
+package com.adorsys.webank.observability;
+
+/**
+ * Expensive steps of request processing, timed by {@link StageTimer}. The tag values are fixed so that the
+ * {@code prs.stage} timer keeps a small, known set of series.
+ */
+public enum Stage {
+
+    /** Wrapping the servlet request so its body can be read more than once. */
+    REQUEST_BODY_CACHING("request_body_caching"),
+    /** Reading the signed parameters from the request body or path. */
+    PARAMETER_EXTRACTION("parameter_extraction"),
+    /** Parsing a JWS or JWT and the JWK it carries. */
+    JOSE_PARSE("jose_parse"),
+    /** Verifying an ECDSA signature of a JWS or certificate. */
+    SIGNATURE_VERIFICATION("signature_verification"),
+    /** Argon2 hashing of a new OTP. */
+    PASSWORD_ENCODE("password_encode"),
+    /** Argon2 check of a submitted OTP against its stored hash. */
+    PASSWORD_MATCH("password_match"),
+    /** RFC 8785 canonicalisation of the JSON that is hashed or signed. */
+    JSON_CANONICALIZATION("json_canonicalization"),
+    /** Signing a certificate or recovery token with the server key. */
+    CERTIFICATE_SIGNING("certificate_signing"),
+    /** Handing an email to the SMTP server. */
+    SMTP_SEND("smtp_send");
+
+    private final String tag;
+
+    Stage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tagValue() {
+        return tag;
+    }
+}
@@ -0,0 +1,41 @@
+package com.adorsys.webank.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.slf4j.MDC;
+
+/**
+ * JDK Flight Recorder event for a {@link Stage} timed by {@link StageTimer}, so that a recording shows the JWT
+ * verifications, Argon2 hashes and certificate signatures next to the CPU samples and GC pauses they cause. Costs
+ * nothing beyond the allocation while no recording is running.
+ */
+@Name("com.adorsys.webank.Stage")
+@Label("PRS Stage")
+@Description("An expensive stage of request processing, as timed in prs.stage")
+@Category("WeBank PRS")
+@StackTrace(false)
+class StageEvent extends Event {
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Correlation ID")
+    String correlationId;
+
+    void record(Stage stage, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.stage = stage.tagValue();
+            this.outcome = outcome;
+            this.correlationId = MDC.get("correlationId");
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.adorsys.webank.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times the expensive {@link Stage}s of request processing in the {@code prs.stage} timer, tagged with the stage
+ * and whether it {@code succeeded} or {@code failed}, and published as a percentile histogram. Durations are also
+ * added to the {@link RequestTimings} of the current request, if it is being timed.
+ * <p>
+ * Some of the timed code is static ({@link com.adorsys.webank.config.JwtValidator}), so the timer records into
+ * Micrometer's global registry, to which Spring Boot adds the application's registries. Each stage also runs in a
+ * tracing span of its own, see {@link Spans}, and is recorded as a {@link StageEvent} in running JFR recordings.
+ */
+public final class StageTimer {
+
+    static final String METRIC_NAME = "prs.stage";
+
+    private static final Map<String, Timer> TIMERS = new ConcurrentHashMap<>();
+
+    private StageTimer() {
+    }
+
+    /**
+     * Work that may throw a checked exception, like most JOSE and canonicalisation calls.
+     */
+    @FunctionalInterface
+    public interface StageWork<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    /**
+     * Runs {@code work} in a span and records its duration under {@code stage}, also when it throws.
+     */
+    public static <T, E extends Exception> T record(Stage stage, StageWork<T, E> work) throws E {
+        MeterRegistry registry = Metrics.globalRegistry;
+        Timer.Sample sample = Timer.start(registry);
+        StageEvent event = new StageEvent();
+        event.begin();
+        String outcome = "failed";
+        try {
+            T result = Spans.inSpan(stage.tagValue(), work);
+            outcome = "succeeded";
+            return result;
+        } finally {
+            long nanos = sample.stop(timer(registry, stage, outcome));
+            RequestTimings.record(stage.tagValue(), nanos);
+            event.record(stage, outcome);
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, Stage stage, String outcome) {
+        return TIMERS.computeIfAbsent(stage.tagValue() + '/' + outcome, key -> Timer.builder(METRIC_NAME)
+                .description("Time spent in an expensive stage of request processing")
+                .tag("stage", stage.tagValue())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+}
@@ -0,0 +1,40 @@
+package com.adorsys.webank.observability;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Heap allocation and CPU time of the current thread, as measured by the JVM. Both are running totals, so a
+ * request's share is the difference between a reading at its start and one at its end, on the same thread.
+ */
+public final class ThreadResources {
+
+    private static final java.lang.management.ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATION_SUPPORTED = THREADS instanceof com.sun.management.ThreadMXBean threads
+            && threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+    private static final boolean CPU_TIME_SUPPORTED = THREADS.isCurrentThreadCpuTimeSupported()
+            && THREADS.isThreadCpuTimeEnabled();
+
+    private ThreadResources() {
+    }
+
+    /**
+     * @return bytes allocated on the heap by the current thread so far, or {@code -1} if not measured
+     */
+    public static long allocatedBytes() {
+        return ALLOCATION_SUPPORTED ? ((com.sun.management.ThreadMXBean) THREADS).getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * @return CPU time used by the current thread so far in nanoseconds, or {@code -1} if not measured
+     */
+    public static long cpuNanos() {
+        return CPU_TIME_SUPPORTED ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * @return {@code end - start}, or {@code -1} if either reading is unavailable
+     */
+    public static long since(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+}
@@ -0,0 +1,55 @@
+package com.adorsys.webank.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Continuous JDK Flight Recorder recording, dumped on demand through the {@code flightrecording} actuator endpoint.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "flight-recorder")
+public class FlightRecorderProperties {
+
+    /**
+     * Whether a recording runs from startup. With the {@code default} settings it costs about 1% of CPU.
+     */
+    private boolean enabled = false;
+
+    /**
+     * JFR settings the recording uses: {@code default}, or {@code profile} for more detail at a higher cost.
+     */
+    @NotBlank
+    private String settings = "default";
+
+    /**
+     * How far back the recording keeps data, and so the longest period a dump can cover.
+     */
+    @NotNull
+    private Duration maxAge = Duration.ofMinutes(30);
+
+    /**
+     * Disk space the recording may use before the oldest data is dropped.
+     */
+    @NotNull
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    /**
+     * Directory the dumps are written to.
+     */
+    @NotBlank
+    private String dumpDirectory = "logs/jfr";
+
+    /**
+     * Secret a dump request has to present. Dumps are refused while it is empty.
+     */
+    private String dumpToken = "";
+}
@@ -0,0 +1,21 @@
+package com.adorsys.webank.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Per-request heap allocation and CPU time metrics.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "request-accounting")
+public class RequestAccountingProperties {
+
+    /**
+     * Whether the allocation and CPU time of each request thread are measured and published per endpoint.
+     */
+    private boolean enabled = true;
+}
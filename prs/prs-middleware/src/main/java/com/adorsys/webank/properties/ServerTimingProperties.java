@@ -0,0 +1,37 @@
+package com.adorsys.webank.properties;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Opt-in {@code Server-Timing} response header with the stage durations of a request.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "server-timing")
+public class ServerTimingProperties {
+
+    /**
+     * Whether requests may be timed at all. When disabled, no request is timed whatever its headers.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Request header a client sends to get the breakdown. Blank to time every request.
+     */
+    private String requestHeader = "X-Server-Timing";
+
+    /**
+     * Whether {@code request} asked for a breakdown that this configuration allows.
+     */
+    public boolean appliesTo(HttpServletRequest request) {
+        if (!enabled) {
+            return false;
+        }
+        return requestHeader == null || requestHeader.isBlank() || request.getHeader(requestHeader) != null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.adorsys.webank.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * In-memory recorder of slow requests, read through the {@code slowrequests} actuator endpoint.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "slow-requests")
+public class SlowRequestProperties {
+
+    /**
+     * Whether every request is timed and the slow ones kept. Timing costs a few allocations per request.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Requests taking at least this long are recorded.
+     */
+    @NotNull
+    private Duration threshold = Duration.ofMillis(500);
+
+    /**
+     * Requests whose thread allocates at least this much heap are recorded as allocation outliers.
+     */
+    @NotNull
+    private DataSize allocationThreshold = DataSize.ofMegabytes(32);
+
+    /**
+     * Requests whose thread uses at least this much CPU time are recorded as CPU outliers.
+     */
+    @NotNull
+    private Duration cpuThreshold = Duration.ofMillis(250);
+
+    /**
+     * Number of slowest requests kept since startup.
+     */
+    @Positive
+    private int slowestCapacity = 20;
+
+    /**
+     * Number of most recent slow requests kept.
+     */
+    @Positive
+    private int recentCapacity = 50;
+}
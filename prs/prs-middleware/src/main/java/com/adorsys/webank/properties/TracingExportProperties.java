@@ -0,0 +1,28 @@
+package com.adorsys.webank.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Local export of finished tracing spans to a JSON-lines file, for analysing traces without a collector.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "tracing-export")
+public class TracingExportProperties {
+
+    /**
+     * Whether finished spans are appended to {@link #file}.
+     */
+    private boolean enabled = false;
+
+    /**
+     * File the spans are appended to, one JSON object per line. Parent directories are created.
+     */
+    @NotBlank
+    private String file = "logs/spans.jsonl";
+}
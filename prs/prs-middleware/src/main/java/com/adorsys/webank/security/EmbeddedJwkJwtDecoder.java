@@ -1,5 +1,8 @@
 package com.adorsys.webank.security;
 
+import com.adorsys.webank.observability.Spans;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.nimbusds.jwt.*;
 import lombok.*;
 import lombok.extern.slf4j.*;
@@ -21,6 +24,10 @@ public class EmbeddedJwkJwtDecoder implements JwtDecoder {
 
     @Override
     public Jwt decode(String token) throws JwtException {
+        return Spans.inSpan("jwt.decode", () -> decodeInSpan(token));
+    }
+
+    private Jwt decodeInSpan(String token) {
         log.info("Starting decode process for JWT");
         log.debug("Incoming token: {}", token);
 
@@ -38,7 +45,7 @@ public class EmbeddedJwkJwtDecoder implements JwtDecoder {
             com.adorsys.webank.config.JwtValidator.validateAndExtract(token, params);
             log.info("JWT validated successfully");
 
-            SignedJWT signedJWT = SignedJWT.parse(token);
+            SignedJWT signedJWT = StageTimer.record(Stage.JOSE_PARSE, () -> SignedJWT.parse(token));
             log.debug("Parsed SignedJWT: {}", signedJWT);
 
             JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
@@ -4,6 +4,7 @@ import com.adorsys.webank.config.*;
 import com.adorsys.webank.domain.Role;
 import com.adorsys.webank.exceptions.SecurityConfigurationException;
 import com.adorsys.webank.security.extractor.RequestParameterExtractorFilter;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -43,6 +44,8 @@ public class SecurityConfig {
                     .formLogin(AbstractHttpConfigurer::disable)
                     .addFilterBefore(requestParameterExtractorFilter, UsernamePasswordAuthenticationFilter.class)
                     .authorizeHttpRequests(auth -> auth
+                            // Async dispatches (e.g. completing the KYC status stream) belong to a request already authorised
+                            .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                             .requestMatchers("/api/prs/dev/**").authenticated()
                             .requestMatchers("/h2-console/**").permitAll()
                             .requestMatchers("/swagger-ui.html/**", "/v3/api-docs/**", "/swagger-ui/**").permitAll()
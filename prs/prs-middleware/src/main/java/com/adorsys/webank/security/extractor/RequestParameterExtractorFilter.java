@@ -18,6 +18,9 @@ import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.adorsys.webank.security.extractor.EndpointParameterMapper;
 
 
@@ -75,9 +78,10 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
         for (String paramName : requiredParams) {
             JsonNode paramNode = jsonNode.get(paramName);
             if (paramNode != null) {
-                String paramValue = paramNode.asText();
+                // Arrays and objects are signed as their compact JSON; asText() would yield an empty string
+                String paramValue = paramNode.isContainerNode() ? paramNode.toString() : paramNode.asText();
                 orderedParams.put(paramName, paramValue);
-                log.info("Extracted parameter {} with value: {}", paramName, paramValue);
+                log.info("Extracted parameter {} with value: {}", paramName, masked(paramName, paramValue));
             } else {
                 log.warn("Parameter {} not found in request body", paramName);
             }
@@ -86,6 +90,19 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
     }
 
 
+    /**
+     * Log argument for an extracted value: phone numbers, emails and account IDs keep the hints of their
+     * {@link PiiMask}, all other values, such as document numbers, images and OTPs, are hidden.
+     */
+    private static PiiMask masked(String paramName, String value) {
+        return switch (paramName) {
+            case "phoneNumber" -> PiiMask.phoneNumber(value);
+            case "email" -> PiiMask.email(value);
+            case "accountId", "oldAccountId", "newAccountId" -> PiiMask.accountId(value);
+            default -> PiiMask.hidden(value);
+        };
+    }
+
     private Map<String, String> extractPathVariableParameters(String fullPath, String pattern, List<String> requiredParams) {
         Map<String, String> result = new LinkedHashMap<>();
 
@@ -110,7 +127,7 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
 
                 if (requiredParams.contains(paramName)) {
                     result.put(paramName, paramValue);
-                    log.info("Extracted path parameter {} = {}", paramName, paramValue);
+                    log.info("Extracted path parameter {} = {}", paramName, masked(paramName, paramValue));
                 }
             }
         }
@@ -145,7 +162,7 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
                 if (normalizedPath.matches(regex)) {
                     Map<String, String> pathVariables = extractPathVariableParameters(normalizedPath, pattern, requiredParams);
                     orderedParams.putAll(pathVariables);
-                    log.info("Matched pattern: {} -> Extracted variables: {}", pattern, pathVariables);
+                    log.info("Matched pattern: {} -> Extracted variables: {}", pattern, pathVariables.keySet());
                     break;
                 } else if (fullPath.matches(regex)) {
                     Map<String, String> pathVariables = extractPathVariableParameters(fullPath, pattern, requiredParams);
@@ -170,7 +187,8 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
         }
 
         try {
-            HttpServletRequest wrappedRequest = new CachingRequestBodyWrapper(request);
+            HttpServletRequest wrappedRequest = StageTimer.record(Stage.REQUEST_BODY_CACHING,
+                    () -> new CachingRequestBodyWrapper(request));
             Map<String, String> params = new HashMap<>();
             
             String fullPath = wrappedRequest.getRequestURI();
@@ -179,12 +197,14 @@ public class RequestParameterExtractorFilter extends OncePerRequestFilter {
             log.info("Required parameters for endpoint {}: {}", fullPath, requiredParams);
             
             if (wrappedRequest.getMethod().equals("POST")) {
-                params = extractPostParameters(wrappedRequest, requiredParams);
+                params = StageTimer.record(Stage.PARAMETER_EXTRACTION,
+                        () -> extractPostParameters(wrappedRequest, requiredParams));
             } else if (wrappedRequest.getMethod().equals("GET")) {
-                params = extractGetParameters(wrappedRequest, requiredParams);
+                params = StageTimer.record(Stage.PARAMETER_EXTRACTION,
+                        () -> extractGetParameters(wrappedRequest, requiredParams));
             }
             
-            log.info("Extracted parameters for path {}: {}", fullPath, params);
+            log.info("Extracted parameters for path {}: {}", fullPath, params.keySet());
             log.debug("Final extracted parameters: {}", params);
             
             REQUEST_PARAMS.set(params);
@@ -4,12 +4,14 @@ import com.adorsys.webank.dto.KycDocumentRequest;
 import com.adorsys.webank.dto.KycEmailRequest;
 import com.adorsys.webank.dto.KycInfoRequest;
 import com.adorsys.webank.dto.KycLocationRequest;
+import com.adorsys.webank.dto.KycSubmissionRequest;
 import com.adorsys.webank.dto.UserInfoResponse;
 import com.adorsys.webank.dto.response.ErrorResponse;
 import com.adorsys.webank.dto.response.KycDocumentResponse;
 import com.adorsys.webank.dto.response.KycEmailResponse;
 import com.adorsys.webank.dto.response.KycInfoResponse;
 import com.adorsys.webank.dto.response.KycLocationResponse;
+import com.adorsys.webank.dto.response.KycSubmissionResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -224,6 +226,53 @@ public interface KycRestApi {
         @RequestBody KycEmailRequest kycEmailRequest
     );
 
+    @Operation(
+        summary = "Submit Complete KYC",
+        description = "Submits personal information, location, email and identity documents in a single signed request. All parts are stored atomically.",
+        security = @SecurityRequirement(name = "bearer-jwt")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "KYC submission successfully stored",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = KycSubmissionResponse.class),
+                examples = @ExampleObject(
+                    name = "success",
+                    value = "{\"kycId\":\"ACC_123456\",\"status\":\"PENDING\",\"submittedAt\":\"2025-01-20T15:30:00\",\"message\":\"KYC submission received successfully\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Incomplete submission data",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class),
+                examples = @ExampleObject(
+                    name = "incomplete-submission",
+                    value = "{\"code\":\"VALIDATION_ERROR\",\"message\":\"Invalid KYC Submission Request\",\"timestamp\":\"2025-01-20T15:30:00\"}"
+                )
+            )
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - Invalid or missing JWT",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ErrorResponse.class)
+            )
+        )
+    })
+    @PostMapping(value = "/submission", consumes = "application/json", produces = "application/json")
+    ResponseEntity<KycSubmissionResponse> submitKyc(
+        @Parameter(description = "JWT Bearer token", required = true, example = "Bearer eyJhbGciOiJIUzI1NiIs...")
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader, 
+        @RequestBody KycSubmissionRequest kycSubmissionRequest
+    );
+
+
     @Operation(
         summary = "Get Pending KYC Records",
         description = "Fetches all KYC records with PENDING status for verification by authorized agents",
@@ -0,0 +1,31 @@
+package com.adorsys.webank;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "KYC", description = "Operations related to KYC processing")
+@RequestMapping("/api/prs/kyc")
+public interface KycStatusStreamRestApi {
+
+    @Operation(summary = "Wait for the KYC decision",
+            description = "Server-sent event stream that emits a single `status` event as soon as the account is APPROVED or REJECTED "
+                    + "(immediately if it already is) and then closes. If no decision arrives within the wait timeout the stream "
+                    + "closes without an event and the client reconnects; the certificate is then fetched from `/cert/{accountId}`.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid token"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping(value = "/status/stream/{accountId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamStatus(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+                            @PathVariable("accountId") String accountId);
+}
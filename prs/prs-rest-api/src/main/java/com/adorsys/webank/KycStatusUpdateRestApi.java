@@ -1,6 +1,8 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.dto.KycStatusBatchUpdateRequest;
 import com.adorsys.webank.dto.KycStatusUpdateDto;
+import com.adorsys.webank.dto.response.KycStatusUpdateResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -11,6 +13,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 
+import java.util.List;
+
 @Tag(name = "OTP Status Update", description = "Operations to update OTP status for pending registrations")
 @RequestMapping("/api/prs/kyc")
 public interface KycStatusUpdateRestApi {
@@ -24,4 +28,14 @@ public interface KycStatusUpdateRestApi {
     })
     @PostMapping(value = "/status/update", consumes = "application/json", produces = "application/json")
     String updateKycStatus(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader, @RequestBody KycStatusUpdateDto kycStatusUpdateDto);
+
+    @Operation(summary = "Update KYC status in batch", description = "Applies several KYC status decisions in one transaction (one per shard when sharded) and returns one result per item, in request order. Invalid items, and the items of a shard that could not be updated, are reported without affecting the others.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed; see the per-item results"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping(value = "/status/update/batch", consumes = "application/json", produces = "application/json")
+    List<KycStatusUpdateResult> updateKycStatuses(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader, @RequestBody KycStatusBatchUpdateRequest batchUpdateRequest);
 }
@@ -1,5 +1,6 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.AccountRecovery;
 import com.adorsys.webank.dto.AccountRecoveryResponse;
 import com.adorsys.webank.config.JwtValidator;
@@ -39,7 +40,7 @@ public class AccountRecoveryValidationRequestRestServer implements AccountRecove
 
             // Validate JWT and extract the public key
             log.debug("Validating JWT for account ID: {} [correlationId={}]", 
-                    maskAccountId(accountRecovery.getNewAccountId()), correlationId);
+                    PiiMask.accountId(accountRecovery.getNewAccountId()), correlationId);
             publicKey = JwtValidator.validateAndExtract(jwtToken, accountRecovery.getNewAccountId());
             log.debug("JWT validation successful [correlationId={}]", correlationId);
 
@@ -76,14 +77,4 @@ public class AccountRecoveryValidationRequestRestServer implements AccountRecove
         }
         return authorizationHeader.substring(7); // Remove "Bearer " prefix
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
@@ -1,5 +1,6 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.EmailOtpRequest;
 import com.adorsys.webank.dto.EmailOtpValidationRequest;
 import com.adorsys.webank.dto.response.EmailResponse;
@@ -25,7 +26,7 @@ public class EmailOtpRestServer implements EmailOtpRestApi {
         String correlationId = MDC.get("correlationId");
         log.info("Received request to send email OTP [correlationId={}]", correlationId);
         
-        String maskedEmail = maskEmail(request.getEmail());
+        PiiMask maskedEmail = PiiMask.email(request.getEmail());
         log.debug("Processing email OTP request for email: {} [correlationId={}]", maskedEmail, correlationId);
         
         EmailResponse response = emailOtpService.sendEmailOtp(request.getAccountId(), request.getEmail());
@@ -38,7 +39,7 @@ public class EmailOtpRestServer implements EmailOtpRestApi {
         String correlationId = MDC.get("correlationId");
         log.info("Received request to validate email OTP [correlationId={}]", correlationId);
         
-        String maskedEmail = maskEmail(request.getEmail());
+        PiiMask maskedEmail = PiiMask.email(request.getEmail());
         log.debug("Validating OTP for email: {} [correlationId={}]", maskedEmail, correlationId);
 
         EmailValidationResponse response = emailOtpService.validateEmailOtp(
@@ -49,21 +50,4 @@ public class EmailOtpRestServer implements EmailOtpRestApi {
         log.info("Email OTP validation processed [correlationId={}]", correlationId);
         return ResponseEntity.ok(response);
     }
-
-    /**
-     * Masks an email address for logging purposes
-     * Shows only first 2 and domain part
-     */
-    private String maskEmail(String email) {
-        if (email == null || email.isEmpty() || !email.contains("@")) {
-            return "********";
-        }
-        
-        int atIndex = email.indexOf('@');
-        if (atIndex <= 2) {
-            return email.charAt(0) + "****" + email.substring(atIndex);
-        }
-        
-        return email.substring(0, 2) + "****" + email.substring(atIndex);
-    }
 }
@@ -3,6 +3,7 @@ import org.slf4j.MDC;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.service.KycCertServiceApi;
 
 import lombok.RequiredArgsConstructor;
@@ -20,7 +21,7 @@ public class KycCertRestServer implements KycCertRestApi {
     public String getCert(String authorizationHeader, String accountId) {
         String correlationId = MDC.get("correlationId");
         log.info("Received request to get KYC certificate for account: {} [correlationId={}]", 
-                maskAccountId(accountId), correlationId);
+                PiiMask.accountId(accountId), correlationId);
 
         log.debug("Processing KYC certificate request [correlationId={}]", correlationId);
         String result = kycCertServiceApi.getCert(accountId);
@@ -28,14 +29,4 @@ public class KycCertRestServer implements KycCertRestApi {
         
         return result;
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
@@ -1,5 +1,6 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.KycRecoveryDto;
 import com.adorsys.webank.service.KycRecoveryServiceApi;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +24,7 @@ public class KycRecoveryServer implements KycRecoveryRestApi {
         log.info("Received KYC recovery fields verification request [correlationId={}]", correlationId);
         
         log.debug("Verifying KYC recovery fields for account ID: {} [correlationId={}]", 
-                maskAccountId(kycRecoveryDto.getAccountId()), correlationId);;
+                PiiMask.accountId(kycRecoveryDto.getAccountId()), correlationId);;
         
         String result = kycRecoveryServiceApi.verifyKycRecoveryFields(
                 kycRecoveryDto.getAccountId(),
@@ -34,14 +35,4 @@ public class KycRecoveryServer implements KycRecoveryRestApi {
         log.info("KYC recovery fields verification completed [correlationId={}]", correlationId);
         return result;
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
\ No newline at end of file
@@ -9,15 +9,18 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.KycDocumentRequest;
 import com.adorsys.webank.dto.KycEmailRequest;
 import com.adorsys.webank.dto.KycInfoRequest;
 import com.adorsys.webank.dto.KycLocationRequest;
+import com.adorsys.webank.dto.KycSubmissionRequest;
 import com.adorsys.webank.dto.UserInfoResponse;
 import com.adorsys.webank.dto.response.KycDocumentResponse;
 import com.adorsys.webank.dto.response.KycEmailResponse;
 import com.adorsys.webank.dto.response.KycInfoResponse;
 import com.adorsys.webank.dto.response.KycLocationResponse;
+import com.adorsys.webank.dto.response.KycSubmissionResponse;
 import com.adorsys.webank.service.KycServiceApi;
 
 import lombok.RequiredArgsConstructor;
@@ -35,7 +38,7 @@ public class KycRestServer implements KycRestApi {
         log.info("Received KYC info request [correlationId={}]", correlationId);
         
         String accountId = kycInfoRequest.getAccountId();
-        MDC.put("accountId", maskAccountId(accountId));
+        MDC.put("accountId", PiiMask.accountId(accountId).toString());
         
         try {
             log.debug("Processing KYC info for account [correlationId={}]", correlationId);
@@ -57,7 +60,7 @@ public class KycRestServer implements KycRestApi {
         log.info("Received KYC location request [correlationId={}]", correlationId);
         
         String accountId = kycLocationRequest.getAccountId();
-        MDC.put("accountId", maskAccountId(accountId));
+        MDC.put("accountId", PiiMask.accountId(accountId).toString());
         
         try {
             log.debug("Processing KYC location for account [correlationId={}]", correlationId);
@@ -81,8 +84,8 @@ public class KycRestServer implements KycRestApi {
         String accountId = kycEmailRequest.getAccountId();
         String email = kycEmailRequest.getEmail();
         
-        MDC.put("accountId", maskAccountId(accountId));
-        MDC.put("email", maskEmail(email));
+        MDC.put("accountId", PiiMask.accountId(accountId).toString());
+        MDC.put("email", PiiMask.email(email).toString());
         
         try {
             log.debug("Processing KYC email for account [correlationId={}]", correlationId);
@@ -105,7 +108,7 @@ public class KycRestServer implements KycRestApi {
         log.info("Received KYC document request [correlationId={}]", correlationId);
         
         String accountId = kycDocumentRequest.getAccountId();
-        MDC.put("accountId", maskAccountId(accountId));
+        MDC.put("accountId", PiiMask.accountId(accountId).toString());
         
         try {
             log.debug("Processing KYC document for account [correlationId={}]", correlationId);
@@ -120,6 +123,30 @@ public class KycRestServer implements KycRestApi {
         }
     }
 
+    @Override
+    @PreAuthorize("hasRole('ROLE_ACCOUNT_CERTIFIED') and isAuthenticated()")
+    public ResponseEntity<KycSubmissionResponse> submitKyc(String authorizationHeader, KycSubmissionRequest kycSubmissionRequest) {
+        String correlationId = MDC.get("correlationId");
+        log.info("Received complete KYC submission request [correlationId={}]", correlationId);
+        
+        String accountId = kycSubmissionRequest.getAccountId();
+        MDC.put("accountId", PiiMask.accountId(accountId).toString());
+        MDC.put("email", PiiMask.email(kycSubmissionRequest.getEmail()).toString());
+        
+        try {
+            log.debug("Processing complete KYC submission for account [correlationId={}]", correlationId);
+            KycSubmissionResponse result = kycServiceApi.submitKyc(kycSubmissionRequest);
+            log.info("Complete KYC submission processed successfully [correlationId={}]", correlationId);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            log.error("Failed to process complete KYC submission [correlationId={}]", correlationId, e);
+            throw e;
+        } finally {
+            MDC.remove("accountId");
+            MDC.remove("email");
+        }
+    }
+
     @Override
     @PreAuthorize("hasRole('ROLE_ACCOUNT_CERTIFIED') and isAuthenticated()")
     public List<UserInfoResponse> getPendingKycRecords(String authorizationHeader) {
@@ -144,7 +171,7 @@ public class KycRestServer implements KycRestApi {
         String correlationId = MDC.get("correlationId");
         log.info("Received request to find KYC by document ID [correlationId={}]", correlationId);
         
-        MDC.put("documentId", maskDocumentId(documentUniqueId));
+        MDC.put("documentId", PiiMask.identifier(documentUniqueId).toString());
         
         try {
             log.debug("Searching for document with ID [correlationId={}]", correlationId);
@@ -159,34 +186,4 @@ public class KycRestServer implements KycRestApi {
             MDC.remove("documentId");
         }
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
-    
-    /**
-     * Masks a document ID for logging purposes
-     */
-    private String maskDocumentId(String documentId) {
-        if (documentId == null || documentId.length() < 5) {
-            return "********";
-        }
-        return documentId.substring(0, 2) + "****" + documentId.substring(documentId.length() - 2);
-    }
-    
-    /**
-     * Masks an email address for logging purposes
-     */
-    private String maskEmail(String email) {
-        if (email == null || email.isEmpty() || !email.contains("@")) {
-            return "********";
-        }
-        return email.substring(0, 1) + "********";
-    }
 }
@@ -0,0 +1,60 @@
+package com.adorsys.webank;
+
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.config.properties.KycStatusEventProperties;
+import com.adorsys.webank.dto.response.KycStatusChangeResponse;
+import com.adorsys.webank.service.KycStatusEventServiceApi;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@Slf4j
+@RequiredArgsConstructor
+public class KycStatusStreamRestServer implements KycStatusStreamRestApi {
+
+    /** Extra time given to the emitter so that the service-side wait timeout always fires first. */
+    private static final long EMITTER_GRACE_MS = 5_000;
+
+    private final KycStatusEventServiceApi kycStatusEventServiceApi;
+    private final KycStatusEventProperties kycStatusEventProperties;
+
+    @Override
+    @PreAuthorize("hasRole('ROLE_ACCOUNT_CERTIFIED') and isAuthenticated()")
+    public SseEmitter streamStatus(String authorizationHeader, String accountId) {
+        String correlationId = MDC.get("correlationId");
+        log.info("Opening KYC status stream for account: {} [correlationId={}]",
+                PiiMask.accountId(accountId), correlationId);
+
+        // The request thread returns right away; the emitter is completed from the event poller
+        SseEmitter emitter = new SseEmitter(kycStatusEventProperties.getWaitTimeout().toMillis() + EMITTER_GRACE_MS);
+        CompletableFuture<KycStatusChangeResponse> decision = kycStatusEventServiceApi.awaitDecision(accountId);
+        emitter.onTimeout(() -> decision.cancel(false));
+        emitter.onError(error -> decision.cancel(false));
+
+        decision.whenComplete((change, error) -> {
+            if (change == null) {
+                emitter.complete();
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name("status").data(change, MediaType.APPLICATION_JSON));
+                emitter.complete();
+                log.info("KYC status {} pushed to account: {} [correlationId={}]",
+                        change.getStatus(), PiiMask.accountId(accountId), correlationId);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("KYC status stream closed before delivery for account: {} [correlationId={}]",
+                        PiiMask.accountId(accountId), correlationId);
+                emitter.completeWithError(e);
+            }
+        });
+        return emitter;
+    }
+}
@@ -1,6 +1,9 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.dto.KycStatusBatchUpdateRequest;
 import com.adorsys.webank.dto.KycStatusUpdateDto;
+import com.adorsys.webank.dto.response.KycStatusUpdateResult;
 import com.adorsys.webank.service.KycStatusUpdateServiceApi;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -9,6 +12,8 @@ import org.slf4j.MDC;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class KycStatusUpdateRestServer implements KycStatusUpdateRestApi {
@@ -23,7 +28,7 @@ public class KycStatusUpdateRestServer implements KycStatusUpdateRestApi {
         log.info("Received KYC status update request for status: {} [correlationId={}]", kycStatusUpdateDto.getStatus(), correlationId);
         
         log.debug("Updating KYC status to {} for account ID: {} [correlationId={}]",
-                kycStatusUpdateDto.getStatus(), maskAccountId(kycStatusUpdateDto.getAccountId()), correlationId);
+                kycStatusUpdateDto.getStatus(), PiiMask.accountId(kycStatusUpdateDto.getAccountId()), correlationId);
         
         String result = kycStatusUpdateServiceApi.updateKycStatus(
                 kycStatusUpdateDto.getAccountId(),
@@ -37,13 +42,16 @@ public class KycStatusUpdateRestServer implements KycStatusUpdateRestApi {
         return result;
     }
     
-    /**
-     * Masks an account ID for logging purposes
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
+    @Override
+    @PreAuthorize("hasRole('ROLE_ACCOUNT_CERTIFIED') and isAuthenticated()")
+    public List<KycStatusUpdateResult> updateKycStatuses(String authorizationHeader, KycStatusBatchUpdateRequest batchUpdateRequest) {
+        String correlationId = MDC.get("correlationId");
+        int size = batchUpdateRequest.getUpdates() == null ? 0 : batchUpdateRequest.getUpdates().size();
+        log.info("Received KYC status batch update request with {} items [correlationId={}]", size, correlationId);
+
+        List<KycStatusUpdateResult> results = kycStatusUpdateServiceApi.updateKycStatuses(batchUpdateRequest.getUpdates());
+
+        log.info("KYC status batch update completed [correlationId={}]", correlationId);
+        return results;
     }
 }
@@ -1,5 +1,6 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.OtpRequest;
 import com.adorsys.webank.dto.OtpValidationRequest;
 import com.adorsys.webank.service.OtpServiceApi;
@@ -27,7 +28,7 @@ public class OtpRestServer implements OtpRestApi {
         log.info("Received OTP send request [correlationId={}]", correlationId);
         
         // Add user phone number to MDC (masked)
-        MDC.put("phoneNumber", maskPhoneNumber(request.getPhoneNumber()));
+        MDC.put("phoneNumber", PiiMask.phoneNumber(request.getPhoneNumber()).toString());
         
         try {
             log.debug("Processing OTP send request [correlationId={}]", correlationId);
@@ -47,7 +48,7 @@ public class OtpRestServer implements OtpRestApi {
         log.info("Received OTP validation request [correlationId={}]", correlationId);
         
         // Add user phone number to MDC (masked)
-        MDC.put("phoneNumber", maskPhoneNumber(request.getPhoneNumber()));
+        MDC.put("phoneNumber", PiiMask.phoneNumber(request.getPhoneNumber()).toString());
         
         try {
             log.debug("Processing OTP validation request [correlationId={}]", correlationId);
@@ -59,15 +60,4 @@ public class OtpRestServer implements OtpRestApi {
             MDC.remove("phoneNumber");
         }
     }
-    
-    /**
-     * Masks a phone number for logging purposes
-     * Shows only last 4 digits, rest are masked
-     */
-    private String maskPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.length() < 4) {
-            return "********";
-        }
-        return "******" + phoneNumber.substring(Math.max(0, phoneNumber.length() - 4));
-    }
 }
\ No newline at end of file
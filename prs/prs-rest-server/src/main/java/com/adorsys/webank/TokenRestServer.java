@@ -1,5 +1,6 @@
 package com.adorsys.webank;
 
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.TokenRequest;
 import com.adorsys.webank.service.TokenServiceApi;
 import org.slf4j.Logger;
@@ -26,8 +27,8 @@ public class TokenRestServer implements TokenRestApi {
         String newAccountId = tokenRequest.getNewAccountId();
         
         // Add account IDs to MDC for logging
-        MDC.put("oldAccountId", maskAccountId(oldAccountId));
-        MDC.put("newAccountId", maskAccountId(newAccountId));
+        MDC.put("oldAccountId", PiiMask.accountId(oldAccountId).toString());
+        MDC.put("newAccountId", PiiMask.accountId(newAccountId).toString());
         
         try {
             log.debug("Processing recovery token request [correlationId={}]", correlationId);
@@ -45,15 +46,4 @@ public class TokenRestServer implements TokenRestApi {
             MDC.remove("newAccountId");
         }
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     * Shows only first 2 and last 2 characters
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
\ No newline at end of file
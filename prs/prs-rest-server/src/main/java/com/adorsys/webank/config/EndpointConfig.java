@@ -33,9 +33,12 @@ public class EndpointConfig {
         ENDPOINT_PARAMETERS.put("api/prs/kyc/location", Arrays.asList("location", "accountId"));
         ENDPOINT_PARAMETERS.put("api/prs/kyc/info", Arrays.asList("idNumber", "expiryDate", "accountId"));
         ENDPOINT_PARAMETERS.put("api/prs/kyc/documents", Arrays.asList("frontId", "backId", "selfieId", "taxId", "accountId"));
+        ENDPOINT_PARAMETERS.put("api/prs/kyc/submission", Arrays.asList("idNumber", "expiryDate", "location", "email",
+                "frontId", "backId", "selfieId", "taxId", "accountId"));
         ENDPOINT_PARAMETERS.put("api/prs/kyc/record", List.of("accountId"));
         ENDPOINT_PARAMETERS.put("api/prs/kyc/findById/{DocumentUniqueId}", List.of("DocumentUniqueId"));
         ENDPOINT_PARAMETERS.put("api/prs/kyc/status/update", Arrays.asList("idNumber", "expiryDate", "accountId", "status"));
+        ENDPOINT_PARAMETERS.put("api/prs/kyc/status/update/batch", List.of("updates"));
 
         // KYC Recovery
         ENDPOINT_PARAMETERS.put("api/prs/kyc/recovery/verify", Arrays.asList("accountId", "idNumber", "expiryDate"));
@@ -1,12 +1,18 @@
 package com.adorsys.webank.config.logging;
 
+import com.adorsys.webank.observability.RequestTimings;
+import com.adorsys.webank.observability.SlowRequestRecorder;
+import com.adorsys.webank.properties.ServerTimingProperties;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.io.IOException;
 import java.util.UUID;
@@ -15,15 +21,29 @@ import java.util.UUID;
  * Filter that adds a correlation ID to the Mapped Diagnostic Context (MDC)
  * for each request. If the request already has a correlation ID header,
  * it will use that, otherwise it will generate a new one.
+ * <p>
+ * It runs first, ahead of the security filters, so that everything a request does is logged with its correlation ID
+ * and timed: into a {@code Server-Timing} header for requests that opted in through {@link ServerTimingProperties},
+ * and for the {@link SlowRequestRecorder} when it is enabled.
  */
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
 public class CorrelationIdFilter extends OncePerRequestFilter {
 
     private static final String CORRELATION_ID_HEADER = "X-Correlation-ID";
     private static final String CORRELATION_ID_MDC_KEY = "correlationId";
 
+    private static final String UNMATCHED_ENDPOINT = "unmatched";
+
+    private final ServerTimingProperties serverTimingProperties;
+    private final SlowRequestRecorder slowRequestRecorder;
+
+    public CorrelationIdFilter(ServerTimingProperties serverTimingProperties, SlowRequestRecorder slowRequestRecorder) {
+        this.serverTimingProperties = serverTimingProperties;
+        this.slowRequestRecorder = slowRequestRecorder;
+    }
+
     @Override
-  
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
@@ -43,14 +63,46 @@ public class CorrelationIdFilter extends OncePerRequestFilter {
             // Set the correlation ID in the response header
             response.setHeader(CORRELATION_ID_HEADER, correlationId);
 
-            // Continue with the filter chain
-            filterChain.doFilter(request, response);
+            // Continue with the filter chain, timing the stages if the request asked for it or slow ones are recorded
+            boolean serverTiming = serverTimingProperties.appliesTo(request);
+            if (serverTiming || slowRequestRecorder.isEnabled()) {
+                doFilterTimed(request, response, filterChain, correlationId, serverTiming);
+            } else {
+                filterChain.doFilter(request, response);
+            }
         } finally {
-            // Always clear the MDC to prevent memory leaks
+            // Always clear the MDC and request timings to prevent memory leaks
             MDC.clear();
+            RequestTimings.clear();
         }
     }
 
+    private void doFilterTimed(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                               String correlationId, boolean serverTiming) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            if (serverTiming) {
+                ServerTimingResponse timedResponse = new ServerTimingResponse(response, timings);
+                filterChain.doFilter(request, timedResponse);
+                timedResponse.writeHeader();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            slowRequestRecorder.record(timings, correlationId, request.getMethod(), endpoint(request),
+                    response.getStatus());
+        }
+    }
+
+    /**
+     * The route pattern matched by Spring MVC, which unlike the request path carries no account IDs. Only known once
+     * the request has been dispatched.
+     */
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNMATCHED_ENDPOINT;
+    }
+
     private String generateCorrelationId() {
         return UUID.randomUUID().toString();
     }
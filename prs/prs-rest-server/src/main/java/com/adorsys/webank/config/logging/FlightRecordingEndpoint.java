@@ -0,0 +1,94 @@
+package com.adorsys.webank.config.logging;
+
+import com.adorsys.webank.observability.ContinuousRecording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+/**
+ * Actuator endpoint {@code /api/prs/actuator/flightrecording} for the continuous JFR recording. {@code GET} shows the
+ * recording; {@code POST} with {@code {"token": "...", "minutes": 10}} dumps the last minutes to the dump directory
+ * and downloads the file, to be opened in JDK Mission Control. The file is deleted once it has been sent. Besides the
+ * authentication every actuator request needs, a dump has to present {@code flight-recorder.dump-token}.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "flightrecording")
+@ConditionalOnProperty(prefix = "flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecordingEndpoint {
+
+    private static final int DEFAULT_MINUTES = 10;
+
+    private final ContinuousRecording recording;
+
+    public FlightRecordingEndpoint(ContinuousRecording recording) {
+        this.recording = recording;
+    }
+
+    public record FlightRecording(Duration maxAge, long sizeBytes) {
+    }
+
+    @ReadOperation
+    public FlightRecording flightRecording() {
+        return new FlightRecording(recording.maxAge(), recording.size());
+    }
+
+    @WriteOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(String token, @Nullable Integer minutes) {
+        if (!recording.authorizes(token)) {
+            log.warn("Rejected a JFR dump request with an invalid token");
+            return new WebEndpointResponse<>(HttpStatus.FORBIDDEN.value());
+        }
+        int period = minutes != null ? minutes : DEFAULT_MINUTES;
+        if (period <= 0) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        try {
+            Path file = recording.dump(Duration.ofMinutes(period));
+            return new WebEndpointResponse<>(new DeleteOnCloseResource(file));
+        } catch (IOException e) {
+            log.error("Failed to dump the JFR recording", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Dump file that is deleted when the stream it is sent from is closed, so repeated dumps do not fill the disk.
+     */
+    private static final class DeleteOnCloseResource extends FileSystemResource {
+
+        private final Path file;
+
+        DeleteOnCloseResource(Path file) {
+            super(file);
+            this.file = file;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.DELETE_ON_CLOSE);
+        }
+    }
+}
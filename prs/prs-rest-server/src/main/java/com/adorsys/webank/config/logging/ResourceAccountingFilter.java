@@ -0,0 +1,79 @@
+package com.adorsys.webank.config.logging;
+
+import com.adorsys.webank.observability.ThreadResources;
+import com.adorsys.webank.properties.RequestAccountingProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that measures the heap allocated and the CPU time used by the request thread, and publishes them per
+ * endpoint as the {@code prs.request.allocated} and {@code prs.request.cpu} histograms. Work done on other threads,
+ * such as the asynchronous part of the KYC status stream, is not included.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResourceAccountingFilter extends OncePerRequestFilter {
+
+    private static final String ALLOCATION_METRIC = "prs.request.allocated";
+    private static final String CPU_METRIC = "prs.request.cpu";
+
+    private final RequestAccountingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ResourceAccountingFilter(RequestAccountingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long startAllocatedBytes = ThreadResources.allocatedBytes();
+        long startCpuNanos = ThreadResources.cpuNanos();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long allocatedBytes = ThreadResources.since(startAllocatedBytes, ThreadResources.allocatedBytes());
+            long cpuNanos = ThreadResources.since(startCpuNanos, ThreadResources.cpuNanos());
+            Tags tags = Tags.of("method", request.getMethod(), "endpoint", CorrelationIdFilter.endpoint(request));
+            if (allocatedBytes >= 0) {
+                DistributionSummary.builder(ALLOCATION_METRIC)
+                        .description("Heap allocated by the request thread")
+                        .baseUnit("bytes")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue((double) DataSize.ofKilobytes(1).toBytes())
+                        .maximumExpectedValue((double) DataSize.ofGigabytes(1).toBytes())
+                        .register(meterRegistry)
+                        .record(allocatedBytes);
+            }
+            if (cpuNanos >= 0) {
+                Timer.builder(CPU_METRIC)
+                        .description("CPU time used by the request thread")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+                        .record(cpuNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
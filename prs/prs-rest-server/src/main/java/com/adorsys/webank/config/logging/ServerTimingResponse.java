@@ -0,0 +1,72 @@
+package com.adorsys.webank.config.logging;
+
+import com.adorsys.webank.observability.RequestTimings;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Adds the {@code Server-Timing} header just before the response body is first written, which is the last moment
+ * headers can still be set. The body itself is passed through unbuffered.
+ */
+class ServerTimingResponse extends HttpServletResponseWrapper {
+
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final RequestTimings timings;
+    private boolean headerWritten;
+
+    ServerTimingResponse(HttpServletResponse response, RequestTimings timings) {
+        super(response);
+        this.timings = timings;
+    }
+
+    /**
+     * Sets the header unless it was set already or the response is committed.
+     */
+    void writeHeader() {
+        if (!headerWritten && !isCommitted()) {
+            setHeader(SERVER_TIMING_HEADER, timings.toHeaderValue());
+        }
+        headerWritten = true;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        writeHeader();
+        return super.getOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        writeHeader();
+        return super.getWriter();
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        writeHeader();
+        super.flushBuffer();
+    }
+
+    @Override
+    public void sendError(int sc) throws IOException {
+        writeHeader();
+        super.sendError(sc);
+    }
+
+    @Override
+    public void sendError(int sc, String msg) throws IOException {
+        writeHeader();
+        super.sendError(sc, msg);
+    }
+
+    @Override
+    public void sendRedirect(String location) throws IOException {
+        writeHeader();
+        super.sendRedirect(location);
+    }
+}
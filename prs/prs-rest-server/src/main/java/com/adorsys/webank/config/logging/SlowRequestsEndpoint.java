@@ -0,0 +1,34 @@
+package com.adorsys.webank.config.logging;
+
+import com.adorsys.webank.observability.SlowRequest;
+import com.adorsys.webank.observability.SlowRequestRecorder;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Actuator endpoint {@code /api/prs/actuator/slowrequests} listing the requests kept by the slow request recorder,
+ * so that latency spikes can be diagnosed without raising log levels.
+ */
+@Component
+@Endpoint(id = "slowrequests")
+public class SlowRequestsEndpoint {
+
+    private final SlowRequestRecorder recorder;
+
+    public SlowRequestsEndpoint(SlowRequestRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public record SlowRequests(boolean enabled, Duration threshold, List<SlowRequest> slowest,
+                               List<SlowRequest> recent) {
+    }
+
+    @ReadOperation
+    public SlowRequests slowRequests() {
+        return new SlowRequests(recorder.isEnabled(), recorder.threshold(), recorder.slowest(), recorder.recent());
+    }
+}
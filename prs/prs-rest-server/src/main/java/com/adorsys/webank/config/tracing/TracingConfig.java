@@ -0,0 +1,43 @@
+package com.adorsys.webank.config.tracing;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.ObservationFilter;
+import org.slf4j.MDC;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * Links traces to the {@code X-Correlation-ID} of their request and carries the trace context into Spring-managed
+ * executors. The services and repositories are traced by {@code TracingConfiguration} in {@code prs-service-impl}.
+ */
+@Configuration
+public class TracingConfig {
+
+    static final String CORRELATION_ID_KEY = "correlation.id";
+
+    /**
+     * Adds the correlation ID set by {@code CorrelationIdFilter} to every span, so that a request reported by its
+     * correlation ID can be found in the trace data. High cardinality, so it never becomes a metric tag.
+     */
+    @Bean
+    ObservationFilter correlationIdObservationFilter() {
+        return context -> {
+            String correlationId = MDC.get("correlationId");
+            if (correlationId != null) {
+                context.addHighCardinalityKeyValue(KeyValue.of(CORRELATION_ID_KEY, correlationId));
+            }
+            return context;
+        };
+    }
+
+    /**
+     * Applied by Spring Boot to its task executor and scheduler, so that asynchronous work continues the trace of
+     * the request that submitted it.
+     */
+    @Bean
+    TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+}
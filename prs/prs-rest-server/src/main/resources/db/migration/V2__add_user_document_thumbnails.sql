@@ -0,0 +1,5 @@
+-- Thumbnails produced by the KYC document processing stage, used by back-office list views
+ALTER TABLE user_documents ADD COLUMN front_thumbnail TEXT;
+ALTER TABLE user_documents ADD COLUMN back_thumbnail TEXT;
+ALTER TABLE user_documents ADD COLUMN selfie_thumbnail TEXT;
+ALTER TABLE user_documents ADD COLUMN tax_thumbnail TEXT;
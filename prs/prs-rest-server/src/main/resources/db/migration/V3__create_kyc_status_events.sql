@@ -0,0 +1,11 @@
+-- Outbox of KYC status transitions, read by every instance to wake clients waiting on a decision
+CREATE SEQUENCE kyc_status_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE kyc_status_events (
+    id BIGINT PRIMARY KEY,
+    account_id VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_kyc_status_events_created_at ON kyc_status_events(created_at);
@@ -0,0 +1,9 @@
+-- public_key_hash held the base64 text of a SHA-256 digest; store the 32 raw bytes instead.
+-- The UNIQUE constraint already indexes the column, so the second index on it is dropped.
+DROP INDEX IF EXISTS idx_public_key_hash;
+
+ALTER TABLE otp_requests
+    ALTER COLUMN public_key_hash TYPE BYTEA USING decode(public_key_hash, 'base64');
+
+ALTER TABLE otp_requests
+    ADD CONSTRAINT chk_otp_requests_public_key_hash_length CHECK (octet_length(public_key_hash) = 32);
@@ -0,0 +1,14 @@
+-- Indexes for the query shapes the services actually run on PostgreSQL. The @Index declarations on the
+-- entities only take effect with Hibernate DDL (H2 profile); V1 created none of them.
+
+-- Back-office lookup of KYC records by identity document number
+CREATE INDEX idx_personal_info_document_id ON personal_information_table (document_id);
+
+-- Pending KYC queue: only the PENDING slice is indexed, decided records add no index maintenance
+CREATE INDEX idx_personal_info_pending ON personal_information_table (account_id)
+    WHERE status = 'PENDING';
+
+-- Pending OTP list: covers every column of PendingOtpProjection, so it is answered by an index-only scan
+CREATE INDEX idx_otp_requests_pending ON otp_requests (created_at)
+    INCLUDE (phone_number, otp_code, status)
+    WHERE status = 'PENDING';
@@ -0,0 +1,2 @@
+-- Identifies the latest upload, so the KYC document processing stage never overwrites a newer one
+ALTER TABLE user_documents ADD COLUMN upload_id VARCHAR(36);
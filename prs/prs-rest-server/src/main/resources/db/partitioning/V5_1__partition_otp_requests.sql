@@ -0,0 +1,47 @@
+-- Opt-in partitioning mode for otp_requests, applied only when classpath:db/partitioning is added to
+-- spring.flyway.locations. The table is range-partitioned by created_at, one partition per day;
+-- OtpPartitionMaintenance creates partitions ahead of time and retires expired ones with DETACH/DROP instead of DELETE.
+-- Unique constraints of a partitioned table must contain the partition key, so public_key_hash is unique per
+-- created_at; OtpRequestRepository only reads rows inside the configured lookup window.
+
+CREATE TABLE otp_requests_partitioned (
+    id UUID NOT NULL,
+    phone_number VARCHAR(20) NOT NULL,
+    public_key_hash BYTEA NOT NULL,
+    otp_hash VARCHAR(255) NOT NULL,
+    otp_code VARCHAR(20) NOT NULL,
+    status otp_status NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT otp_requests_partitioned_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT uq_otp_requests_public_key_hash UNIQUE (public_key_hash, created_at),
+    CONSTRAINT chk_otp_requests_partitioned_public_key_hash_length CHECK (octet_length(public_key_hash) = 32)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside the daily partitions, e.g. when the scheduler has not run for days
+CREATE TABLE otp_requests_default PARTITION OF otp_requests_partitioned DEFAULT;
+
+-- Yesterday up to three days ahead; the scheduler keeps extending the range
+DO $$
+DECLARE
+    day DATE;
+BEGIN
+    FOR day IN SELECT generate_series(current_date - 1, current_date + 3, interval '1 day')::date LOOP
+        EXECUTE format('CREATE TABLE otp_requests_p%s PARTITION OF otp_requests_partitioned FOR VALUES FROM (%L) TO (%L)',
+                       to_char(day, 'YYYYMMDD'), day, day + 1);
+    END LOOP;
+END $$;
+
+-- Only OTPs that can still be validated are carried over; older rows are expired and go with the old table
+INSERT INTO otp_requests_partitioned
+SELECT id, phone_number, public_key_hash, otp_hash, otp_code, status, created_at, updated_at
+FROM otp_requests
+WHERE created_at >= current_date - 1;
+
+DROP TABLE otp_requests;
+ALTER TABLE otp_requests_partitioned RENAME TO otp_requests;
+ALTER TABLE otp_requests RENAME CONSTRAINT otp_requests_partitioned_pkey TO otp_requests_pkey;
+
+CREATE INDEX idx_otp_requests_pending ON otp_requests (created_at)
+    INCLUDE (phone_number, otp_code, status)
+    WHERE status = 'PENDING';
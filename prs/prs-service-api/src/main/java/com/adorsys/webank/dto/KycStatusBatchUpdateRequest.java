@@ -0,0 +1,22 @@
+package com.adorsys.webank.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Batch of KYC status decisions submitted by a back-office reviewer")
+public class KycStatusBatchUpdateRequest {
+
+    @ArraySchema(schema = @Schema(implementation = KycStatusUpdateDto.class),
+            arraySchema = @Schema(description = "Status updates to apply, one per account", required = true))
+    private List<KycStatusUpdateDto> updates;
+}
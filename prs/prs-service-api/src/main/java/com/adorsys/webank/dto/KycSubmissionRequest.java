@@ -0,0 +1,62 @@
+package com.adorsys.webank.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Complete KYC submission combining personal information, location, email and documents")
+public class KycSubmissionRequest {
+
+    @Schema(description = "User's account identifier", 
+            example = "ACC_1234567890", 
+            required = true)
+    private String accountId;
+
+    @Schema(description = "National ID or passport number", 
+            example = "ID123456789", 
+            required = true,
+            minLength = 5,
+            maxLength = 20)
+    private String idNumber;
+
+    @Schema(description = "Document expiry date in ISO format", 
+            example = "2025-12-31", 
+            required = true,
+            pattern = "^\\d{4}-\\d{2}-\\d{2}$")
+    private String expiryDate;
+
+    @Schema(description = "User's location or address", 
+            example = "123 Main St, Apartment 4B, New York, NY 10001", 
+            required = true)
+    private String location;
+
+    @Schema(description = "User's email address", 
+            example = "user@example.com", 
+            required = true)
+    private String email;
+
+    @Schema(description = "Front side of ID document identifier/URL", 
+            example = "doc_front_123456", 
+            required = true)
+    private String frontId;
+
+    @Schema(description = "Back side of ID document identifier/URL", 
+            example = "doc_back_123456", 
+            required = true)
+    private String backId;
+
+    @Schema(description = "Selfie photo identifier/URL for identity verification", 
+            example = "doc_selfie_123456", 
+            required = true)
+    private String selfieId;
+
+    @Schema(description = "Tax document identifier/URL", 
+            example = "doc_tax_123456")
+    private String taxId;
+}
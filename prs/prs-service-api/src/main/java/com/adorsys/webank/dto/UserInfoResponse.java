@@ -19,4 +19,8 @@ public class UserInfoResponse {
     private String selfie;
     private String taxDocument;
     private String rejectionReason;
+    private String frontThumbnail;
+    private String backThumbnail;
+    private String selfieThumbnail;
+    private String taxThumbnail;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.adorsys.webank.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "KYC decision pushed to a client waiting on the status stream")
+public class KycStatusChangeResponse {
+
+    @Schema(description = "User's account identifier", example = "ACC_1234567890")
+    private String accountId;
+
+    @Schema(description = "Decided KYC status", example = "APPROVED", allowableValues = {"APPROVED", "REJECTED"})
+    private String status;
+
+    @Schema(description = "When the decision was recorded", example = "2025-01-20T15:30:00")
+    private LocalDateTime changedAt;
+}
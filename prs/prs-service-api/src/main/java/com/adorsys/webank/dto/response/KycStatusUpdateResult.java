@@ -0,0 +1,22 @@
+package com.adorsys.webank.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of one item of a batch KYC status update")
+public class KycStatusUpdateResult {
+
+    @Schema(description = "User's account identifier", example = "ACC_1234567890")
+    private String accountId;
+
+    @Schema(description = "Whether the status was updated", example = "true")
+    private boolean success;
+
+    @Schema(description = "Result message, identical to the single update endpoint", example = "KYC status updated successfully to APPROVED")
+    private String message;
+}
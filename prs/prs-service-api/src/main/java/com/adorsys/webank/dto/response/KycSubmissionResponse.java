@@ -0,0 +1,27 @@
+package com.adorsys.webank.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Complete KYC submission response")
+public class KycSubmissionResponse {
+
+    @Schema(description = "Unique KYC record identifier", example = "ACC_1234567890", required = true)
+    private String kycId;
+
+    @Schema(description = "KYC processing status", example = "PENDING", required = true)
+    private KycResponse.KycStatus status;
+
+    @Schema(description = "Submission timestamp", example = "2025-01-20T15:30:00")
+    private LocalDateTime submittedAt;
+
+    @Schema(description = "Additional processing message", example = "KYC submission received successfully")
+    private String message;
+}
@@ -9,11 +9,13 @@ import com.adorsys.webank.dto.KycDocumentRequest;
 import com.adorsys.webank.dto.KycEmailRequest;
 import com.adorsys.webank.dto.KycInfoRequest;
 import com.adorsys.webank.dto.KycLocationRequest;
+import com.adorsys.webank.dto.KycSubmissionRequest;
 import com.adorsys.webank.dto.UserInfoResponse;
 import com.adorsys.webank.dto.response.KycDocumentResponse;
 import com.adorsys.webank.dto.response.KycEmailResponse;
 import com.adorsys.webank.dto.response.KycInfoResponse;
 import com.adorsys.webank.dto.response.KycLocationResponse;
+import com.adorsys.webank.dto.response.KycSubmissionResponse;
 import com.adorsys.webank.projection.PersonalInfoProjection;
 
 @Service
@@ -22,6 +24,7 @@ public interface KycServiceApi {
     KycInfoResponse sendKycInfo(String accountId, KycInfoRequest kycInfoRequest);
     KycLocationResponse sendKycLocation(KycLocationRequest kycLocationRequest);
     KycEmailResponse sendKycEmail(KycEmailRequest kycEmailRequest);
+    KycSubmissionResponse submitKyc(KycSubmissionRequest kycSubmissionRequest);
     Optional<PersonalInfoProjection> getPersonalInfoAccountId(String accountId);
     List<UserInfoResponse> getPendingKycRecords();
     List<UserInfoResponse> findByDocumentUniqueId(String documentUniqueId);
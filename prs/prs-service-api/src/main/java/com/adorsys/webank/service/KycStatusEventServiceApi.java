@@ -0,0 +1,18 @@
+package com.adorsys.webank.service;
+
+import com.adorsys.webank.dto.response.KycStatusChangeResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public interface KycStatusEventServiceApi {
+
+    /**
+     * Waits for the account's KYC decision without holding a thread.
+     *
+     * @return a future completed with the decision as soon as the account is APPROVED or REJECTED (immediately
+     * if it already is), with {@code null} when the wait times out or the server is at its waiter limit
+     */
+    CompletableFuture<KycStatusChangeResponse> awaitDecision(String accountId);
+}
@@ -1,7 +1,11 @@
 package com.adorsys.webank.service;
 
+import com.adorsys.webank.dto.KycStatusUpdateDto;
+import com.adorsys.webank.dto.response.KycStatusUpdateResult;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public interface KycStatusUpdateServiceApi {
     /**
@@ -12,4 +16,14 @@ public interface KycStatusUpdateServiceApi {
      * @return A confirmation message.
      */
     String updateKycStatus(String accountId, String newStatus, String idNumber, String expiryDate, String rejectionReason);
+
+    /**
+     * Applies several KYC status decisions in one transaction, or one transaction per shard when the
+     * account tables are sharded. Items are validated independently: an invalid item is reported in its
+     * result and does not prevent the others from being applied.
+     *
+     * @param updates The status updates, at most one per account.
+     * @return One result per update, in request order.
+     */
+    List<KycStatusUpdateResult> updateKycStatuses(List<KycStatusUpdateDto> updates);
 }
@@ -8,8 +8,10 @@ package com.adorsys.webank;
 
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
+@EnableScheduling
 @ComponentScan(basePackageClasses= {ServiceimplBasePackage.class})
 public class ServiceimplConfiguration {
 }
@@ -0,0 +1,184 @@
+package com.adorsys.webank.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Records how long each service method holds a pooled database connection, as the {@code prs.db.connection.hold}
+ * histogram tagged with the class and method of the {@code *ServiceImpl} call that took it. The time runs from
+ * {@code getConnection} to {@code close} on the application's data source, the span Hikari reports as
+ * {@code hikaricp.connections.usage}, so it covers everything done while the connection is bound and not only the
+ * transaction. Connections taken outside a service method, by Flyway, health checks or schedulers, are not recorded.
+ */
+@Configuration
+public class ConnectionHoldConfiguration {
+
+    static final String METRIC_NAME = "prs.db.connection.hold";
+
+    private static final String SERVICE_PACKAGE = "com.adorsys.webank.serviceimpl";
+    private static final String DATA_SOURCE = "dataSource";
+
+    /** The outermost service method running on the thread. */
+    private static final ThreadLocal<ServiceMethod> CURRENT = new ThreadLocal<>();
+
+    record ServiceMethod(String type, String method) {
+    }
+
+    @Bean
+    static BeanPostProcessor serviceMethodPostProcessor() {
+        ClassFilter services = type -> SERVICE_PACKAGE.equals(type.getPackageName())
+                && type.getSimpleName().endsWith("ServiceImpl");
+        DefaultPointcutAdvisor serviceAdvisor = new DefaultPointcutAdvisor(new ComposablePointcut(services),
+                new ServiceMethodInterceptor());
+        AbstractAdvisingBeanPostProcessor postProcessor = new AbstractAdvisingBeanPostProcessor() {
+            {
+                this.advisor = serviceAdvisor;
+            }
+        };
+        postProcessor.setProxyTargetClass(true);
+        // Outside the transaction interceptor, which takes the connection when the transaction begins
+        postProcessor.setBeforeExistingAdvisors(true);
+        return postProcessor;
+    }
+
+    @Bean
+    static BeanPostProcessor connectionHoldPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        // Resolved on first use, since post-processors are created before the registry
+        Supplier<MeterRegistry> registry = SingletonSupplier.of(meterRegistry::getIfAvailable);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the data source the application uses, not the pools a routing data source delegates to
+                if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+                    return new ConnectionHoldDataSource(dataSource, registry);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Marks the thread as running a service method; nested service calls keep the outermost one.
+     */
+    static final class ServiceMethodInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+            CURRENT.set(new ServiceMethod(ClassUtils.getUserClass(invocation.getThis()).getSimpleName(),
+                    invocation.getMethod().getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Times every connection taken inside a service method until it is closed, that is returned to the pool.
+     */
+    static final class ConnectionHoldDataSource extends DelegatingDataSource {
+
+        private final Supplier<MeterRegistry> registry;
+        private final Map<ServiceMethod, Timer> timers = new ConcurrentHashMap<>();
+
+        ConnectionHoldDataSource(DataSource targetDataSource, Supplier<MeterRegistry> registry) {
+            super(targetDataSource);
+            this.registry = registry;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return timed(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return timed(super.getConnection(username, password));
+        }
+
+        private Connection timed(Connection connection) {
+            ServiceMethod serviceMethod = CURRENT.get();
+            MeterRegistry meterRegistry = registry.get();
+            if (serviceMethod == null || meterRegistry == null) {
+                return connection;
+            }
+            Timer timer = timers.computeIfAbsent(serviceMethod, method -> Timer.builder(METRIC_NAME)
+                    .description("Time a service method holds a pooled database connection")
+                    .tag("class", method.type())
+                    .tag("method", method.method())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            return (Connection) Proxy.newProxyInstance(ConnectionProxy.class.getClassLoader(),
+                    new Class<?>[]{ConnectionProxy.class},
+                    new HoldTimingHandler(connection, Timer.start(meterRegistry), timer));
+        }
+    }
+
+    private static final class HoldTimingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final Timer.Sample sample;
+        private final Timer timer;
+        private boolean closed;
+
+        HoldTimingHandler(Connection target, Timer.Sample sample, Timer timer) {
+            this.target = target;
+            this.sample = sample;
+            this.timer = timer;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getTargetConnection":
+                    return target;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        sample.stop(timer);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
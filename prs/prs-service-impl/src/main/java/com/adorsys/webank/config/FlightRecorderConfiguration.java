@@ -0,0 +1,46 @@
+package com.adorsys.webank.config;
+
+import com.adorsys.webank.observability.RepositoryCallEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+/**
+ * Records every repository call as a {@link RepositoryCallEvent} while the continuous JFR recording is enabled, so
+ * that database time shows up in a recording next to the stages of the request.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "flight-recorder", name = "enabled", havingValue = "true")
+public class FlightRecorderConfiguration {
+
+    @Bean
+    static BeanPostProcessor repositoryFlightRecorderPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Before initialization, since the factory bean creates its repository in afterPropertiesSet
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(recordingCalls(
+                                    repository.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    static MethodInterceptor recordingCalls(String repository) {
+        return invocation -> {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            event.begin();
+            try {
+                return invocation.proceed();
+            } finally {
+                event.record(repository, invocation.getMethod().getName());
+            }
+        };
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Map;
 public class PasswordEncoderConfig {
     /**
      * Creates and configures a DelegatingPasswordEncoder bean with Argon2 as the default and only encoder.
+     * Encoding and matching are timed as stages of request processing.
      *
      * @return Configured DelegatingPasswordEncoder instance
      */
@@ -30,6 +31,6 @@ public class PasswordEncoderConfig {
         Map<String, PasswordEncoder> encoders = new HashMap<>();
         encoders.put(encodingId, argon2);
 
-        return new DelegatingPasswordEncoder(encodingId, encoders);
+        return new TimedPasswordEncoder(new DelegatingPasswordEncoder(encodingId, encoders));
     }
 }
\ No newline at end of file
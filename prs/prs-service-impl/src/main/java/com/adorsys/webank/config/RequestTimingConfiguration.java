@@ -0,0 +1,50 @@
+package com.adorsys.webank.config;
+
+import com.adorsys.webank.observability.RequestTimings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds the database side of a request into its {@link RequestTimings}: the time spent in repository calls, as
+ * {@code db}, and the number of SQL statements Hibernate sends. Registered only when requests are timed, for the
+ * {@code Server-Timing} header or the slow request recorder, so that nothing is added to the data access otherwise.
+ */
+@Configuration
+@ConditionalOnExpression("${server-timing.enabled:false} or ${slow-requests.enabled:false}")
+public class RequestTimingConfiguration {
+
+    static final String DB_TIMING = "db";
+
+    @Bean
+    static BeanPostProcessor repositoryTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Before initialization, since the factory bean creates its repository in afterPropertiesSet
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addInvocationListener(
+                            invocation -> RequestTimings.record(DB_TIMING,
+                                    invocation.getDuration(TimeUnit.NANOSECONDS))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementCountingCustomizer() {
+        StatementInspector inspector = sql -> {
+            RequestTimings.countStatement();
+            return sql;
+        };
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+    }
+}
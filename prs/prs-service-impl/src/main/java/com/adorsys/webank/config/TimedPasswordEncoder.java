@@ -0,0 +1,32 @@
+package com.adorsys.webank.config;
+
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Records every Argon2 encode and match in the {@code prs.stage} timer; these dominate the CPU time of the OTP flows.
+ */
+class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+
+    TimedPasswordEncoder(PasswordEncoder delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return StageTimer.record(Stage.PASSWORD_ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return StageTimer.record(Stage.PASSWORD_MATCH, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
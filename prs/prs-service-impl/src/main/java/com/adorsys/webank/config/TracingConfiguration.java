@@ -0,0 +1,142 @@
+package com.adorsys.webank.config;
+
+import com.adorsys.webank.observability.Spans;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PostConstruct;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Traces the application layers that Spring Boot does not: every public method of the {@code *ServiceImpl} services
+ * runs in a {@code prs.service} observation and every repository call in a {@code prs.repository} observation, so
+ * that with the HTTP server span and the stage spans of {@link Spans} a trace shows the request's nesting.
+ * Service observations also produce a {@code prs.service} timer tagged with the class and method; repository calls are
+ * already timed by {@code spring.data.repository.invocations}, so {@code prs.repository} only produces spans.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "management.tracing", name = "enabled", matchIfMissing = true)
+public class TracingConfiguration {
+
+    static final String SERVICE_OBSERVATION = "prs.service";
+    static final String REPOSITORY_OBSERVATION = "prs.repository";
+
+    private static final String SERVICE_PACKAGE = "com.adorsys.webank.serviceimpl";
+
+    private final ObjectProvider<Tracer> tracer;
+
+    public TracingConfiguration(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @PostConstruct
+    void installStageTracer() {
+        tracer.ifAvailable(Spans::install);
+    }
+
+    @Bean
+    static BeanPostProcessor serviceObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        ClassFilter services = type -> SERVICE_PACKAGE.equals(type.getPackageName())
+                && type.getSimpleName().endsWith("ServiceImpl");
+        DefaultPointcutAdvisor serviceAdvisor = new DefaultPointcutAdvisor(
+                new ComposablePointcut(services, new NotObjectMethod()),
+                new ObservedMethodInterceptor(SERVICE_OBSERVATION, "class", null, registry(observationRegistry)));
+        AbstractAdvisingBeanPostProcessor postProcessor = new AbstractAdvisingBeanPostProcessor() {
+            {
+                this.advisor = serviceAdvisor;
+            }
+        };
+        postProcessor.setProxyTargetClass(true);
+        // Outside the transaction interceptor, so the span includes the commit
+        postProcessor.setBeforeExistingAdvisors(true);
+        return postProcessor;
+    }
+
+    @Bean
+    static BeanPostProcessor repositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        Supplier<ObservationRegistry> registry = registry(observationRegistry);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // Before initialization, since the factory bean creates its repository in afterPropertiesSet
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repository) -> proxyFactory.addAdvice(0, new ObservedMethodInterceptor(
+                                    REPOSITORY_OBSERVATION, "repository",
+                                    repository.getRepositoryInterface().getSimpleName(), registry))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    static MeterFilter repositoryObservationMeterFilter() {
+        // Drops the timer and the active-invocations gauge of the repository observation
+        return MeterFilter.deny(id -> id.getName().equals(REPOSITORY_OBSERVATION)
+                || id.getName().startsWith(REPOSITORY_OBSERVATION + "."));
+    }
+
+    private static Supplier<ObservationRegistry> registry(ObjectProvider<ObservationRegistry> observationRegistry) {
+        // Resolved on first use, since post-processors are created before the registry; until then, and without a
+        // registry, observations are no-ops
+        return SingletonSupplier.of(observationRegistry::getIfAvailable);
+    }
+
+    private static final class NotObjectMethod extends StaticMethodMatcher {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return method.getDeclaringClass() != Object.class;
+        }
+    }
+
+    /**
+     * Runs each invocation in an observation named after the type and method, e.g. {@code KycServiceImpl.getKycCert}.
+     */
+    static final class ObservedMethodInterceptor implements MethodInterceptor {
+
+        private final String name;
+        private final String typeKey;
+        private final String typeName;
+        private final Supplier<ObservationRegistry> registry;
+
+        /**
+         * @param typeName the type shown in the span, or {@code null} for the class of the invoked object
+         */
+        ObservedMethodInterceptor(String name, String typeKey, String typeName, Supplier<ObservationRegistry> registry) {
+            this.name = name;
+            this.typeKey = typeKey;
+            this.typeName = typeName;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            String type = typeName != null ? typeName : ClassUtils.getUserClass(invocation.getThis()).getSimpleName();
+            String method = invocation.getMethod().getName();
+            return Observation.createNotStarted(name, registry.get())
+                    .contextualName(type + "." + method)
+                    .lowCardinalityKeyValue(typeKey, type)
+                    .lowCardinalityKeyValue("method", method)
+                    .observeChecked(invocation::proceed);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory filter over known account IDs that lets the KYC location, email, email OTP and
+ * recovery endpoints reject unknown accounts without a database lookup.
+ * <p>
+ * Accounts created on another instance are only seen after the next refresh, so the filter must stay disabled
+ * when requests of one registration flow can reach different instances.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "kyc.account-filter")
+public class AccountIdFilterProperties {
+
+    private boolean enabled = false;
+
+    /** Number of accounts the filter is sized for; the actual row count is used when it is larger. */
+    @Min(1)
+    private long expectedInsertions = 1_000_000;
+
+    /** Target rate at which unknown account IDs still pass the filter and hit the database. */
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax(value = "0.5")
+    private double falsePositiveRate = 0.01;
+
+    /** Upper bound on the filter's memory; when reached, the false-positive rate grows instead. */
+    @NotNull
+    private DataSize maxMemory = DataSize.ofMegabytes(16);
+
+    /** Interval between full rebuilds from the database, dropping stale bits and picking up other instances' inserts. */
+    @NotNull
+    private Duration refreshInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,33 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for re-serving issued KYC certificates to the same account and device key.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "kyc.cache.cert")
+public class KycCertCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Maximum number of accounts whose certificates are kept. */
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    /**
+     * Fraction of a certificate's lifetime ({@code jwt.expiration-time-ms}) during which it is re-served;
+     * afterwards a fresh certificate is signed, so clients never receive one that is about to expire.
+     */
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double reuseFraction = 0.5;
+}
@@ -0,0 +1,48 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the optional post-upload normalisation of KYC document images.
+ * When disabled, uploaded documents are stored exactly as received.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "kyc.documents.processing")
+public class KycDocumentProcessingProperties {
+
+    private boolean enabled = false;
+
+    /** Longest edge, in pixels, of the stored document image. */
+    @Min(256)
+    private int maxDimension = 1600;
+
+    @DecimalMin("0.1")
+    @DecimalMax("1.0")
+    private float jpegQuality = 0.85f;
+
+    /** Longest edge, in pixels, of the thumbnail used by back-office list views. */
+    @Min(32)
+    private int thumbnailDimension = 256;
+
+    @DecimalMin("0.1")
+    @DecimalMax("1.0")
+    private float thumbnailQuality = 0.7f;
+
+    /** Images declaring more pixels than this are left untouched instead of being decoded. */
+    @Min(1)
+    private long maxSourcePixels = 60_000_000L;
+
+    @Min(1)
+    private int workerThreads = 2;
+
+    @Min(1)
+    private int queueCapacity = 100;
+}
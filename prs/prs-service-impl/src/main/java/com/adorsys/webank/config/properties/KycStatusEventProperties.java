@@ -0,0 +1,47 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the KYC status event feed that pushes decisions to waiting clients.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "kyc.status-events")
+public class KycStatusEventProperties {
+
+    /** How often the outbox is polled while clients are waiting. */
+    @NotNull
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * How far behind the last seen event each poll looks again, so events from transactions that committed
+     * late are still picked up.
+     */
+    @NotNull
+    private Duration lookback = Duration.ofSeconds(5);
+
+    /** How long a client waits for a decision before it has to reconnect. */
+    @NotNull
+    private Duration waitTimeout = Duration.ofSeconds(60);
+
+    /** Upper bound on concurrently waiting clients per instance. */
+    @Min(1)
+    private int maxWaiters = 10_000;
+
+    /** How long events are kept in the outbox. */
+    @NotNull
+    private Duration retention = Duration.ofHours(1);
+
+    /** How often expired events are purged. */
+    @NotNull
+    private Duration purgeInterval = Duration.ofMinutes(10);
+}
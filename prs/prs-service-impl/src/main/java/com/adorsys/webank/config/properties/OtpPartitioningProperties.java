@@ -0,0 +1,60 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Settings for the daily partitioning of {@code otp_requests}. Enabling it requires the
+ * {@code classpath:db/partitioning} Flyway location, which converts the table.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "otp.partitioning")
+public class OtpPartitioningProperties {
+
+    /** Lookup start used without partitioning: the public key hash is unique across the whole table. */
+    private static final LocalDateTime UNBOUNDED_LOOKUP_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public enum RetireMode {
+        /** Detach expired partitions and keep them as standalone tables, e.g. for archiving. */
+        DETACH,
+        /** Detach and drop expired partitions. */
+        DROP
+    }
+
+    private boolean enabled = false;
+
+    /** Number of daily partitions created ahead of the current day. */
+    @Min(1)
+    private int daysAhead = 3;
+
+    /** Age after which a whole partition is retired. */
+    @NotNull
+    private Duration retention = Duration.ofDays(2);
+
+    @NotNull
+    private RetireMode retireMode = RetireMode.DROP;
+
+    /** How far back OTP lookups search; keeps queries on the most recent partitions. */
+    @NotNull
+    private Duration lookupWindow = Duration.ofDays(1);
+
+    /** Interval between partition maintenance runs. */
+    @NotNull
+    private Duration maintenanceInterval = Duration.ofHours(1);
+
+    /**
+     * Lower bound on {@code created_at} for OTP lookups starting at {@code now}.
+     */
+    public LocalDateTime lookupStart(LocalDateTime now) {
+        return enabled ? now.minus(lookupWindow) : UNBOUNDED_LOOKUP_START;
+    }
+}
@@ -0,0 +1,31 @@
+package com.adorsys.webank.config.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Settings for the in-memory read-through cache of personal info used by the cert, recovery and status lookups.
+ * Entries are evicted locally on every write, so the TTL only bounds staleness caused by other instances.
+ */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "kyc.cache.personal-info")
+public class PersonalInfoCacheProperties {
+
+    private boolean enabled = true;
+
+    /** Maximum number of accounts kept in memory. */
+    @Min(1)
+    private long maximumSize = 10_000;
+
+    /** Time after which an entry is reloaded from the database. */
+    @NotNull
+    private Duration ttl = Duration.ofSeconds(30);
+}
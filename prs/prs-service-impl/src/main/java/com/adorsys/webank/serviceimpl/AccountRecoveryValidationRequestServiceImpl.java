@@ -4,6 +4,8 @@ import com.adorsys.error.ValidationException;
 import com.adorsys.webank.config.CertGeneratorHelper;
 import com.adorsys.webank.dto.AccountRecoveryResponse;
 import com.adorsys.webank.service.AccountRecoveryValidationRequestServiceApi;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
@@ -46,7 +48,7 @@ public class AccountRecoveryValidationRequestServiceImpl implements AccountRecov
     }
 
     private SignedJWT parseRecoveryJwt(String recoveryJwt) throws ParseException {
-        return SignedJWT.parse(recoveryJwt);
+        return StageTimer.record(Stage.JOSE_PARSE, () -> SignedJWT.parse(recoveryJwt));
     }
 
     private String generateNewKycCertificate(JWK publicKey) {
@@ -3,6 +3,7 @@ package com.adorsys.webank.serviceimpl;
 import com.adorsys.webank.config.JwtUtils;
 import com.adorsys.webank.config.KeyLoader;
 import com.adorsys.webank.config.SecurityUtils;
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.DeviceRegInitRequest;
 import com.adorsys.webank.dto.DeviceValidateRequest;
 import com.adorsys.webank.dto.response.DeviceResponse;
@@ -10,6 +11,8 @@ import com.adorsys.webank.dto.response.DeviceValidationResponse;
 import com.adorsys.webank.model.ProofOfWorkData;
 import com.adorsys.webank.properties.JwtProperties;
 import com.adorsys.webank.service.DeviceRegServiceApi;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.JWSHeader;
@@ -91,11 +94,12 @@ public class DeviceRegServiceImpl implements DeviceRegServiceApi {
         ProofOfWorkData powData = ProofOfWorkData.create(initiationNonce, devicePub, powNonce);
 
         log.debug("Validating with initiation nonce: {}, device public key ID: {} [correlationId={}]", 
-                maskData(initiationNonce), maskKeyId(devicePub.getKeyID()), correlationId);
+                PiiMask.identifier(initiationNonce), PiiMask.identifier(devicePub.getKeyID()), correlationId);
         
         try {
             powJSON = objectMapper.writeValueAsString(powData);
-            String hashInput = new JsonCanonicalizer(powJSON).getEncodedString();
+            String hashInput = StageTimer.record(Stage.JSON_CANONICALIZATION,
+                    () -> new JsonCanonicalizer(powJSON).getEncodedString());
 
             // Step 3: Verify the proof of work
             String powValidationError = validateProofOfWork(hashInput, powJSON, newPowHash);
@@ -119,8 +123,8 @@ public class DeviceRegServiceImpl implements DeviceRegServiceApi {
         }
         
         log.debug("Canonicalizing device public key [correlationId={}]", correlationId);
-        JsonCanonicalizer jc = new JsonCanonicalizer(devicePub.toJSONString());
-        String devicePublicKey = jc.getEncodedString();
+        String devicePublicKey = StageTimer.record(Stage.JSON_CANONICALIZATION,
+                () -> new JsonCanonicalizer(devicePub.toJSONString()).getEncodedString());
         
         log.info("Device validation successful, generating certificate [correlationId={}]", correlationId);
         String certificate = generateDeviceCertificate(devicePublicKey);
@@ -232,7 +236,10 @@ public class DeviceRegServiceImpl implements DeviceRegServiceApi {
             // Create JWT token
             log.debug("Signing JWT");
             SignedJWT signedJWT = new SignedJWT(header, claimsSet);
-            signedJWT.sign(signer);
+            StageTimer.record(Stage.CERTIFICATE_SIGNING, () -> {
+                signedJWT.sign(signer);
+                return null;
+            });
 
             String certificate = signedJWT.serialize();
             log.info("Device certificate generated successfully, expires in {} seconds", jwtProperties.getExpirationTimeMs()/1000);
@@ -248,24 +255,4 @@ public class DeviceRegServiceImpl implements DeviceRegServiceApi {
             throw new IllegalStateException("Error generating device certificate", e);
         }
     }
-    
-    /**
-     * Masks a key ID for logging purposes
-     */
-    private String maskKeyId(String keyId) {
-        if (keyId == null || keyId.length() < 5) {
-            return "********";
-        }
-        return keyId.substring(0, 2) + "****" + keyId.substring(keyId.length() - 2);
-    }
-    
-    /**
-     * Masks general sensitive data for logging
-     */
-    private String maskData(String data) {
-        if (data == null || data.length() < 5) {
-            return "********";
-        }
-        return data.substring(0, 2) + "****" + data.substring(data.length() - 2);
-    }
 }
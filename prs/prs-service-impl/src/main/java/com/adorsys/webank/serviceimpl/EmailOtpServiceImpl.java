@@ -4,13 +4,19 @@ import com.adorsys.error.AccountNotFoundException;
 import com.adorsys.error.FailedToSendOTPException;
 import com.adorsys.error.HashComputationException;
 import com.adorsys.error.ValidationException;
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.dto.response.EmailResponse;
 import com.adorsys.webank.dto.response.EmailValidationResponse;
 import com.adorsys.webank.model.EmailOtpData;
 import com.adorsys.webank.repository.PersonalInfoRepository;
 import com.adorsys.webank.service.EmailOtpServiceApi;
+import com.adorsys.webank.serviceimpl.cache.AccountIdFilter;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
 import com.adorsys.webank.serviceimpl.helper.MailHelper;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +43,9 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
     private final ObjectMapper objectMapper;
     private final PasswordEncoder passwordEncoder;
     private final MailHelper mailHelper;
+    private final PersonalInfoCache personalInfoCache;
+    private final AccountIdFilter accountIdFilter;
+    private final WriteTransactions writeTransactions;
 
     // Constants
     private static final int OTP_EXPIRATION_MINUTES = 5;
@@ -53,38 +62,46 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
     }
 
     @Override
-    @Transactional
     public EmailResponse sendEmailOtp(String accountId, String email) {
         String correlationId = MDC.get("correlationId");
         log.info("Initiating Email OTP send process for account: {} [correlationId={}]",
-                mailHelper.maskAccountId(accountId), correlationId);
-        log.debug("Target email: {} [correlationId={}]", mailHelper.maskEmail(email), correlationId);
+                PiiMask.accountId(accountId), correlationId);
+        log.debug("Target email: {} [correlationId={}]", PiiMask.email(email), correlationId);
         
         validateEmailFormat(email);
 
         if (accountId == null || accountId.trim().isEmpty()) {
             log.error("Invalid accountId provided: {} [correlationId={}]",
-                    mailHelper.maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             throw new ValidationException("Account ID cannot be null or empty");
         }
 
         try {
+            if (!accountIdFilter.mightContain(accountId)) {
+                throw new AccountNotFoundException("No user found for account: " + accountId);
+            }
             String otp = generateOtp();
-            PersonalInfoEntity personalInfo = personalInfoRepository.findById(accountId)
-                    .orElseThrow(() -> new AccountNotFoundException("No user found for account: " + accountId));
-
+            // Hashed before the transaction, and the mail sent after it, so the connection is held for the write only
+            String otpHash = computeOtpHash(otp, accountId);
             LocalDateTime otpExpiration = LocalDateTime.now().plusMinutes(OTP_EXPIRATION_MINUTES);
-            personalInfo.setEmail(email);
-            personalInfo.setEmailOtpCode(otp);
-            personalInfo.setEmailOtpHash(computeOtpHash(otp, accountId));
-            personalInfo.setOtpExpirationDateTime(otpExpiration);
 
-            personalInfoRepository.save(personalInfo);
+            writeTransactions.execute(() -> {
+                PersonalInfoEntity personalInfo = personalInfoRepository.findById(accountId)
+                        .orElseThrow(() -> new AccountNotFoundException("No user found for account: " + accountId));
+                personalInfo.setEmail(email);
+                personalInfo.setEmailOtpCode(otp);
+                personalInfo.setEmailOtpHash(otpHash);
+                personalInfo.setOtpExpirationDateTime(otpExpiration);
+
+                personalInfoRepository.save(personalInfo);
+                personalInfoCache.evictAfterCommit(accountId);
+                return personalInfo;
+            });
             log.debug("OTP record saved for account: {} with expiration: {} [correlationId={}]",
-                    mailHelper.maskAccountId(accountId), otpExpiration, correlationId);
+                    PiiMask.accountId(accountId), otpExpiration, correlationId);
 
             mailHelper.sendOtpEmail(email, otp);
-            log.info("OTP email sent to: {} [correlationId={}]", mailHelper.maskEmail(email), correlationId);
+            log.info("OTP email sent to: {} [correlationId={}]", PiiMask.email(email), correlationId);
 
             return new EmailResponse(
                 EmailResponse.EmailStatus.SUCCESS,
@@ -92,11 +109,11 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
                 "OTP sent successfully to " + email
             );
         } catch (AccountNotFoundException e) {
-            log.warn("Attempted to send OTP to a non-existent account: {} [correlationId={}]", mailHelper.maskAccountId(accountId), MDC.get("correlationId"));
+            log.warn("Attempted to send OTP to a non-existent account: {} [correlationId={}]", PiiMask.accountId(accountId), MDC.get("correlationId"));
             throw e;
         } catch (Exception e) {
             log.error("Failed to send Email OTP to account: {} [correlationId={}]",
-                    mailHelper.maskAccountId(accountId), correlationId, e);
+                    PiiMask.accountId(accountId), correlationId, e);
             throw new FailedToSendOTPException("Failed to send Webank email OTP: " + e.getMessage());
         }
     }
@@ -106,21 +123,21 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
     public EmailValidationResponse validateEmailOtp(String email, String otpInput, String accountId) {
         String correlationId = MDC.get("correlationId");
         log.info("Validating Email OTP for account: {} [correlationId={}]", 
-                mailHelper.maskAccountId(accountId), correlationId);
+                PiiMask.accountId(accountId), correlationId);
 
         try {
             PersonalInfoEntity entity = getPersonalInfo(accountId);
             validateOtp(otpInput, entity);
             clearOtpFields(entity);
 
-            log.info("OTP validated successfully for account: {} [correlationId={}]", mailHelper.maskAccountId(accountId), correlationId);
+            log.info("OTP validated successfully for account: {} [correlationId={}]", PiiMask.accountId(accountId), correlationId);
             return new EmailValidationResponse(
                 EmailValidationResponse.ValidationStatus.SUCCESS,
                 LocalDateTime.now(),
                 "OTP validated successfully for " + email
             );
         } catch (Exception e) {
-            log.error("OTP validation failed for account: {} [correlationId={}]", mailHelper.maskAccountId(accountId), correlationId, e);
+            log.error("OTP validation failed for account: {} [correlationId={}]", PiiMask.accountId(accountId), correlationId, e);
             return new EmailValidationResponse(
                 EmailValidationResponse.ValidationStatus.FAILED,
                 LocalDateTime.now(),
@@ -134,7 +151,7 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
         return personalInfoRepository.findById(accountId)
                 .orElseThrow(() -> {
                     log.warn("User record not found for account: {} [correlationId={}]",
-                            mailHelper.maskAccountId(accountId), correlationId);
+                            PiiMask.accountId(accountId), correlationId);
                     return new AccountNotFoundException("User record not found");
                 });
     }
@@ -145,14 +162,14 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
         String otpHash = entity.getEmailOtpHash();
         if (otpHash == null || otpHash.isEmpty()) {
             log.warn("OTP hash not found for account: {} [correlationId={}]", 
-                    mailHelper.maskAccountId(entity.getAccountId()), MDC.get("correlationId"));
+                    PiiMask.accountId(entity.getAccountId()), MDC.get("correlationId"));
             throw new ValidationException("No OTP has been generated for this account.");
         }
 
         String rawData = computeRawData(otp, entity.getAccountId());
         if (!passwordEncoder.matches(rawData, otpHash)) {
             log.warn("Invalid OTP provided for account: {} [correlationId={}]", 
-                    mailHelper.maskAccountId(entity.getAccountId()), MDC.get("correlationId"));
+                    PiiMask.accountId(entity.getAccountId()), MDC.get("correlationId"));
             throw new ValidationException("Invalid OTP provided.");
         }
     }
@@ -162,18 +179,19 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
         entity.setEmailOtpHash(null);
         entity.setOtpExpirationDateTime(null);
         personalInfoRepository.save(entity);
+        personalInfoCache.evictAfterCommit(entity.getAccountId());
     }
 
     private void validateOtpExpiration(LocalDateTime expirationDateTime, String accountId) {
         String correlationId = MDC.get("correlationId");
         if (expirationDateTime == null || expirationDateTime.isBefore(LocalDateTime.now())) {
             log.warn("Email OTP expired for account: {}, expired at: {} [correlationId={}]",
-                    mailHelper.maskAccountId(accountId), expirationDateTime, correlationId);
+                    PiiMask.accountId(accountId), expirationDateTime, correlationId);
             throw new ValidationException("OTP has expired. Please request a new one.");
         }
         
         log.debug("Email OTP expiration valid for account: {}, expires at: {} [correlationId={}]",
-                mailHelper.maskAccountId(accountId), expirationDateTime, correlationId);
+                PiiMask.accountId(accountId), expirationDateTime, correlationId);
     }
 
     private String computeRawData(String otp, String accountId) {
@@ -188,10 +206,10 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
 
     private void validateEmailFormat(String email) {
         String correlationId = MDC.get("correlationId");
-        log.debug("Validating email format: {} [correlationId={}]", mailHelper.maskEmail(email), correlationId);
+        log.debug("Validating email format: {} [correlationId={}]", PiiMask.email(email), correlationId);
         if (!email.matches(EMAIL_REGEX)) {
             log.warn("Invalid email format provided: {} [correlationId={}]",
-                    mailHelper.maskEmail(email), correlationId);
+                    PiiMask.email(email), correlationId);
             throw new ValidationException("Invalid email format");
         }
         log.debug("Email format validation successful [correlationId={}]", correlationId);
@@ -200,7 +218,7 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
     String computeOtpHash(String emailOtp, String accountId) {
         String correlationId = MDC.get("correlationId");
         log.debug("Computing OTP hash for account: {} [correlationId={}]",
-                mailHelper.maskAccountId(accountId), correlationId);
+                PiiMask.accountId(accountId), correlationId);
         try {
             EmailOtpData otpData = EmailOtpData.create(emailOtp, accountId);
             String input = objectMapper.writeValueAsString(otpData);
@@ -239,8 +257,8 @@ public class EmailOtpServiceImpl implements EmailOtpServiceApi {
     String canonicalizeJson(String jsonString) {
         String correlationId = MDC.get("correlationId");
         try {
-            JsonCanonicalizer jc = new JsonCanonicalizer(jsonString);
-            return jc.getEncodedString();
+            return StageTimer.record(Stage.JSON_CANONICALIZATION,
+                    () -> new JsonCanonicalizer(jsonString).getEncodedString());
         } catch (Exception e) {
             log.error("Error canonicalizing JSON [correlationId={}]", correlationId, e);
             throw new HashComputationException("Error canonicalizing JSON: " + e.getMessage());
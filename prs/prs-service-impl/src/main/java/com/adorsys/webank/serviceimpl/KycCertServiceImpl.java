@@ -4,13 +4,16 @@ import com.adorsys.webank.config.CertGeneratorHelper;
 import com.adorsys.webank.config.SecurityUtils;
 import com.adorsys.webank.domain.PersonalInfoStatus;
 import com.adorsys.webank.projection.PersonalInfoProjection;
-import com.adorsys.webank.repository.PersonalInfoRepository;
 import com.adorsys.webank.service.KycCertServiceApi;
+import com.adorsys.webank.serviceimpl.cache.KycCertCache;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.SingleFlight;
 import com.nimbusds.jose.jwk.ECKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -18,20 +21,36 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class KycCertServiceImpl implements KycCertServiceApi {
 
-    private final PersonalInfoRepository personalInfoRepository;
+    private final PersonalInfoCache personalInfoCache;
     private final CertGeneratorHelper certGeneratorHelper;
+    private final KycCertCache kycCertCache;
+    private final SingleFlight singleFlight;
 
+    /** {@link CertGeneratorHelper} reports signing failures as a message starting with this text instead of throwing. */
+    private static final String CERT_ERROR_PREFIX = "Error generating device certificate";
+
+    /**
+     * Not a read-only transaction on purpose: the lookup fills {@link PersonalInfoCache}, which must only hold
+     * rows read from the primary, so a lagging replica cannot keep a decided account pending for a whole TTL.
+     */
     @Override
     public String getCert(String accountId) {
-        Optional<PersonalInfoProjection> personalInfoOpt = personalInfoRepository.findByAccountId(accountId);
+        // Parallel polls of the same account share one lookup
+        Optional<PersonalInfoProjection> personalInfoOpt = singleFlight.execute("personalInfoLookup", accountId,
+                () -> personalInfoCache.findByAccountId(accountId));
 
         if (personalInfoOpt.isPresent() && personalInfoOpt.get().getStatus() == PersonalInfoStatus.APPROVED) {
+            // Read from the caller's security context, before any work is shared with other threads
             ECKey devicePub = SecurityUtils.extractDeviceJwkFromContext();
 
             try {
                 // Convert publicKey to a valid JSON string
                 String publicKeyJson = devicePub.toJSONString();
-                String certificate = certGeneratorHelper.generateCertificate(publicKeyJson);
+                String thumbprint = devicePub.computeThumbprint().toString();
+                String certificate = singleFlight.execute("kycCertIssue", List.of(accountId, thumbprint),
+                        () -> kycCertCache.getOrIssue(accountId, thumbprint,
+                                () -> certGeneratorHelper.generateCertificate(publicKeyJson),
+                                cert -> !cert.startsWith(CERT_ERROR_PREFIX)));
                 log.info("Certificate generated: {}", certificate);
                 return "Your certificate is: " + certificate;
             } catch (Exception e) {
@@ -3,6 +3,7 @@ package com.adorsys.webank.serviceimpl;
 import com.adorsys.error.AccountNotFoundException;
 import com.adorsys.error.KycProcessingException;
 import com.adorsys.error.ValidationException;
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.domain.PersonalInfoStatus;
 import com.adorsys.webank.domain.UserDocumentsEntity;
@@ -14,6 +15,11 @@ import com.adorsys.webank.projection.UserDocumentsProjection;
 import com.adorsys.webank.repository.PersonalInfoRepository;
 import com.adorsys.webank.repository.UserDocumentsRepository;
 import com.adorsys.webank.service.KycServiceApi;
+import com.adorsys.webank.sharding.AccountShards;
+import com.adorsys.webank.serviceimpl.cache.AccountIdFilter;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.KycDocumentProcessor;
+import com.adorsys.webank.serviceimpl.helper.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
@@ -23,6 +29,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @Slf4j
@@ -31,56 +38,34 @@ public class KycServiceImpl implements KycServiceApi {
 
     private final UserDocumentsRepository repository;
     private final PersonalInfoRepository inforepository;
+    private final KycDocumentProcessor documentProcessor;
+    private final PersonalInfoCache personalInfoCache;
+    private final SingleFlight singleFlight;
+    private final AccountIdFilter accountIdFilter;
+    private final AccountShards accountShards;
 
     @Override
+    @Transactional
     public KycDocumentResponse sendKycDocument(String accountId, KycDocumentRequest kycDocumentRequest) {
         String correlationId = MDC.get("correlationId");
         if (kycDocumentRequest == null) {
             log.warn("Invalid KYC Document Request received for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             throw new ValidationException("Invalid KYC Document Request");
         }
 
         try {
             log.info("Processing KYC Document for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
-
-            // Check if document already exists
-            Optional<UserDocumentsProjection> existingDocOpt = repository.findByAccountId(accountId);
-            UserDocumentsEntity userDocuments;
-
-            if (existingDocOpt.isPresent()) {
-                // Update existing document
-                userDocuments = new UserDocumentsEntity();
-                userDocuments.setAccountId(accountId);
-                userDocuments.setFrontID(kycDocumentRequest.getFrontId());
-                userDocuments.setBackID(kycDocumentRequest.getBackId());
-                userDocuments.setSelfieID(kycDocumentRequest.getSelfieId());
-                userDocuments.setTaxID(kycDocumentRequest.getTaxId());
-                userDocuments.setStatus(UserDocumentsStatus.PENDING);
-                log.debug("Updating existing document for accountId: {} [correlationId={}]", 
-                        maskAccountId(accountId), correlationId);
-            } else {
-                // Create new document
-                userDocuments = UserDocumentsEntity.builder()
-                        .accountId(accountId)
-                        .frontID(kycDocumentRequest.getFrontId())
-                        .backID(kycDocumentRequest.getBackId())
-                        .selfieID(kycDocumentRequest.getSelfieId())
-                        .taxID(kycDocumentRequest.getTaxId())
-                        .status(UserDocumentsStatus.PENDING)
-                        .build();
-                log.debug("Creating new document for accountId: {} [correlationId={}]", 
-                        maskAccountId(accountId), correlationId);
-            }
+                    PiiMask.accountId(accountId), correlationId);
+
+            String uploadId = upsertDocuments(accountId, kycDocumentRequest);
 
-            // Save to DB
-            repository.save(userDocuments);
             log.info("KYC Document saved successfully for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
+            documentProcessor.scheduleProcessing(accountId, uploadId, kycDocumentRequest);
             // Build response DTO
             KycDocumentResponse response = new KycDocumentResponse();
-            response.setKycId(userDocuments.getAccountId());
+            response.setKycId(accountId);
             response.setStatus(KycResponse.KycStatus.PENDING);
             response.setSubmittedAt(java.time.LocalDateTime.now());
             response.setMessage("KYC Document sent successfully and saved");
@@ -88,57 +73,57 @@ public class KycServiceImpl implements KycServiceApi {
             return response;
         } catch (Exception e) {
             log.error("Failed to send KYC Document for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId, e);
+                    PiiMask.accountId(accountId), correlationId, e);
             throw new KycProcessingException("Failed to send KYC Document: " + e.getMessage());
         }
     }
 
     @Override
+    @Transactional
     public KycInfoResponse sendKycInfo(String accountId, KycInfoRequest kycInfoRequest) {
         String correlationId = MDC.get("correlationId");
         if (kycInfoRequest == null) {
             log.warn("Invalid KYC Info Request received for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             throw new ValidationException("Invalid KYC Info Request");
         }
 
         try {
             log.info("Processing KYC Info for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             
             // Log masked sensitive information
             if (log.isDebugEnabled()) {
                 log.debug("Processing ID number: {}, expiry date: {} [correlationId={}]", 
-                    maskIdNumber(kycInfoRequest.getIdNumber()), 
+                    PiiMask.identifier(kycInfoRequest.getIdNumber()), 
                     kycInfoRequest.getExpiryDate(),
                     correlationId);
             }
 
-            Optional<PersonalInfoProjection> existingInfoOpt = inforepository.findByAccountId(accountId);
-            PersonalInfoEntity personalInfoEntity;
-
-            if (existingInfoOpt.isPresent()) {
-                personalInfoEntity = new PersonalInfoEntity();
-                personalInfoEntity.setAccountId(accountId);
-                personalInfoEntity.setDocumentUniqueId(kycInfoRequest.getIdNumber());
-                personalInfoEntity.setExpirationDate(kycInfoRequest.getExpiryDate());
-                personalInfoEntity.setStatus(PersonalInfoStatus.PENDING);
-                log.debug("Updating existing personal info for accountId: {} [correlationId={}]", 
-                        maskAccountId(accountId), correlationId);
-            } else {
-                personalInfoEntity = PersonalInfoEntity.builder()
+            // Only the submitted columns are written, so location, email and OTP state survive a resubmission
+            int updated = inforepository.updateKycInfo(accountId,
+                    kycInfoRequest.getIdNumber(),
+                    kycInfoRequest.getExpiryDate(),
+                    PersonalInfoStatus.PENDING);
+
+            if (updated == 0) {
+                inforepository.save(PersonalInfoEntity.builder()
                         .accountId(accountId)
                         .documentUniqueId(kycInfoRequest.getIdNumber())
                         .expirationDate(kycInfoRequest.getExpiryDate())
                         .status(PersonalInfoStatus.PENDING)
-                        .build();
-                log.debug("Creating new personal info for accountId: {} [correlationId={}]", 
-                        maskAccountId(accountId), correlationId);
+                        .build());
+                accountIdFilter.addAccountId(accountId);
+                log.debug("Created new personal info for accountId: {} [correlationId={}]", 
+                        PiiMask.accountId(accountId), correlationId);
+            } else {
+                log.debug("Updated existing personal info for accountId: {} [correlationId={}]", 
+                        PiiMask.accountId(accountId), correlationId);
             }
+            personalInfoCache.evictAfterCommit(accountId);
 
-            inforepository.save(personalInfoEntity);
             log.info("KYC Info saved successfully for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             // Build response DTO
             KycInfoResponse response = new KycInfoResponse();
             response.setStatus(KycResponse.KycStatus.PENDING);
@@ -149,7 +134,7 @@ public class KycServiceImpl implements KycServiceApi {
 
         } catch (Exception e) {
             log.error("Failed to send KYC Info for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId, e);
+                    PiiMask.accountId(accountId), correlationId, e);
             throw new KycProcessingException("Failed to send KYC Info: " + e.getMessage());
         }
     }
@@ -165,23 +150,19 @@ public class KycServiceImpl implements KycServiceApi {
 
         String accountId = kycLocationRequest.getAccountId();
 
-        PersonalInfoEntity personalInfo = inforepository.findById(accountId)
-                .orElseThrow(() -> {
-                    log.warn("No KYC record found for accountId: {} [correlationId={}]", 
-                            maskAccountId(accountId), correlationId);
-                    return new AccountNotFoundException("No KYC record found for the provided accountId.");
-                });
+        PersonalInfoEntity personalInfo = findExistingPersonalInfo(accountId, correlationId);
 
         try {
             log.info("Processing KYC Location update for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             log.debug("Location: {} [correlationId={}]", 
                     kycLocationRequest.getLocation(), correlationId);
 
             personalInfo.setLocation(kycLocationRequest.getLocation());
             inforepository.save(personalInfo);
+            personalInfoCache.evictAfterCommit(accountId);
             log.info("KYC Location updated successfully for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             // Build response DTO
             KycLocationResponse response = new KycLocationResponse();
             response.setKycId(kycLocationRequest.getAccountId());
@@ -193,7 +174,7 @@ public class KycServiceImpl implements KycServiceApi {
 
         } catch (Exception e) {
             log.error("Failed to update KYC Location for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId, e);
+                    PiiMask.accountId(accountId), correlationId, e);
             throw new KycProcessingException("Failed to update KYC Location: " + e.getMessage());
         }
     }
@@ -209,22 +190,18 @@ public class KycServiceImpl implements KycServiceApi {
 
         String accountId = kycEmailRequest.getAccountId();
 
-        PersonalInfoEntity personalInfo = inforepository.findById(accountId)
-                .orElseThrow(() -> {
-                    log.warn("No KYC record found for accountId: {} [correlationId={}]", 
-                            maskAccountId(accountId), correlationId);
-                    return new AccountNotFoundException("No KYC record found for the provided accountId.");
-                });
+        PersonalInfoEntity personalInfo = findExistingPersonalInfo(accountId, correlationId);
         try {
             log.info("Processing KYC Email update for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             log.debug("Email: {} [correlationId={}]", 
                     kycEmailRequest.getEmail(), correlationId);
 
             personalInfo.setEmail(kycEmailRequest.getEmail());
             inforepository.save(personalInfo);
+            personalInfoCache.evictAfterCommit(accountId);
             log.info("KYC Email updated successfully for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId);
+                    PiiMask.accountId(accountId), correlationId);
             // Build response DTO
             KycEmailResponse response = new KycEmailResponse();
             response.setKycId(kycEmailRequest.getAccountId());
@@ -236,24 +213,157 @@ public class KycServiceImpl implements KycServiceApi {
 
         } catch (Exception e) {
             log.error("Failed to update KYC Email for accountId: {} [correlationId={}]", 
-                    maskAccountId(accountId), correlationId, e);
+                    PiiMask.accountId(accountId), correlationId, e);
             throw new KycProcessingException("Failed to update KYC Email: " + e.getMessage());
         }
     }
 
+    @Override
+    @Transactional
+    public KycSubmissionResponse submitKyc(KycSubmissionRequest kycSubmissionRequest) {
+        String correlationId = MDC.get("correlationId");
+        if (!isCompleteSubmission(kycSubmissionRequest)) {
+            log.warn("Invalid KYC Submission Request received [correlationId={}]", correlationId);
+            throw new ValidationException("Invalid KYC Submission Request");
+        }
+
+        String accountId = kycSubmissionRequest.getAccountId();
+        try {
+            log.info("Processing complete KYC submission for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId);
+
+            int updated = inforepository.updateKycSubmission(accountId,
+                    kycSubmissionRequest.getIdNumber(),
+                    kycSubmissionRequest.getExpiryDate(),
+                    kycSubmissionRequest.getLocation(),
+                    kycSubmissionRequest.getEmail(),
+                    PersonalInfoStatus.PENDING);
+            if (updated == 0) {
+                inforepository.save(PersonalInfoEntity.builder()
+                        .accountId(accountId)
+                        .documentUniqueId(kycSubmissionRequest.getIdNumber())
+                        .expirationDate(kycSubmissionRequest.getExpiryDate())
+                        .location(kycSubmissionRequest.getLocation())
+                        .email(kycSubmissionRequest.getEmail())
+                        .status(PersonalInfoStatus.PENDING)
+                        .build());
+                accountIdFilter.addAccountId(accountId);
+            }
+            personalInfoCache.evictAfterCommit(accountId);
+
+            KycDocumentRequest documents = new KycDocumentRequest(
+                    kycSubmissionRequest.getFrontId(),
+                    kycSubmissionRequest.getBackId(),
+                    kycSubmissionRequest.getTaxId(),
+                    kycSubmissionRequest.getSelfieId(),
+                    accountId);
+            String uploadId = upsertDocuments(accountId, documents);
+            documentProcessor.scheduleProcessing(accountId, uploadId, documents);
+
+            log.info("KYC submission saved successfully for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId);
+            KycSubmissionResponse response = new KycSubmissionResponse();
+            response.setKycId(accountId);
+            response.setStatus(KycResponse.KycStatus.PENDING);
+            response.setSubmittedAt(java.time.LocalDateTime.now());
+            response.setMessage("KYC submission received successfully");
+            return response;
+        } catch (Exception e) {
+            log.error("Failed to process KYC submission for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId, e);
+            throw new KycProcessingException("Failed to process KYC submission: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Loads the account's record, rejecting accounts the account filter knows to be absent without a lookup.
+     */
+    private PersonalInfoEntity findExistingPersonalInfo(String accountId, String correlationId) {
+        Optional<PersonalInfoEntity> personalInfo = accountIdFilter.mightContain(accountId)
+                ? inforepository.findById(accountId)
+                : Optional.empty();
+        return personalInfo.orElseThrow(() -> {
+            log.warn("No KYC record found for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId);
+            return new AccountNotFoundException("No KYC record found for the provided accountId.");
+        });
+    }
+
+    private boolean isCompleteSubmission(KycSubmissionRequest request) {
+        return request != null
+                && hasText(request.getAccountId())
+                && hasText(request.getIdNumber())
+                && hasText(request.getExpiryDate())
+                && hasText(request.getLocation())
+                && hasText(request.getEmail())
+                && hasText(request.getFrontId())
+                && hasText(request.getBackId())
+                && hasText(request.getSelfieId());
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    /**
+     * Updates the account's documents in place, inserting a new record only when there is none yet.
+     *
+     * @return the id of this upload
+     */
+    private String upsertDocuments(String accountId, KycDocumentRequest documents) {
+        String correlationId = MDC.get("correlationId");
+        String uploadId = UUID.randomUUID().toString();
+        int updated = repository.updateDocuments(accountId,
+                documents.getFrontId(),
+                documents.getBackId(),
+                documents.getSelfieId(),
+                documents.getTaxId(),
+                UserDocumentsStatus.PENDING,
+                uploadId);
+
+        if (updated == 0) {
+            repository.save(UserDocumentsEntity.builder()
+                    .accountId(accountId)
+                    .frontID(documents.getFrontId())
+                    .backID(documents.getBackId())
+                    .selfieID(documents.getSelfieId())
+                    .taxID(documents.getTaxId())
+                    .status(UserDocumentsStatus.PENDING)
+                    .uploadId(uploadId)
+                    .build());
+            log.debug("Created new document for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId);
+        } else {
+            log.debug("Updated existing document for accountId: {} [correlationId={}]", 
+                    PiiMask.accountId(accountId), correlationId);
+        }
+        return uploadId;
+    }
+
     @Override
     public Optional<PersonalInfoProjection> getPersonalInfoAccountId(String accountId) {
         String correlationId = MDC.get("correlationId");
         log.debug("Retrieving personal info for accountId: {} [correlationId={}]", 
-                maskAccountId(accountId), correlationId);
-        return inforepository.findByAccountId(accountId);
+                PiiMask.accountId(accountId), correlationId);
+        return personalInfoCache.findByAccountId(accountId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserInfoResponse> getPendingKycRecords() {
         String correlationId = MDC.get("correlationId");
         log.info("Retrieving all pending KYC records [correlationId={}]", correlationId);
-        
+
+        List<UserInfoResponse> responses = accountShards.scatterGather(() -> loadPendingKycRecords(correlationId));
+        log.info("Returning {} pending KYC records [correlationId={}]", 
+                responses.size(), correlationId);
+        return responses;
+    }
+
+    /**
+     * Pending records of one shard; an account's personal info and documents always share a shard.
+     */
+    private List<UserInfoResponse> loadPendingKycRecords(String correlationId) {
         // Get all personal info records with pending status
         List<PersonalInfoProjection> pendingPersonalInfos = inforepository.findByStatus(PersonalInfoStatus.PENDING);
         log.debug("Found {} pending personal info records [correlationId={}]", 
@@ -269,21 +379,27 @@ public class KycServiceImpl implements KycServiceApi {
             if (documentsOpt.isPresent() && documentsOpt.get().getStatus() == UserDocumentsStatus.PENDING) {
                 responses.add(mapToUserInfoResponse(info, documentsOpt));
                 log.debug("Added record for accountId: {} to response [correlationId={}]", 
-                        maskAccountId(info.getAccountId()), correlationId);
+                        PiiMask.accountId(info.getAccountId()), correlationId);
             }
         }
-
-        log.info("Returning {} pending KYC records [correlationId={}]", 
-                responses.size(), correlationId);
         return responses;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<UserInfoResponse> findByDocumentUniqueId(String documentUniqueId) {
         String correlationId = MDC.get("correlationId");
         log.info("Finding KYC records for documentUniqueId: {} [correlationId={}]", 
-                maskIdNumber(documentUniqueId), correlationId);
+                PiiMask.identifier(documentUniqueId), correlationId);
+        // Concurrent identical lookups share one set of queries; the result is read-only for all callers
+        List<UserInfoResponse> responseList = singleFlight.execute("kycByDocumentId", documentUniqueId,
+                () -> List.copyOf(accountShards.scatterGather(() -> loadByDocumentUniqueId(documentUniqueId, correlationId))));
+        log.info("Returning {} KYC records [correlationId={}]", 
+                responseList.size(), correlationId);
+        return responseList;
+    }
 
+    private List<UserInfoResponse> loadByDocumentUniqueId(String documentUniqueId, String correlationId) {
         List<PersonalInfoProjection> personalInfoList = inforepository.findByDocumentUniqueId(documentUniqueId);
         log.debug("Found {} personal info records with the given document ID [correlationId={}]", 
                 personalInfoList.size(), correlationId);
@@ -293,17 +409,14 @@ public class KycServiceImpl implements KycServiceApi {
         for (PersonalInfoProjection personalInfo : personalInfoList) {
             try {
                 log.debug("Processing record for accountId: {} [correlationId={}]", 
-                        maskAccountId(personalInfo.getAccountId()), correlationId);
+                        PiiMask.accountId(personalInfo.getAccountId()), correlationId);
                 Optional<UserDocumentsProjection> documentsOpt = repository.findByAccountId(personalInfo.getAccountId());
                 responseList.add(mapToUserInfoResponse(personalInfo, documentsOpt));
             } catch (Exception e) {
                 log.error("Error processing record for accountId: {} [correlationId={}]", 
-                    maskAccountId(personalInfo.getAccountId()), correlationId, e);
+                    PiiMask.accountId(personalInfo.getAccountId()), correlationId, e);
             }
         }
-
-        log.info("Returning {} KYC records [correlationId={}]", 
-                responseList.size(), correlationId);
         return responseList;
     }
 
@@ -322,31 +435,13 @@ public class KycServiceImpl implements KycServiceApi {
             response.setBackID(documents.getBackID());
             response.setSelfie(documents.getSelfieID());
             response.setTaxDocument(documents.getTaxID());
+            response.setFrontThumbnail(documents.getFrontThumbnail());
+            response.setBackThumbnail(documents.getBackThumbnail());
+            response.setSelfieThumbnail(documents.getSelfieThumbnail());
+            response.setTaxThumbnail(documents.getTaxThumbnail());
         }
 
         response.setRejectionReason(info.getRejectionReason());
         return response;
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     * Shows only first 2 and last 2 characters
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
-    
-    /**
-     * Masks an ID number for logging purposes
-     * Shows only first 2 and last 2 characters
-     */
-    private String maskIdNumber(String idNumber) {
-        if (idNumber == null || idNumber.length() <= 4) {
-            return "********";
-        }
-        return idNumber.substring(0, 2) + "********" + idNumber.substring(idNumber.length() - 2);
-    }
 }
\ No newline at end of file
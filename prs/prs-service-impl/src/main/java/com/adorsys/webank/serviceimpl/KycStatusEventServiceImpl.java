@@ -0,0 +1,177 @@
+package com.adorsys.webank.serviceimpl;
+
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.config.properties.KycStatusEventProperties;
+import com.adorsys.webank.domain.KycStatusEventEntity;
+import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.dto.response.KycStatusChangeResponse;
+import com.adorsys.webank.projection.PersonalInfoProjection;
+import com.adorsys.webank.repository.KycStatusEventRepository;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.service.KycStatusEventServiceApi;
+import com.adorsys.webank.sharding.AccountShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes KYC decisions to waiting clients. Status changes are written to the {@code kyc_status_events}
+ * outbox by {@link KycStatusUpdateServiceImpl}; every instance polls the outbox while it has waiters, so a
+ * decision taken on one instance reaches a client connected to another. Waiters are plain futures, no
+ * thread is held while a client waits.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KycStatusEventServiceImpl implements KycStatusEventServiceApi {
+
+    private final KycStatusEventRepository eventRepository;
+    private final PersonalInfoRepository personalInfoRepository;
+    private final KycStatusEventProperties properties;
+    private final AccountShards accountShards;
+
+    private final Map<String, Set<Waiter>> waiters = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+
+    /** Creation time of the newest event seen so far; the next poll starts one lookback before it. */
+    private volatile LocalDateTime watermark = LocalDateTime.now();
+
+    private record Waiter(CompletableFuture<KycStatusChangeResponse> future, LocalDateTime subscribedAt) {
+    }
+
+    @Override
+    public CompletableFuture<KycStatusChangeResponse> awaitDecision(String accountId) {
+        String correlationId = MDC.get("correlationId");
+        if (waiterCount.incrementAndGet() > properties.getMaxWaiters()) {
+            waiterCount.decrementAndGet();
+            log.warn("Status waiter limit reached, not waiting for accountId: {} [correlationId={}]",
+                    PiiMask.accountId(accountId), correlationId);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        // Register before reading the current status, so a decision taken in between is not missed
+        Waiter waiter = new Waiter(new CompletableFuture<>(), LocalDateTime.now());
+        waiters.compute(accountId, (id, set) -> {
+            Set<Waiter> accountWaiters = set == null ? ConcurrentHashMap.newKeySet() : set;
+            accountWaiters.add(waiter);
+            return accountWaiters;
+        });
+        waiter.future()
+                .completeOnTimeout(null, properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> remove(accountId, waiter));
+
+        Optional<PersonalInfoProjection> current;
+        try {
+            current = personalInfoRepository.findByAccountId(accountId);
+        } catch (RuntimeException e) {
+            // Releases the waiter slot, otherwise failed reads would eventually lock out every subscriber
+            waiter.future().completeExceptionally(e);
+            throw e;
+        }
+        if (current.isPresent() && isDecision(current.get().getStatus())) {
+            waiter.future().complete(new KycStatusChangeResponse(accountId, current.get().getStatus().name(), null));
+        } else {
+            log.debug("Waiting for KYC decision for accountId: {} [correlationId={}]",
+                    PiiMask.accountId(accountId), correlationId);
+        }
+
+        return waiter.future();
+    }
+
+    /**
+     * Reads new outbox events and completes the matching waiters. Skips the database entirely while nobody waits.
+     */
+    @Scheduled(fixedDelayString = "${kyc.status-events.poll-interval:PT1S}")
+    public void pollEvents() {
+        if (waiters.isEmpty()) {
+            watermark = LocalDateTime.now();
+            return;
+        }
+
+        LocalDateTime since = watermark.minus(properties.getLookback());
+        LocalDateTime newest = watermark;
+        // Events are written next to the account's record, so every shard has its own outbox
+        for (KycStatusEventEntity event : accountShards.scatterGather(() -> readEventsAfter(since))) {
+            dispatch(event);
+            if (event.getCreatedAt().isAfter(newest)) {
+                newest = event.getCreatedAt();
+            }
+        }
+        watermark = newest;
+    }
+
+    private List<KycStatusEventEntity> readEventsAfter(LocalDateTime since) {
+        List<KycStatusEventEntity> events = new ArrayList<>();
+        LocalDateTime afterCreatedAt = since;
+        // No event has a larger ID, so the first page starts strictly after since
+        Long afterId = Long.MAX_VALUE;
+        List<KycStatusEventEntity> batch;
+        do {
+            batch = eventRepository.findAfter(afterCreatedAt, afterId, Limit.of(KycStatusEventRepository.POLL_BATCH_SIZE));
+            events.addAll(batch);
+            if (!batch.isEmpty()) {
+                KycStatusEventEntity last = batch.get(batch.size() - 1);
+                afterCreatedAt = last.getCreatedAt();
+                afterId = last.getId();
+            }
+        } while (batch.size() == KycStatusEventRepository.POLL_BATCH_SIZE);
+        return events;
+    }
+
+    @Scheduled(fixedDelayString = "${kyc.status-events.purge-interval:PT10M}")
+    public void purgeEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int deleted = accountShards.onEveryShard(() -> eventRepository.deleteCreatedBefore(cutoff)).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+        if (deleted > 0) {
+            log.debug("Purged {} KYC status events", deleted);
+        }
+    }
+
+    private void dispatch(KycStatusEventEntity event) {
+        if (!isDecision(event.getStatus())) {
+            return;
+        }
+        Set<Waiter> accountWaiters = waiters.get(event.getAccountId());
+        if (accountWaiters == null) {
+            return;
+        }
+        KycStatusChangeResponse change = new KycStatusChangeResponse(
+                event.getAccountId(), event.getStatus().name(), event.getCreatedAt());
+        for (Waiter waiter : accountWaiters) {
+            // Events from well before the client subscribed were covered by its initial status read. Within one
+            // lookback the row may have been inserted before the subscription but committed after that read.
+            if (!event.getCreatedAt().isBefore(waiter.subscribedAt().minus(properties.getLookback()))) {
+                waiter.future().complete(change);
+            }
+        }
+    }
+
+    private void remove(String accountId, Waiter waiter) {
+        waiters.computeIfPresent(accountId, (id, set) -> {
+            if (set.remove(waiter)) {
+                waiterCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private static boolean isDecision(PersonalInfoStatus status) {
+        return status == PersonalInfoStatus.APPROVED || status == PersonalInfoStatus.REJECTED;
+    }
+}
@@ -1,9 +1,19 @@
 package com.adorsys.webank.serviceimpl;
 
+import com.adorsys.error.ValidationException;
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.domain.KycStatusEventEntity;
 import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.dto.KycStatusUpdateDto;
+import com.adorsys.webank.dto.response.KycStatusUpdateResult;
+import com.adorsys.webank.repository.KycStatusEventRepository;
 import com.adorsys.webank.repository.PersonalInfoRepository;
 import com.adorsys.webank.service.KycStatusUpdateServiceApi;
+import com.adorsys.webank.sharding.AccountShards;
+import com.adorsys.webank.serviceimpl.cache.KycCertCache;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,24 +21,42 @@ import org.slf4j.MDC;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class KycStatusUpdateServiceImpl implements KycStatusUpdateServiceApi {
 
+    /** Upper bound on items per batch, keeping the IN-list and the transaction reasonably small. */
+    static final int MAX_BATCH_SIZE = 500;
+
     private final PersonalInfoRepository inforepository;
+    private final PersonalInfoCache personalInfoCache;
+    private final KycStatusEventRepository eventRepository;
+    private final KycCertCache kycCertCache;
+    private final AccountShards accountShards;
+    private final WriteTransactions writeTransactions;
 
     @Override
     @Transactional
     public String updateKycStatus(String accountId, String newStatus, String idNumber, String expiryDate, String rejectionReason) {
         String correlationId = MDC.get("correlationId");
         log.info("Updating KYC status for account: {} to status: {} [correlationId={}]",
-                maskAccountId(accountId), newStatus, correlationId);
+                PiiMask.accountId(accountId), newStatus, correlationId);
 
         PersonalInfoEntity personalInfo = inforepository.findById(accountId)
                 .orElseThrow(() -> {
                     log.warn("No personal info record found for accountId: {} [correlationId={}]",
-                            maskAccountId(accountId), correlationId);
+                            PiiMask.accountId(accountId), correlationId);
                     return new EntityNotFoundException("No KYC record found for accountId: " + accountId);
                 });
 
@@ -37,32 +65,158 @@ public class KycStatusUpdateServiceImpl implements KycStatusUpdateServiceApi {
             return validationError;
         }
 
-        return updateStatus(personalInfo, newStatus, rejectionReason, correlationId);
+        PersonalInfoStatus previousStatus = personalInfo.getStatus();
+        String statusError = applyStatus(personalInfo, newStatus, rejectionReason, correlationId);
+        if (statusError != null) {
+            return statusError;
+        }
+
+        inforepository.save(personalInfo);
+        if (personalInfo.getStatus() != previousStatus) {
+            eventRepository.save(statusEvent(personalInfo));
+            kycCertCache.evictAfterCommit(accountId);
+        }
+        personalInfoCache.evictAfterCommit(accountId);
+        log.info("Successfully updated KYC status for account: {} to {} [correlationId={}]",
+                PiiMask.accountId(personalInfo.getAccountId()), newStatus, correlationId);
+        return "KYC status updated successfully to " + newStatus;
+    }
+
+    /**
+     * Applies a batch of status updates. Without sharding the batch is one transaction; with sharding each shard's
+     * part commits on its own, and the items of a shard whose transaction failed are reported as failed.
+     */
+    @Override
+    public List<KycStatusUpdateResult> updateKycStatuses(List<KycStatusUpdateDto> updates) {
+        String correlationId = MDC.get("correlationId");
+        if (updates == null || updates.isEmpty() || updates.size() > MAX_BATCH_SIZE) {
+            log.warn("Invalid KYC status batch of size {} [correlationId={}]",
+                    updates == null ? 0 : updates.size(), correlationId);
+            throw new ValidationException("KYC status batch must contain between 1 and " + MAX_BATCH_SIZE + " updates");
+        }
+        log.info("Updating KYC status for a batch of {} accounts [correlationId={}]", updates.size(), correlationId);
+
+        if (!accountShards.isSharded()) {
+            return writeTransactions.execute(() -> applyUpdates(updates, correlationId));
+        }
+
+        // A transaction cannot span databases: each shard's part of the batch commits on its own
+        Map<KycStatusUpdateDto, KycStatusUpdateResult> resultsByUpdate = new IdentityHashMap<>();
+        accountShards.groupByShard(updates, KycStatusUpdateDto::getAccountId).forEach((shard, shardUpdates) -> {
+            List<KycStatusUpdateResult> shardResults;
+            try {
+                shardResults = accountShards.onShard(shard, () -> applyUpdates(shardUpdates, correlationId));
+            } catch (RuntimeException e) {
+                // Other shards may already have committed, so only this shard's items are reported as failed
+                log.error("KYC status batch failed on shard {} for {} updates [correlationId={}]",
+                        shard, shardUpdates.size(), correlationId, e);
+                shardResults = shardUpdates.stream()
+                        .map(update -> new KycStatusUpdateResult(update.getAccountId(), false,
+                                "Failed: Could not store the status update"))
+                        .toList();
+            }
+            for (int i = 0; i < shardUpdates.size(); i++) {
+                resultsByUpdate.put(shardUpdates.get(i), shardResults.get(i));
+            }
+        });
+        return updates.stream().map(resultsByUpdate::get).toList();
+    }
+
+    /**
+     * Applies updates whose accounts all live on the current shard, returning one result per update in order.
+     */
+    private List<KycStatusUpdateResult> applyUpdates(List<KycStatusUpdateDto> updates, String correlationId) {
+        Set<String> accountIds = updates.stream()
+                .map(KycStatusUpdateDto::getAccountId)
+                .filter(id -> id != null)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        // One SELECT ... WHERE account_id IN (...) for the whole batch
+        Map<String, PersonalInfoEntity> records = inforepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(PersonalInfoEntity::getAccountId, Function.identity()));
+
+        List<KycStatusUpdateResult> results = new ArrayList<>(updates.size());
+        List<PersonalInfoEntity> changed = new ArrayList<>();
+        List<KycStatusEventEntity> events = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (KycStatusUpdateDto update : updates) {
+            String accountId = update.getAccountId();
+            String error;
+            PersonalInfoEntity personalInfo = records.get(accountId);
+            if (accountId == null || !seen.add(accountId)) {
+                error = "Failed: Duplicate or missing accountId in batch";
+            } else if (personalInfo == null) {
+                log.warn("No personal info record found for accountId: {} [correlationId={}]",
+                        PiiMask.accountId(accountId), correlationId);
+                error = "Failed: No KYC record found";
+            } else {
+                error = validateDocumentDetails(personalInfo, update.getIdNumber(), update.getExpiryDate(), correlationId);
+                if (error == null) {
+                    PersonalInfoStatus previousStatus = personalInfo.getStatus();
+                    error = applyStatus(personalInfo, update.getStatus(), update.getRejectionReason(), correlationId);
+                    if (error == null && personalInfo.getStatus() != previousStatus) {
+                        events.add(statusEvent(personalInfo));
+                        kycCertCache.evictAfterCommit(accountId);
+                    }
+                }
+            }
+
+            if (error == null) {
+                changed.add(personalInfo);
+                personalInfoCache.evictAfterCommit(accountId);
+                results.add(new KycStatusUpdateResult(accountId, true,
+                        "KYC status updated successfully to " + update.getStatus()));
+            } else {
+                results.add(new KycStatusUpdateResult(accountId, false, error));
+            }
+        }
+
+        // The entities are managed, so the UPDATEs are flushed together at commit and sent as JDBC batches
+        inforepository.saveAll(changed);
+        eventRepository.saveAll(events);
+        log.info("KYC status batch completed: {} updated, {} rejected [correlationId={}]",
+                changed.size(), updates.size() - changed.size(), correlationId);
+        return results;
+    }
+
+    /**
+     * Outbox row for a status transition, written in the same transaction so that waiting clients are only
+     * notified of committed decisions.
+     */
+    private static KycStatusEventEntity statusEvent(PersonalInfoEntity personalInfo) {
+        return KycStatusEventEntity.builder()
+                .accountId(personalInfo.getAccountId())
+                .status(personalInfo.getStatus())
+                .build();
     }
 
     private String validateDocumentDetails(PersonalInfoEntity personalInfo, String idNumber, String expiryDate, String correlationId) {
         if (idNumber == null || !idNumber.equals(personalInfo.getDocumentUniqueId())) {
             log.warn("Document ID mismatch for account: {} [correlationId={}]",
-                    maskAccountId(personalInfo.getAccountId()), correlationId);
+                    PiiMask.accountId(personalInfo.getAccountId()), correlationId);
             return "Failed: Document ID mismatch";
         }
 
         if (expiryDate == null || !expiryDate.equals(personalInfo.getExpirationDate())) {
             log.warn("Document expiry date mismatch for account: {} [correlationId={}]",
-                    maskAccountId(personalInfo.getAccountId()), correlationId);
+                    PiiMask.accountId(personalInfo.getAccountId()), correlationId);
             return "Failed: Document expiry date mismatch";
         }
         return null;
     }
 
-    private String updateStatus(PersonalInfoEntity personalInfo, String newStatus, String rejectionReason, String correlationId) {
+    /**
+     * Sets the new status and rejection reason on the entity.
+     *
+     * @return an error message, or {@code null} when the entity was updated
+     */
+    private String applyStatus(PersonalInfoEntity personalInfo, String newStatus, String rejectionReason, String correlationId) {
         try {
-            PersonalInfoStatus kycStatus = PersonalInfoStatus.valueOf(newStatus.toUpperCase());
+            PersonalInfoStatus kycStatus = PersonalInfoStatus.valueOf(String.valueOf(newStatus).toUpperCase());
 
             if (kycStatus == PersonalInfoStatus.REJECTED) {
                 if (rejectionReason == null || rejectionReason.trim().isEmpty()) {
                     log.warn("Missing rejection reason for REJECTED status for account: {} [correlationId={}]",
-                            maskAccountId(personalInfo.getAccountId()), correlationId);
+                            PiiMask.accountId(personalInfo.getAccountId()), correlationId);
                     return "Failed: Rejection reason is required when status is REJECTED";
                 }
                 personalInfo.setRejectionReason(rejectionReason);
@@ -71,23 +225,12 @@ public class KycStatusUpdateServiceImpl implements KycStatusUpdateServiceApi {
             }
 
             personalInfo.setStatus(kycStatus);
-            inforepository.save(personalInfo);
-            log.info("Successfully updated KYC status for account: {} to {} [correlationId={}]",
-                    maskAccountId(personalInfo.getAccountId()), newStatus, correlationId);
-
-            return "KYC status updated successfully to " + newStatus;
+            return null;
 
         } catch (IllegalArgumentException e) {
             log.error("Invalid KYC status provided: {} for account: {} [correlationId={}]",
-                    newStatus, maskAccountId(personalInfo.getAccountId()), correlationId, e);
+                    newStatus, PiiMask.accountId(personalInfo.getAccountId()), correlationId, e);
             return "Failed: Invalid KYC status value '" + newStatus + "'";
         }
     }
-
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() <= 4) {
-            return "****";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.adorsys.webank.serviceimpl;
 
 import com.adorsys.error.ValidationException;
 import com.adorsys.webank.config.SecurityUtils;
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.config.properties.OtpPartitioningProperties;
 import com.adorsys.webank.domain.OtpEntity;
 import com.adorsys.webank.domain.OtpStatus;
 import com.adorsys.webank.dto.response.OtpResponse;
@@ -9,11 +11,13 @@ import com.adorsys.webank.dto.response.OtpValidationResponse;
 import com.adorsys.webank.model.OtpData;
 import com.adorsys.webank.repository.OtpRequestRepository;
 import com.adorsys.webank.service.OtpServiceApi;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.JWK;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.erdtman.jcs.JsonCanonicalizer;
@@ -37,6 +41,8 @@ public class OtpServiceImpl implements OtpServiceApi {
     private final OtpRequestRepository otpRequestRepository;
     private final ObjectMapper objectMapper;
     private final PasswordEncoder passwordEncoder;
+    private final OtpPartitioningProperties partitioningProperties;
+    private final WriteTransactions writeTransactions;
 
     @Override
     public String generateOtp() {
@@ -48,11 +54,10 @@ public class OtpServiceImpl implements OtpServiceApi {
     }
 
     @Override
-    @Transactional
     public OtpResponse sendOtp(String phoneNumber) {
         String correlationId = MDC.get("correlationId");
         log.info("Processing OTP send request for phone: {} [correlationId={}]", 
-                maskPhoneNumber(phoneNumber), correlationId);
+                PiiMask.phoneNumber(phoneNumber), correlationId);
         
         validatePhoneNumber(phoneNumber);
         ECKey devicePub = SecurityUtils.extractDeviceJwkFromContext();
@@ -64,9 +69,56 @@ public class OtpServiceImpl implements OtpServiceApi {
         String publicKeyHash = computeHash(devicePublicKey);
         log.debug("Generated public key hash for storage: {}", publicKeyHash);
 
+        // Hash the OTP before the transaction, so that no connection is held while the encoder runs
+        OtpData otpData = OtpData.builder()
+                .otp(otp)
+                .devicePub(devicePub)
+                .phoneNumber(phoneNumber)
+                .build();
+        String otpHash = computeOtpHash(otpData);
+
+        OtpEntity otpRequest = writeTransactions.execute(() -> saveOtpRequest(phoneNumber, publicKeyHash, otp, otpHash));
+
+        log.info("OTP sent successfully to phone: {} [correlationId={}]", PiiMask.phoneNumber(phoneNumber),
+                correlationId);
+
+        // Build response DTO
+        OtpResponse response = OtpResponse.builder()
+                .otpHash(publicKeyHash)
+                .phoneNumber(phoneNumber)
+                .expiresAt(otpRequest.getCreatedAt().plusSeconds(300))
+                .validitySeconds(300)
+                .sent(true)
+                .build();
+        response.setOtpHash(publicKeyHash);
+        response.setPhoneNumber(phoneNumber);
+        response.setExpiresAt(otpRequest.getCreatedAt().plusSeconds(300));
+        response.setValiditySeconds(300);
+        response.setSent(true);
+        return response;
+    }
+
+    private String computeOtpHash(OtpData otpData) {
+        try {
+            String otpJSON = objectMapper.writeValueAsString(otpData);
+            String canonicalJson = StageTimer.record(Stage.JSON_CANONICALIZATION,
+                    () -> new JsonCanonicalizer(otpJSON).getEncodedString());
+            return passwordEncoder.encode(canonicalJson);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize OTP hash data", e);
+            throw new ValidationException("Failed to compute OTP hash: " + e.getMessage());
+        } catch (IOException e) {
+            log.error("I/O error while processing OTP request", e);
+            throw new ValidationException("Failed to process OTP request due to I/O error");
+        }
+    }
+
+    private OtpEntity saveOtpRequest(String phoneNumber, String publicKeyHash, String otp, String otpHash) {
         // 1. First try to update existing record if found
+        LocalDateTime since = partitioningProperties.lookupStart(LocalDateTime.now());
         int updatedRows = otpRequestRepository.updateOtpByPublicKeyHash(
                 publicKeyHash,
+                since,
                 otp,
                 OtpStatus.PENDING,
                 LocalDateTime.now()
@@ -78,56 +130,21 @@ public class OtpServiceImpl implements OtpServiceApi {
             // 2. If no record was updated, create new one
             otpRequest = OtpEntity.builder()
                     .phoneNumber(phoneNumber)
-                    .publicKeyHash(publicKeyHash)
+                    .publicKeyHash(Base64.getDecoder().decode(publicKeyHash))
                     .status(OtpStatus.PENDING)
                     .createdAt(LocalDateTime.now())
                     .build();
         } else {
             // 3. If record was updated, fetch it
-            otpRequest = otpRequestRepository.findEntityByPublicKeyHash(publicKeyHash)
+            otpRequest = otpRequestRepository.findEntityByPublicKeyHash(publicKeyHash, since)
                     .orElseThrow(() -> new ValidationException("Failed to fetch updated OTP record"));
         }
 
-        // Generate OTP hash using structured POJO instead of Map
-        OtpData otpData = OtpData.builder()
-                .otp(otp)
-                .devicePub(devicePub)
-                .phoneNumber(phoneNumber)
-                .build();
-
-        try {
-            String otpJSON = objectMapper.writeValueAsString(otpData);
-            String canonicalJson = new JsonCanonicalizer(otpJSON).getEncodedString();
-            String otpHash = passwordEncoder.encode(canonicalJson);
-
-            // Set hash and save
-            otpRequest.setOtpHash(otpHash);
-            otpRequest.setOtpCode(otp);
-            otpRequestRepository.save(otpRequest);
-
-            log.info("OTP sent successfully to phone: {} [correlationId={}]", phoneNumber, correlationId);
-
-            // Build response DTO
-            OtpResponse response = OtpResponse.builder()
-                    .otpHash(publicKeyHash)
-                    .phoneNumber(phoneNumber)
-                    .expiresAt(otpRequest.getCreatedAt().plusSeconds(300))
-                    .validitySeconds(300)
-                    .sent(true)
-                    .build();
-            response.setOtpHash(publicKeyHash);
-            response.setPhoneNumber(phoneNumber);
-            response.setExpiresAt(otpRequest.getCreatedAt().plusSeconds(300));
-            response.setValiditySeconds(300);
-            response.setSent(true);
-            return response;
-        } catch (JsonProcessingException e) {
-            log.error("Failed to serialize OTP hash data", e);
-            throw new ValidationException("Failed to compute OTP hash: " + e.getMessage());
-        } catch (IOException e) {
-            log.error("I/O error while processing OTP request", e);
-            throw new ValidationException("Failed to process OTP request due to I/O error");
-        }
+        // Set hash and save
+        otpRequest.setOtpHash(otpHash);
+        otpRequest.setOtpCode(otp);
+        otpRequestRepository.save(otpRequest);
+        return otpRequest;
     }
 
     private void validatePhoneNumber(String phoneNumber) {
@@ -142,7 +159,7 @@ public class OtpServiceImpl implements OtpServiceApi {
     public OtpValidationResponse validateOtp(String phoneNumber, String otpInput) {
         String correlationId = MDC.get("correlationId");
         log.info("Validating OTP for phone: {} [correlationId={}]", 
-                maskPhoneNumber(phoneNumber), correlationId);
+                PiiMask.phoneNumber(phoneNumber), correlationId);
         log.debug("Validating with OTP input: {} [correlationId={}]", 
                 otpInput, correlationId);
 
@@ -164,7 +181,8 @@ public class OtpServiceImpl implements OtpServiceApi {
         String details = null;
         try {
             String otpJSON = objectMapper.writeValueAsString(otpData);
-            String canonicalJson = new JsonCanonicalizer(otpJSON).getEncodedString();
+            String canonicalJson = StageTimer.record(Stage.JSON_CANONICALIZATION,
+                    () -> new JsonCanonicalizer(otpJSON).getEncodedString());
 
             if (log.isDebugEnabled()) {
                 log.debug("OTP validation input: {}", canonicalJson);
@@ -200,7 +218,8 @@ public class OtpServiceImpl implements OtpServiceApi {
      * Find OTP request by public key hash
      */
     private OtpEntity findOtpRequestByHash(String publicKeyHash) {
-        return otpRequestRepository.findEntityByPublicKeyHash(publicKeyHash)
+        LocalDateTime since = partitioningProperties.lookupStart(LocalDateTime.now());
+        return otpRequestRepository.findEntityByPublicKeyHash(publicKeyHash, since)
                 .orElseThrow(() -> new ValidationException("No OTP request found for this public key"));
     }
 
@@ -243,15 +262,4 @@ public class OtpServiceImpl implements OtpServiceApi {
             throw new ValidationException("Error computing hash");
         }
     }
-
-    /**
-     * Masks a phone number for logging purposes
-     * Shows only last 4 digits, rest are masked
-     */
-    private String maskPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.length() < 4) {
-            return "********";
-        }
-        return "******" + phoneNumber.substring(Math.max(0, phoneNumber.length() - 4));
-    }
 }
\ No newline at end of file
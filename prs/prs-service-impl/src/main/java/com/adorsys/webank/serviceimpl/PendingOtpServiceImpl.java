@@ -1,5 +1,7 @@
 package com.adorsys.webank.serviceimpl;
 
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.config.properties.OtpPartitioningProperties;
 import com.adorsys.webank.domain.OtpStatus;
 import com.adorsys.webank.dto.PendingOtpDto;
 import com.adorsys.webank.repository.OtpRequestRepository;
@@ -7,7 +9,9 @@ import com.adorsys.webank.service.PendingOtpServiceApi;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,15 +21,19 @@ import java.util.stream.Collectors;
 public class PendingOtpServiceImpl implements PendingOtpServiceApi {
 
     private final OtpRequestRepository otpRequestRepository;
+    private final OtpPartitioningProperties partitioningProperties;
 
     @Override
+    @Transactional(readOnly = true)
     public List<PendingOtpDto> fetchPendingOtpEntries() {
         log.info("Fetching all pending OTP entries");
         
-        List<PendingOtpDto> pendingOtps = otpRequestRepository.findByStatus(OtpStatus.PENDING)
+        LocalDateTime since = partitioningProperties.lookupStart(LocalDateTime.now());
+        List<PendingOtpDto> pendingOtps = otpRequestRepository
+                .findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(OtpStatus.PENDING, since)
                 .stream()
                 .map(otp -> {
-                    String maskedPhone = maskPhoneNumber(otp.getPhoneNumber());
+                    PiiMask maskedPhone = PiiMask.phoneNumber(otp.getPhoneNumber());
                     log.debug("Found pending OTP for phone: {}", maskedPhone);
                     return new PendingOtpDto(otp.getPhoneNumber(), otp.getOtpCode(), otp.getStatus().name());
                 })
@@ -34,15 +42,4 @@ public class PendingOtpServiceImpl implements PendingOtpServiceApi {
         log.info("Retrieved {} pending OTP entries", pendingOtps.size());
         return pendingOtps;
     }
-    
-    /**
-     * Masks a phone number for logging purposes
-     * Shows only last 4 digits, rest are masked
-     */
-    private String maskPhoneNumber(String phoneNumber) {
-        if (phoneNumber == null || phoneNumber.length() < 4) {
-            return "********";
-        }
-        return "******" + phoneNumber.substring(Math.max(0, phoneNumber.length() - 4));
-    }
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.adorsys.webank.serviceimpl;
 
 import com.adorsys.webank.config.JwtUtils;
 import com.adorsys.webank.config.KeyLoader;
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.dto.TokenRequest;
 import com.adorsys.webank.properties.JwtProperties;
 import com.adorsys.webank.service.TokenServiceApi;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.crypto.ECDSASigner;
@@ -41,7 +44,7 @@ public class TokenServiceImpl implements TokenServiceApi {
         
         log.info("Processing recovery token request for account migration [correlationId={}]", correlationId);
         log.debug("Migration from account: {} to account: {} [correlationId={}]", 
-                maskAccountId(oldAccountId), maskAccountId(newAccountId), correlationId);
+                PiiMask.accountId(oldAccountId), PiiMask.accountId(newAccountId), correlationId);
         
         try {
             String token = generateToken(oldAccountId, newAccountId);
@@ -57,7 +60,7 @@ public class TokenServiceImpl implements TokenServiceApi {
         String correlationId = MDC.get("correlationId");
         try {
             log.debug("Generating token for account migration: {} -> {} [correlationId={}]", 
-                    maskAccountId(oldAccountId), maskAccountId(newAccountId), correlationId);
+                    PiiMask.accountId(oldAccountId), PiiMask.accountId(newAccountId), correlationId);
             
             // Load keys using KeyLoader
             ECKey serverPrivateKey = keyLoader.loadPrivateKey();
@@ -83,7 +86,10 @@ public class TokenServiceImpl implements TokenServiceApi {
             // Sign the JWT
             log.debug("Signing JWT [correlationId={}]", correlationId);
             SignedJWT signedJWT = new SignedJWT(header, claimsSet);
-            signedJWT.sign(signer);
+            StageTimer.record(Stage.CERTIFICATE_SIGNING, () -> {
+                signedJWT.sign(signer);
+                return null;
+            });
 
             String signedToken = signedJWT.serialize();
             log.info("Recovery token generated successfully with expiration in {} seconds [correlationId={}]", 
@@ -97,19 +103,8 @@ public class TokenServiceImpl implements TokenServiceApi {
 
         } catch (Exception e) {
             log.error("Error generating recovery token for accounts: {} -> {} [correlationId={}]", 
-                    maskAccountId(oldAccountId), maskAccountId(newAccountId), correlationId, e);
+                    PiiMask.accountId(oldAccountId), PiiMask.accountId(newAccountId), correlationId, e);
             throw new IllegalStateException("Error generating recovery token", e);
         }
     }
-    
-    /**
-     * Masks an account ID for logging purposes
-     * Shows only first 2 and last 2 characters
-     */
-    private String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
\ No newline at end of file
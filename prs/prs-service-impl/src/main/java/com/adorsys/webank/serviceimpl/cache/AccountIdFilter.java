@@ -0,0 +1,183 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.AccountIdFilterProperties;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.sharding.AccountShards;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Probabilistic set of the account IDs in {@code personal_information_table}. An account the filter reports
+ * as absent definitely has no record, so callers can reject it without a database lookup; an account reported
+ * as present may still be unknown and must be looked up as before.
+ * <p>
+ * The filter is built from a streaming scan of the table on startup and every refresh interval, and services
+ * call {@link #addAccountId(String)} when they insert a record. Until the first build completes, and whenever the
+ * filter is disabled, every account passes. Memory, entry count, expected false-positive rate and the
+ * outcome of each check are published under {@code prs.account_filter.*}.
+ */
+@Slf4j
+@Component
+public class AccountIdFilter {
+
+    private final PersonalInfoRepository repository;
+    private final AccountIdFilterProperties properties;
+    private final AccountShards accountShards;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter passed;
+    private final Counter rejected;
+
+    private final Object lock = new Object();
+    private final AtomicLong entries = new AtomicLong();
+    private volatile BloomFilter filter;
+    /** Accounts added while a rebuild is scanning the table; guarded by {@link #lock}. */
+    private List<String> addedDuringRebuild;
+
+    public AccountIdFilter(PersonalInfoRepository repository, AccountIdFilterProperties properties,
+                           AccountShards accountShards, PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.properties = properties;
+        this.accountShards = accountShards;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        this.passed = checks(meterRegistry, "passed");
+        this.rejected = checks(meterRegistry, "rejected");
+        Gauge.builder("prs.account_filter.memory", this, f -> f.filter == null ? 0 : f.filter.sizeInBytes())
+                .description("Memory used by the account ID filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("prs.account_filter.entries", entries, AtomicLong::get)
+                .description("Account IDs added to the account ID filter")
+                .register(meterRegistry);
+        Gauge.builder("prs.account_filter.false_positive_rate", this, AccountIdFilter::expectedFalsePositiveRate)
+                .description("Expected rate at which unknown account IDs pass the account ID filter")
+                .register(meterRegistry);
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("prs.account_filter.checks")
+                .description("Account ID filter checks, by whether the account was rejected without a database lookup")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return {@code false} only when the account definitely has no personal info record
+     */
+    public boolean mightContain(String accountId) {
+        BloomFilter current = filter;
+        if (current == null || accountId == null) {
+            return true;
+        }
+        if (current.mightContain(accountId)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Records a newly inserted account, now and again once the surrounding transaction commits, so a rebuild
+     * whose scan did not yet see the uncommitted row cannot drop it.
+     */
+    public void addAccountId(String accountId) {
+        if (!properties.isEnabled() || accountId == null) {
+            return;
+        }
+        putAccountId(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putAccountId(accountId);
+                }
+            });
+        }
+    }
+
+    private void putAccountId(String accountId) {
+        synchronized (lock) {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.putValue(accountId);
+                entries.incrementAndGet();
+            }
+            if (addedDuringRebuild != null) {
+                addedDuringRebuild.add(accountId);
+            }
+        }
+    }
+
+    /**
+     * Replaces the filter with one built from a fresh scan of all account IDs. On failure the previous filter
+     * is kept.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${kyc.account-filter.refresh-interval:PT15M}")
+    public void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (lock) {
+            addedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            AtomicLong scanned = new AtomicLong();
+            BloomFilter next = readOnlyTransaction.execute(status -> {
+                long rows = accountShards.scatterGather(() -> List.of(repository.count())).stream()
+                        .mapToLong(Long::longValue)
+                        .sum();
+                // Leave headroom for the accounts created until the next rebuild
+                BloomFilter built = BloomFilter.create(Math.max(properties.getExpectedInsertions(), rows + rows / 4),
+                        properties.getFalsePositiveRate(), properties.getMaxMemory().toBytes() * Byte.SIZE);
+                // On a sharded database the shards are scanned in parallel; the filter takes concurrent puts
+                accountShards.scatterGather(() -> {
+                    try (Stream<String> accountIds = repository.streamAllAccountIds()) {
+                        accountIds.forEach(accountId -> {
+                            built.putValue(accountId);
+                            scanned.incrementAndGet();
+                        });
+                    }
+                    return List.of();
+                });
+                return built;
+            });
+
+            synchronized (lock) {
+                addedDuringRebuild.forEach(next::putValue);
+                entries.set(scanned.get() + addedDuringRebuild.size());
+                filter = next;
+            }
+            log.info("Account filter rebuilt with {} accounts in {} ms: {} KiB, {} hash functions, expected false-positive rate {}",
+                    entries.get(), (System.nanoTime() - start) / 1_000_000, next.sizeInBytes() / 1024,
+                    next.hashCount(), String.format("%.4f", expectedFalsePositiveRate()));
+        } catch (RuntimeException e) {
+            log.error("Failed to rebuild account filter, keeping the previous one", e);
+        } finally {
+            synchronized (lock) {
+                addedDuringRebuild = null;
+            }
+        }
+    }
+
+    double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 1.0 : current.expectedFalsePositiveRate(entries.get());
+    }
+}
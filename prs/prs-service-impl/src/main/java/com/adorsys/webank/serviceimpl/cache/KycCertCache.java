@@ -0,0 +1,102 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.KycCertCacheProperties;
+import com.adorsys.webank.properties.JwtProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Issued KYC certificates per account and device key thumbprint, so that a client polling for its
+ * certificate does not cost a P-256 signature on every request. A certificate is re-served until the
+ * configured fraction of its lifetime has passed; all certificates of an account are dropped when its
+ * KYC status changes.
+ */
+@Component
+public class KycCertCache {
+
+    static final String CACHE_NAME = "kycCert";
+
+    private final Cache<String, Map<String, IssuedCert>> cache;
+    private final long reuseMillis;
+    private final Clock clock;
+
+    @Autowired
+    public KycCertCache(KycCertCacheProperties properties, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this(properties, jwtProperties, meterRegistry, Clock.systemUTC());
+    }
+
+    KycCertCache(KycCertCacheProperties properties, JwtProperties jwtProperties, MeterRegistry meterRegistry,
+                 Clock clock) {
+        this.clock = clock;
+        this.reuseMillis = (long) (jwtProperties.getExpirationTimeMs() * properties.getReuseFraction());
+        this.cache = properties.isEnabled() && reuseMillis > 0
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterAccess(Duration.ofMillis(reuseMillis))
+                        .recordStats()
+                        .build()
+                : null;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    private record IssuedCert(String certificate, long issuedAt) {
+    }
+
+    /**
+     * Returns the certificate issued to this device key within the reuse window, or signs a new one.
+     * Results rejected by {@code cacheable} (e.g. error messages) are returned but not kept.
+     */
+    public String getOrIssue(String accountId, String deviceThumbprint, Supplier<String> issuer,
+                             Predicate<String> cacheable) {
+        if (cache == null || accountId == null) {
+            return issuer.get();
+        }
+        Map<String, IssuedCert> certs = cache.get(accountId, id -> new ConcurrentHashMap<>());
+        long now = clock.millis();
+        IssuedCert issued = certs.get(deviceThumbprint);
+        if (issued != null && now - issued.issuedAt() < reuseMillis) {
+            return issued.certificate();
+        }
+
+        String certificate = issuer.get();
+        if (cacheable.test(certificate)) {
+            certs.put(deviceThumbprint, new IssuedCert(certificate, now));
+        } else {
+            certs.remove(deviceThumbprint);
+        }
+        return certificate;
+    }
+
+    /**
+     * Drops all certificates of the account now and again once the surrounding transaction completes.
+     */
+    public void evictAfterCommit(String accountId) {
+        if (cache == null || accountId == null) {
+            return;
+        }
+        cache.invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(accountId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.PersonalInfoCacheProperties;
+import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.projection.PersonalInfoProjection;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Bounded, TTL-based read-through cache of {@link PersonalInfoProjection} keyed by account ID.
+ * <p>
+ * Reads go through {@link #findByAccountId(String)}; every service that writes personal info calls
+ * {@link #evictAfterCommit(String)} so the next read sees the committed row. Hits, misses and evictions
+ * are published under the {@code cache.*} meters with the tag {@code cache=personalInfo}.
+ * <p>
+ * Entries are only filled from the primary. A miss inside a read-only transaction, which may be served by a
+ * lagging replica, reads through without caching the row.
+ */
+@Component
+public class PersonalInfoCache {
+
+    static final String CACHE_NAME = "personalInfo";
+
+    private final PersonalInfoRepository repository;
+    private final Cache<String, Optional<PersonalInfoProjection>> cache;
+
+    public PersonalInfoCache(PersonalInfoRepository repository, PersonalInfoCacheProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.cache = properties.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumSize(properties.getMaximumSize())
+                        .expireAfterWrite(properties.getTtl())
+                        .recordStats()
+                        .build()
+                : null;
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        }
+    }
+
+    /**
+     * Returns the personal info of the account, loading it from the database on a miss.
+     * Absent accounts are cached too, so repeated polling for an unknown account stays off the database.
+     */
+    public Optional<PersonalInfoProjection> findByAccountId(String accountId) {
+        if (cache == null || accountId == null) {
+            return repository.findByAccountId(accountId);
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            Optional<PersonalInfoProjection> cached = cache.getIfPresent(accountId);
+            return cached != null ? cached : repository.findByAccountId(accountId);
+        }
+        return cache.get(accountId, id -> repository.findByAccountId(id).map(Snapshot::fromProjection));
+    }
+
+    /**
+     * Drops the cached entry now and again once the surrounding transaction completes, so a reader
+     * running between the write and the commit cannot put the old row back into the cache.
+     */
+    public void evictAfterCommit(String accountId) {
+        if (cache == null || accountId == null) {
+            return;
+        }
+        cache.invalidate(accountId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(accountId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Detached copy of a projection; Spring Data projections may be backed by a live tuple and must not be
+     * shared across threads.
+     */
+    @Value
+    static class Snapshot implements PersonalInfoProjection {
+        String accountId;
+        String documentUniqueId;
+        String expirationDate;
+        LocalDateTime otpExpirationDateTime;
+        String location;
+        String email;
+        String emailOtpHash;
+        String emailOtpCode;
+        PersonalInfoStatus status;
+        String rejectionReason;
+
+        static Snapshot fromProjection(PersonalInfoProjection projection) {
+            return new Snapshot(projection.getAccountId(), projection.getDocumentUniqueId(),
+                    projection.getExpirationDate(), projection.getOtpExpirationDateTime(),
+                    projection.getLocation(), projection.getEmail(), projection.getEmailOtpHash(),
+                    projection.getEmailOtpCode(), projection.getStatus(), projection.getRejectionReason());
+        }
+    }
+}
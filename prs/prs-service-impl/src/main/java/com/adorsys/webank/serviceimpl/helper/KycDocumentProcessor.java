@@ -0,0 +1,143 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import com.adorsys.webank.config.logging.PiiMask;
+import com.adorsys.webank.config.properties.KycDocumentProcessingProperties;
+import com.adorsys.webank.dto.KycDocumentRequest;
+import com.adorsys.webank.repository.UserDocumentsRepository;
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Normalises uploaded KYC document images in the background: the upload is stored as received and
+ * answered immediately, then a bounded worker pool replaces the images with downscaled JPEGs and
+ * stores thumbnails. When the queue is full the originals are simply kept. Results are only stored
+ * while the processed upload is still the account's current one, whichever instance received a newer one.
+ */
+@Slf4j
+@Component
+public class KycDocumentProcessor {
+
+    private final UserDocumentsRepository repository;
+    private final KycImageCompressor compressor;
+    private final boolean enabled;
+    private static final ContextSnapshotFactory CONTEXT_SNAPSHOTS = ContextSnapshotFactory.builder().build();
+
+    private final ExecutorService executor;
+
+    public KycDocumentProcessor(UserDocumentsRepository repository, KycDocumentProcessingProperties properties) {
+        this.repository = repository;
+        this.compressor = new KycImageCompressor(properties);
+        this.enabled = properties.isEnabled();
+        // Jobs keep the uploading request's trace context, so their spans link back to it
+        this.executor = enabled
+                ? ContextExecutorService.wrap(new ThreadPoolExecutor(properties.getWorkerThreads(),
+                        properties.getWorkerThreads(), 0L, TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                        new CustomizableThreadFactory("kyc-doc-"), new ThreadPoolExecutor.AbortPolicy()),
+                        CONTEXT_SNAPSHOTS::captureAll)
+                : null;
+    }
+
+    /**
+     * Queues the documents of an upload for processing. Inside a transaction the job is only queued
+     * once it commits, so workers never race the row they are meant to update.
+     */
+    public void scheduleProcessing(String accountId, String uploadId, KycDocumentRequest documents) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(accountId, uploadId, documents);
+                }
+            });
+        } else {
+            submit(accountId, uploadId, documents);
+        }
+    }
+
+    private void submit(String accountId, String uploadId, KycDocumentRequest documents) {
+        String correlationId = MDC.get("correlationId");
+        try {
+            executor.execute(() -> process(accountId, uploadId, documents, correlationId));
+        } catch (RejectedExecutionException e) {
+            log.warn("Document processing queue full, keeping original documents for accountId: {} [correlationId={}]",
+                    PiiMask.accountId(accountId), correlationId);
+        }
+    }
+
+    private void process(String accountId, String uploadId, KycDocumentRequest documents, String correlationId) {
+        MDC.put("correlationId", correlationId);
+        try {
+            KycImageCompressor.CompressedDocument front = compress(documents.getFrontId());
+            KycImageCompressor.CompressedDocument back = compress(documents.getBackId());
+            KycImageCompressor.CompressedDocument selfie = compress(documents.getSelfieId());
+            KycImageCompressor.CompressedDocument tax = compress(documents.getTaxId());
+
+            if (front == null && back == null && selfie == null && tax == null) {
+                log.debug("No processable images for accountId: {} [correlationId={}]",
+                        PiiMask.accountId(accountId), correlationId);
+                return;
+            }
+
+            // The upload id check runs in the UPDATE itself, so a newer upload can never be overwritten
+            int updated = repository.updateProcessedDocuments(accountId, uploadId,
+                    content(front), content(back), content(selfie), content(tax),
+                    thumbnail(front), thumbnail(back), thumbnail(selfie), thumbnail(tax));
+            if (updated == 0) {
+                log.debug("Upload superseded, discarding processed documents for accountId: {} [correlationId={}]",
+                        PiiMask.accountId(accountId), correlationId);
+                return;
+            }
+            log.info("Stored processed KYC documents for accountId: {} [correlationId={}]",
+                    PiiMask.accountId(accountId), correlationId);
+        } catch (Exception e) {
+            log.error("Failed to process KYC documents for accountId: {}, originals kept [correlationId={}]",
+                    PiiMask.accountId(accountId), correlationId, e);
+        } finally {
+            MDC.remove("correlationId");
+        }
+    }
+
+    private KycImageCompressor.CompressedDocument compress(String document) {
+        try {
+            return compressor.compress(document);
+        } catch (Exception e) {
+            log.warn("Could not decode KYC document image, keeping original: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String content(KycImageCompressor.CompressedDocument document) {
+        return document == null ? null : document.content();
+    }
+
+    private static String thumbnail(KycImageCompressor.CompressedDocument document) {
+        return document == null ? null : document.thumbnail();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown();
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import com.adorsys.webank.config.properties.KycDocumentProcessingProperties;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
+
+/**
+ * Downscales and re-encodes base64 KYC document images as JPEG and derives a thumbnail.
+ * Stateless and thread-safe; anything that cannot be decoded as a raster image is left to the caller untouched.
+ */
+public final class KycImageCompressor {
+
+    private static final String DATA_URI_PREFIX = "data:";
+    private static final String BASE64_MARKER = ";base64,";
+    private static final String JPEG_DATA_URI_PREFIX = "data:image/jpeg;base64,";
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final int thumbnailDimension;
+    private final float thumbnailQuality;
+    private final long maxSourcePixels;
+
+    public KycImageCompressor(KycDocumentProcessingProperties properties) {
+        this.maxDimension = properties.getMaxDimension();
+        this.jpegQuality = properties.getJpegQuality();
+        this.thumbnailDimension = properties.getThumbnailDimension();
+        this.thumbnailQuality = properties.getThumbnailQuality();
+        this.maxSourcePixels = properties.getMaxSourcePixels();
+    }
+
+    /**
+     * Result of compressing one document.
+     *
+     * @param content   the re-encoded document, or {@code null} when the original is already smaller
+     * @param thumbnail the thumbnail, encoded in the same form (data URI or bare base64) as the input
+     */
+    public record CompressedDocument(String content, String thumbnail) {
+    }
+
+    /**
+     * @return the compressed document, or {@code null} if the input is empty, not base64 or not a supported image
+     */
+    public CompressedDocument compress(String document) throws IOException {
+        if (document == null || document.isBlank()) {
+            return null;
+        }
+
+        boolean dataUri = document.startsWith(DATA_URI_PREFIX);
+        String payload = document;
+        if (dataUri) {
+            int marker = document.indexOf(BASE64_MARKER);
+            if (marker < 0) {
+                return null;
+            }
+            payload = document.substring(marker + BASE64_MARKER.length());
+        }
+
+        byte[] raw;
+        try {
+            raw = Base64.getMimeDecoder().decode(payload.getBytes(StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        int orientation = readExifOrientation(raw);
+        if (orientation != 1 && orientation != 3 && orientation != 6 && orientation != 8) {
+            // Mirrored orientations are rare enough that we keep the original rather than risk a wrong flip
+            return null;
+        }
+
+        BufferedImage source = decode(raw);
+        if (source == null) {
+            return null;
+        }
+
+        BufferedImage normalised = orient(resize(source, maxDimension), orientation);
+        byte[] compressed = encodeJpeg(normalised, jpegQuality);
+        byte[] thumbnail = encodeJpeg(resize(normalised, thumbnailDimension), thumbnailQuality);
+
+        String content = compressed.length < raw.length ? encode(compressed, dataUri) : null;
+        return new CompressedDocument(content, encode(thumbnail, dataUri));
+    }
+
+    private BufferedImage decode(byte[] raw) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(raw))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    return null;
+                }
+                // Let the decoder skip pixels we would throw away anyway, keeping at least 2x the target
+                // resolution so the final smooth downscale still has detail to work with
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scales the image so its longest edge is at most {@code limit}, halving in steps so that small text
+     * on ID documents stays legible, and flattens any alpha channel onto white for JPEG output.
+     */
+    static BufferedImage resize(BufferedImage source, int limit) {
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1d, (double) limit / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            if (current.getWidth() <= targetWidth * 2 && current.getHeight() <= targetHeight * 2) {
+                width = targetWidth;
+                height = targetHeight;
+            }
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * Bakes the EXIF orientation into the pixels, since the re-encoded JPEG carries no metadata and
+     * reviewers would otherwise see phone photos sideways.
+     */
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        if (orientation == 1) {
+            return image;
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean quarterTurn = orientation == 6 || orientation == 8;
+        BufferedImage target = new BufferedImage(quarterTurn ? height : width, quarterTurn ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            switch (orientation) {
+                case 3 -> {
+                    graphics.translate(width, height);
+                    graphics.rotate(Math.PI);
+                }
+                case 6 -> {
+                    graphics.translate(height, 0);
+                    graphics.rotate(Math.PI / 2);
+                }
+                default -> {
+                    graphics.translate(0, width);
+                    graphics.rotate(-Math.PI / 2);
+                }
+            }
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG writer available");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ImageOutputStream output = new MemoryCacheImageOutputStream(buffer)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static String encode(byte[] jpeg, boolean dataUri) {
+        String base64 = Base64.getEncoder().encodeToString(jpeg);
+        return dataUri ? JPEG_DATA_URI_PREFIX + base64 : base64;
+    }
+
+    /**
+     * Reads the EXIF orientation from a JPEG's APP1 segment.
+     *
+     * @return the orientation (1-8), or 1 when the data is not a JPEG or carries no orientation
+     */
+    static int readExifOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int offset = 2;
+        while (offset + 4 <= data.length) {
+            if ((data[offset] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = data[offset + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1;
+            }
+            int length = readUnsignedShort(data, offset + 2, true);
+            int segmentEnd = offset + 2 + length;
+            if (marker == 0xE1 && segmentEnd <= data.length && isExifHeader(data, offset + 4)) {
+                return readTiffOrientation(data, offset + 10, segmentEnd);
+            }
+            offset = segmentEnd;
+        }
+        return 1;
+    }
+
+    private static boolean isExifHeader(byte[] data, int offset) {
+        return offset + 6 <= data.length
+                && data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i' && data[offset + 3] == 'f'
+                && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    private static int readTiffOrientation(byte[] data, int tiffStart, int end) {
+        if (tiffStart + 8 > end) {
+            return 1;
+        }
+        boolean bigEndian = data[tiffStart] == 'M' && data[tiffStart + 1] == 'M';
+        long ifdOffset = readInt(data, tiffStart + 4, bigEndian) & 0xFFFFFFFFL;
+        long ifdStart = tiffStart + ifdOffset;
+        if (ifdStart + 2 > end) {
+            return 1;
+        }
+        int entries = readUnsignedShort(data, (int) ifdStart, bigEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifdStart + 2 + i * 12;
+            if (entry + 12 > end) {
+                return 1;
+            }
+            if (readUnsignedShort(data, entry, bigEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readUnsignedShort(data, entry + 8, bigEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readUnsignedShort(byte[] data, int offset, boolean bigEndian) {
+        int first = data[offset] & 0xFF;
+        int second = data[offset + 1] & 0xFF;
+        return bigEndian ? (first << 8) | second : (second << 8) | first;
+    }
+
+    private static int readInt(byte[] data, int offset, boolean bigEndian) {
+        int high = readUnsignedShort(data, bigEndian ? offset : offset + 2, bigEndian);
+        int low = readUnsignedShort(data, bigEndian ? offset + 2 : offset, bigEndian);
+        return (high << 16) | low;
+    }
+}
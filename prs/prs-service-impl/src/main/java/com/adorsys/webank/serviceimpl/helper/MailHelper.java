@@ -1,7 +1,10 @@
 package com.adorsys.webank.serviceimpl.helper;
 
 import com.adorsys.error.FailedToSendOTPException;
+import com.adorsys.webank.config.logging.PiiMask;
 import com.adorsys.webank.config.properties.MailProperties;
+import com.adorsys.webank.observability.Stage;
+import com.adorsys.webank.observability.StageTimer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +34,7 @@ public class MailHelper {
      */
     public void sendOtpEmail(String toEmail, String otp) {
         String correlationId = MDC.get("correlationId");
-        log.info("Sending Email OTP to: {} [correlationId={}]", maskEmail(toEmail), correlationId);
+        log.info("Sending Email OTP to: {} [correlationId={}]", PiiMask.email(toEmail), correlationId);
         
         MimeMessage message = mailSender.createMimeMessage();
 
@@ -42,43 +45,16 @@ public class MailHelper {
             helper.setSubject("Webank Verification Code");
             helper.setText(String.format("Your Webank OTP is: %s (valid for 5 minutes)", otp));
 
-            mailSender.send(message);
+            StageTimer.record(Stage.SMTP_SEND, () -> {
+                mailSender.send(message);
+                return null;
+            });
             log.info("Email OTP sent successfully to: {} [correlationId={}]", 
-                    maskEmail(toEmail), correlationId);
+                    PiiMask.email(toEmail), correlationId);
         } catch (MessagingException e) {
             log.error("Failed to send Email OTP to: {} [correlationId={}]", 
-                    maskEmail(toEmail), correlationId, e);
+                    PiiMask.email(toEmail), correlationId, e);
             throw new FailedToSendOTPException("Failed to send Webank email: " + e.getMessage());
         }
     }
-
-    /**
-     * Masks an email address for logging purposes.
-     * Shows only first character and domain.
-     */
-    public String maskEmail(String email) {
-        if (email == null || email.isEmpty()) {
-            return "********";
-        }
-        if (email.contains("@")) {
-            int atIndex = email.indexOf('@');
-            if (atIndex > 0) {
-                String firstChar = email.substring(0, 1);
-                String domain = email.substring(atIndex);
-                return firstChar + "****" + domain;
-            }
-        }
-        return email.charAt(0) + "********";
-    }
-
-    /**
-     * Masks an account ID for logging purposes
-     * Shows only first 2 and last 2 characters
-     */
-    public String maskAccountId(String accountId) {
-        if (accountId == null || accountId.length() < 5) {
-            return "********";
-        }
-        return accountId.substring(0, 2) + "****" + accountId.substring(accountId.length() - 2);
-    }
 }
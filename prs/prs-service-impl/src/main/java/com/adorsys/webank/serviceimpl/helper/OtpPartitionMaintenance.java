@@ -0,0 +1,155 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import com.adorsys.webank.config.properties.OtpPartitioningProperties;
+import com.adorsys.webank.config.properties.OtpPartitioningProperties.RetireMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Keeps the daily partitions of {@code otp_requests} in shape: creates the partitions for the coming days and
+ * retires partitions older than the retention by detaching (and optionally dropping) them, so expired OTPs are
+ * removed without row-by-row deletes, dead tuples or vacuum work. Rows that landed in the default partition are moved
+ * into their daily partition when it is created, or deleted once they are past the retention.
+ * <p>
+ * Runs on every instance; each step takes a transaction-scoped advisory lock, so only one of them works at a time.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "otp.partitioning", name = "enabled", havingValue = "true")
+public class OtpPartitionMaintenance {
+
+    static final String PARENT_TABLE = "otp_requests";
+    private static final String PARTITION_PREFIX = PARENT_TABLE + "_p";
+    private static final String DEFAULT_PARTITION = PARENT_TABLE + "_default";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+    /** Advisory lock key shared by all instances ("otp_part"). */
+    private static final long LOCK_KEY = 0x6F74705F70617274L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OtpPartitioningProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public OtpPartitionMaintenance(JdbcTemplate jdbcTemplate, OtpPartitioningProperties properties,
+                                   PlatformTransactionManager transactionManager) {
+        this(jdbcTemplate, properties, transactionManager, Clock.systemDefaultZone());
+    }
+
+    OtpPartitionMaintenance(JdbcTemplate jdbcTemplate, OtpPartitioningProperties properties,
+                            PlatformTransactionManager transactionManager, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${otp.partitioning.maintenance-interval:PT1H}")
+    public void maintain() {
+        LocalDate today = LocalDate.now(clock);
+        for (int i = 0; i <= properties.getDaysAhead(); i++) {
+            LocalDate day = today.plusDays(i);
+            inLockedTransaction("create partition " + partitionName(day), () -> createPartition(day));
+        }
+        inLockedTransaction("retire partitions", this::retirePartitions);
+    }
+
+    /**
+     * Runs one maintenance step in a transaction of its own, so that a failing step is retried on the next run
+     * without rolling back or blocking the others.
+     */
+    private void inLockedTransaction(String step, Runnable work) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    log.debug("OTP partition maintenance is running on another instance, skipping {}", step);
+                    return;
+                }
+                work.run();
+            });
+        } catch (DataAccessException e) {
+            log.error("OTP partition maintenance failed to {}", step, e);
+        }
+    }
+
+    private void createPartition(LocalDate day) {
+        String partition = partitionName(day);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) {
+            return;
+        }
+        String bounds = " FOR VALUES FROM ('" + day + "') TO ('" + day.plusDays(1) + "')";
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+        Integer strayRows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + DEFAULT_PARTITION
+                + " WHERE created_at >= ? AND created_at < ?", Integer.class, from, to);
+        if (strayRows == null || strayRows == 0) {
+            jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + PARENT_TABLE + bounds);
+            return;
+        }
+        // PARTITION OF is rejected while the default partition holds rows of the range, so they are moved into
+        // a standalone table that is then attached
+        log.warn("Moving {} OTP requests of {} out of the default partition", strayRows, day);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE " + PARENT_TABLE
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        jdbcTemplate.update("INSERT INTO " + partition + " SELECT * FROM " + DEFAULT_PARTITION
+                + " WHERE created_at >= ? AND created_at < ?", from, to);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at >= ? AND created_at < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + partition + bounds);
+    }
+
+    private void retirePartitions() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(properties.getRetention());
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT child.relname FROM pg_inherits "
+                        + "JOIN pg_class parent ON parent.oid = pg_inherits.inhparent "
+                        + "JOIN pg_class child ON child.oid = pg_inherits.inhrelid "
+                        + "WHERE parent.relname = ?", String.class, PARENT_TABLE);
+        for (String partition : partitions) {
+            LocalDate day = partitionDay(partition);
+            // The default partition and partitions still holding rows newer than the cutoff are kept
+            if (day == null || day.plusDays(1).atStartOfDay().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partition);
+            if (properties.getRetireMode() == RetireMode.DROP) {
+                jdbcTemplate.execute("DROP TABLE " + partition);
+            }
+            log.info("Retired OTP partition {} ({})", partition, properties.getRetireMode());
+        }
+        int purged = jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE created_at < ?", cutoff);
+        if (purged > 0) {
+            log.info("Purged {} expired OTP requests from the default partition", purged);
+        }
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + PARTITION_SUFFIX.format(day);
+    }
+
+    private static LocalDate partitionDay(String partition) {
+        if (!partition.startsWith(PARTITION_PREFIX)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
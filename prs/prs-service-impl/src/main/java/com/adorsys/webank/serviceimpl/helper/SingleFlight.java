@@ -0,0 +1,89 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical work: while a computation for an (operation, key) pair is running, further
+ * callers with the same pair wait for it and receive its result (or its exception) instead of repeating it.
+ * Nothing is cached once the computation finishes.
+ * <p>
+ * Every call is counted in {@code prs.single_flight.calls}, tagged with the operation and whether it
+ * {@code executed} the work or was {@code coalesced} onto another caller's.
+ */
+@Component
+public class SingleFlight {
+
+    private static final String METRIC_NAME = "prs.single_flight.calls";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<FlightKey, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> executed = new ConcurrentHashMap<>();
+    private final Map<String, Counter> coalesced = new ConcurrentHashMap<>();
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    private record FlightKey(String operation, Object key) {
+    }
+
+    /**
+     * Runs {@code work}, or joins the identical call already in progress.
+     *
+     * @param operation name of the deduplicated operation, used as metric tag
+     * @param key       identifies identical calls within the operation; must implement equals/hashCode
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String operation, Object key, Supplier<V> work) {
+        FlightKey flightKey = new FlightKey(operation, key);
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, own);
+        if (running != null) {
+            counter(coalesced, operation, "coalesced").increment();
+            return (V) await(running);
+        }
+
+        counter(executed, operation, "executed").increment();
+        try {
+            V result = work.get();
+            own.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, own);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            // Followers see the leader's exception as if they had run the work themselves
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private Counter counter(Map<String, Counter> counters, String operation, String result) {
+        return counters.computeIfAbsent(operation, name -> Counter.builder(METRIC_NAME)
+                .description("Calls to coalesced operations, by whether they ran the work or shared another call's result")
+                .tag("operation", name)
+                .tag("result", result)
+                .register(meterRegistry));
+    }
+}
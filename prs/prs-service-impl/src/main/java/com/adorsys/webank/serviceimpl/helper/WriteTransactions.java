@@ -0,0 +1,39 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs the database part of a service method in a transaction of its own, so that the method can do its CPU-bound
+ * work (canonicalisation, password hashing) and remote calls before or after it without holding a pooled connection.
+ * <p>
+ * With {@code spring.jpa.open-in-view} off, the transaction manager takes the connection when the transaction begins
+ * and returns it to the pool on commit or rollback. The hold time is recorded per service method by
+ * {@link com.adorsys.webank.config.ConnectionHoldConfiguration}.
+ */
+@Component
+public class WriteTransactions {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public WriteTransactions(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Runs {@code work} in a read-write transaction.
+     *
+     * @throws IllegalStateException when called inside a transaction, whose connection would stay held around the
+     *                               work anyway
+     */
+    public <T> T execute(Supplier<T> work) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("WriteTransactions must not be used inside another transaction");
+        }
+        return transactionTemplate.execute(status -> work.get());
+    }
+}
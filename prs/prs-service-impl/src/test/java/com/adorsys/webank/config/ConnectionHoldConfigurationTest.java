@@ -0,0 +1,87 @@
+package com.adorsys.webank.config;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionHoldConfigurationTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Connection connection;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        connection = mock(Connection.class);
+        DataSource pool = mock(DataSource.class);
+        when(pool.getConnection()).thenReturn(connection);
+        dataSource = new ConnectionHoldConfiguration.ConnectionHoldDataSource(pool, () -> meterRegistry);
+    }
+
+    @Test
+    void getConnection_InServiceMethod_HoldRecordedOnClose() throws SQLException {
+        // Given
+        AccountServiceImpl service = serviceProxy(new AccountServiceImpl(dataSource));
+
+        // When
+        Connection held = service.takeConnection();
+        long countWhileHeld = holdTimer().count();
+        held.close();
+        held.close();
+
+        // Then
+        assertEquals(0, countWhileHeld);
+        assertEquals(1, holdTimer().count());
+        verify(connection, times(2)).close();
+        assertSame(connection, ((ConnectionProxy) held).getTargetConnection());
+    }
+
+    @Test
+    void getConnection_OutsideServiceMethod_NotRecorded() throws SQLException {
+        // When
+        Connection held = dataSource.getConnection();
+        held.close();
+
+        // Then
+        assertSame(connection, held);
+        assertTrue(meterRegistry.find(ConnectionHoldConfiguration.METRIC_NAME).timers().isEmpty());
+    }
+
+    private Timer holdTimer() {
+        return meterRegistry.get(ConnectionHoldConfiguration.METRIC_NAME)
+                .tag("class", "AccountServiceImpl")
+                .tag("method", "takeConnection")
+                .timer();
+    }
+
+    private AccountServiceImpl serviceProxy(AccountServiceImpl target) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new ConnectionHoldConfiguration.ServiceMethodInterceptor());
+        return (AccountServiceImpl) proxyFactory.getProxy();
+    }
+
+    static class AccountServiceImpl {
+
+        private final DataSource dataSource;
+
+        AccountServiceImpl(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        public Connection takeConnection() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.adorsys.webank.config;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingConfigurationTest {
+
+    private final List<Observation.Context> stopped = new ArrayList<>();
+    private ObservationRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+    }
+
+    @Test
+    void invoke_Service_ObservedUnderClassAndMethod() {
+        // Given
+        GreetingServiceImpl service = observed(new GreetingServiceImpl(), TracingConfiguration.SERVICE_OBSERVATION,
+                "class", null);
+
+        // When
+        String greeting = service.greet("PRS");
+
+        // Then
+        assertEquals("Hello PRS", greeting);
+        assertEquals(1, stopped.size());
+        Observation.Context context = stopped.get(0);
+        assertEquals("prs.service", context.getName());
+        assertEquals("GreetingServiceImpl.greet", context.getContextualName());
+        assertEquals(KeyValue.of("class", "GreetingServiceImpl"), context.getLowCardinalityKeyValue("class"));
+        assertEquals(KeyValue.of("method", "greet"), context.getLowCardinalityKeyValue("method"));
+        assertNull(context.getError());
+    }
+
+    @Test
+    void invoke_RepositoryThrows_ErrorRecordedAndRethrown() {
+        // Given
+        GreetingServiceImpl repository = observed(new GreetingServiceImpl(),
+                TracingConfiguration.REPOSITORY_OBSERVATION, "repository", "GreetingRepository");
+
+        // When
+        IllegalStateException thrown = assertThrows(IllegalStateException.class, repository::fail);
+
+        // Then
+        Observation.Context context = stopped.get(0);
+        assertEquals("prs.repository", context.getName());
+        assertEquals("GreetingRepository.fail", context.getContextualName());
+        assertEquals(KeyValue.of("repository", "GreetingRepository"), context.getLowCardinalityKeyValue("repository"));
+        assertSame(thrown, context.getError());
+    }
+
+    @Test
+    void repositoryObservationMeterFilter_RepositoryObservation_OnlyServiceTimed() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config().meterFilter(TracingConfiguration.repositoryObservationMeterFilter());
+        registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        GreetingServiceImpl service = observed(new GreetingServiceImpl(), TracingConfiguration.SERVICE_OBSERVATION,
+                "class", null);
+        GreetingServiceImpl repository = observed(new GreetingServiceImpl(),
+                TracingConfiguration.REPOSITORY_OBSERVATION, "repository", "GreetingRepository");
+
+        // When
+        service.greet("PRS");
+        repository.greet("PRS");
+
+        // Then
+        assertEquals(2, stopped.size());
+        assertEquals(1, meterRegistry.get("prs.service").timer().count());
+        assertTrue(meterRegistry.find("prs.repository").meters().isEmpty());
+        assertTrue(meterRegistry.find("prs.repository.active").meters().isEmpty());
+    }
+
+    private GreetingServiceImpl observed(GreetingServiceImpl target, String name, String typeKey, String typeName) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TracingConfiguration.ObservedMethodInterceptor(name, typeKey, typeName,
+                () -> registry));
+        return (GreetingServiceImpl) proxyFactory.getProxy();
+    }
+
+    static class GreetingServiceImpl {
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public String fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
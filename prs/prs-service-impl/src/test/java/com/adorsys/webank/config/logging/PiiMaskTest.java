@@ -0,0 +1,35 @@
+package com.adorsys.webank.config.logging;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiiMaskTest {
+
+    @Test
+    void accountId_ShowsFirstAndLastTwoCharacters() {
+        assertEquals("AC****89", PiiMask.accountId("ACC-123456789").toString());
+        assertEquals("ID****34", PiiMask.identifier("ID1234").toString());
+    }
+
+    @Test
+    void phoneNumber_ShowsLastFourDigits() {
+        assertEquals("******4567", PiiMask.phoneNumber("+237691234567").toString());
+    }
+
+    @Test
+    void email_ShowsFirstCharacterAndDomain() {
+        assertEquals("j****@example.com", PiiMask.email("jane.doe@example.com").toString());
+        assertEquals("****@example.com", PiiMask.email("@example.com").toString());
+    }
+
+    @Test
+    void shortMissingOrSecretValues_FullyHidden() {
+        assertEquals("********", PiiMask.accountId("AC12").toString());
+        assertEquals("********", PiiMask.accountId(null).toString());
+        assertEquals("********", PiiMask.phoneNumber("123").toString());
+        assertEquals("********", PiiMask.email("not-an-email").toString());
+        assertEquals("********", PiiMask.email(null).toString());
+        assertEquals("********", PiiMask.hidden("123456").toString());
+    }
+}
@@ -0,0 +1,113 @@
+package com.adorsys.webank.observability;
+
+import com.adorsys.webank.properties.FlightRecorderProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.MDC;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuousRecordingTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private ContinuousRecording recording;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        FlightRecorderProperties properties = new FlightRecorderProperties();
+        properties.setDumpDirectory(dumpDirectory.toString());
+        properties.setDumpToken("s3cret");
+        properties.setMaxAge(Duration.ofMinutes(5));
+        recording = new ContinuousRecording(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+        MDC.clear();
+    }
+
+    @Test
+    void dump_AfterStagesAndRepositoryCalls_FileHoldsTheirEvents() throws Exception {
+        // Given
+        MDC.put("correlationId", "corr-1");
+        StageTimer.record(Stage.JSON_CANONICALIZATION, () -> "{\"a\":1}");
+        RepositoryCallEvent repositoryCall = new RepositoryCallEvent();
+        repositoryCall.begin();
+        repositoryCall.record("OtpRequestRepository", "save");
+
+        // When
+        Path file = recording.dump(Duration.ofHours(1));
+
+        // Then
+        assertEquals(dumpDirectory, file.getParent());
+        assertTrue(file.getFileName().toString().endsWith("-5m.jfr"));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent stage = single(events, "com.adorsys.webank.Stage");
+        assertEquals("json_canonicalization", stage.getString("stage"));
+        assertEquals("succeeded", stage.getString("outcome"));
+        assertEquals("corr-1", stage.getString("correlationId"));
+        RecordedEvent call = single(events, "com.adorsys.webank.RepositoryCall");
+        assertEquals("OtpRequestRepository", call.getString("repository"));
+        assertEquals("save", call.getString("method"));
+        assertTrue(Files.size(file) > 0);
+    }
+
+    @Test
+    void dump_Repeatedly_KeepsOnlyTheMostRecentDumps() throws Exception {
+        // Given
+        StageTimer.record(Stage.JSON_CANONICALIZATION, () -> "{\"a\":1}");
+
+        // When
+        Path latest = null;
+        for (int i = 0; i <= ContinuousRecording.RETAINED_DUMPS; i++) {
+            latest = recording.dump(Duration.ofMinutes(1));
+            Thread.sleep(5);
+        }
+
+        // Then
+        try (Stream<Path> files = Files.list(dumpDirectory)) {
+            List<Path> dumps = files.toList();
+            assertEquals(ContinuousRecording.RETAINED_DUMPS, dumps.size());
+            assertTrue(dumps.contains(latest));
+        }
+    }
+
+    @Test
+    void authorizes_OnlyTheConfiguredToken() throws Exception {
+        // Given
+        FlightRecorderProperties withoutToken = new FlightRecorderProperties();
+        withoutToken.setDumpDirectory(dumpDirectory.toString());
+        ContinuousRecording unprotected = new ContinuousRecording(withoutToken);
+
+        try {
+            // When / Then
+            assertTrue(recording.authorizes("s3cret"));
+            assertFalse(recording.authorizes("s3cre"));
+            assertFalse(recording.authorizes(null));
+            assertFalse(unprotected.authorizes(""));
+        } finally {
+            unprotected.close();
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+        assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.adorsys.webank.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogSamplingFilterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private LoggerContext context;
+    private LogSamplingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.INFO);
+        filter = new LogSamplingFilter(nanoTime::get);
+        filter.setContext(context);
+        filter.addLogger("com.adorsys.webank.security");
+        filter.setMaxPerSecond(2);
+        filter.start();
+    }
+
+    @Test
+    void decide_OverRate_DeniesUntilNextSecond() {
+        // Given
+        Logger logger = context.getLogger("com.adorsys.webank.security.EmbeddedJwkJwtDecoder");
+
+        // When
+        FilterReply first = decide(logger, Level.INFO, "JWT validated successfully");
+        FilterReply second = decide(logger, Level.INFO, "JWT validated successfully");
+        FilterReply third = decide(logger, Level.INFO, "JWT validated successfully");
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        FilterReply nextSecond = decide(logger, Level.INFO, "JWT validated successfully");
+
+        // Then
+        assertEquals(FilterReply.NEUTRAL, first);
+        assertEquals(FilterReply.NEUTRAL, second);
+        assertEquals(FilterReply.DENY, third);
+        assertEquals(FilterReply.NEUTRAL, nextSecond);
+        assertEquals(1, filter.getSuppressed());
+    }
+
+    @Test
+    void decide_DistinctTemplates_SampledSeparately() {
+        // Given
+        Logger logger = context.getLogger("com.adorsys.webank.security.EmbeddedJwkJwtDecoder");
+        decide(logger, Level.INFO, "JWT validated successfully");
+        decide(logger, Level.INFO, "JWT validated successfully");
+
+        // When
+        FilterReply reply = decide(logger, Level.INFO, "Returning validated Jwt object");
+
+        // Then
+        assertEquals(FilterReply.NEUTRAL, reply);
+    }
+
+    @Test
+    void decide_WarningsOtherLoggersAndLevelChecks_NeverDenied() {
+        // Given
+        Logger sampled = context.getLogger("com.adorsys.webank.security.EmbeddedJwkJwtDecoder");
+        Logger sibling = context.getLogger("com.adorsys.webank.securityaudit.Auditor");
+        for (int i = 0; i < 5; i++) {
+            decide(sampled, Level.INFO, "JWT validated successfully");
+            decide(sibling, Level.INFO, "JWT validated successfully");
+        }
+
+        // When / Then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.WARN, "Parameter {} not found in request body"));
+            assertEquals(FilterReply.NEUTRAL, decide(sibling, Level.INFO, "JWT validated successfully"));
+            assertEquals(FilterReply.NEUTRAL, decide(sampled, Level.INFO, null));
+        }
+    }
+
+    private FilterReply decide(Logger logger, Level level, String format) {
+        return filter.decide(null, logger, level, format, null, null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.adorsys.webank.observability;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestTimingsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void toHeaderValue_SumsStagesInFirstRunOrder() {
+        // Given
+        RequestTimings timings = RequestTimings.start();
+
+        // When
+        RequestTimings.record("signature_verification", 1_500_000);
+        RequestTimings.record("db", 2_000_000);
+        RequestTimings.record("db", 250_000);
+
+        // Then
+        String header = timings.toHeaderValue();
+        assertTrue(header.startsWith("signature_verification;dur=1.50, db;dur=2.25;desc=\"2 calls\", total;dur="),
+                header);
+    }
+
+    @Test
+    void record_StageTimerInsideTimedRequest_IsAdded() {
+        // Given
+        RequestTimings timings = RequestTimings.start();
+
+        // When
+        StageTimer.record(Stage.PASSWORD_ENCODE, () -> "hash");
+
+        // Then
+        assertTrue(timings.toHeaderValue().startsWith("password_encode;dur="));
+    }
+
+    @Test
+    void record_RequestNotTimed_IsIgnored() {
+        // When
+        RequestTimings.record("db", 1_000_000);
+
+        // Then
+        assertNull(RequestTimings.current());
+    }
+}
@@ -0,0 +1,140 @@
+package com.adorsys.webank.observability;
+
+import com.adorsys.webank.properties.SlowRequestProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class SlowRequestRecorderTest {
+
+    private SlowRequestRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        SlowRequestProperties properties = new SlowRequestProperties();
+        properties.setEnabled(true);
+        properties.setThreshold(Duration.ZERO);
+        properties.setSlowestCapacity(3);
+        properties.setRecentCapacity(4);
+        recorder = new SlowRequestRecorder(properties);
+        // The first timings pay for initializing the thread resource probes, which would skew the latency order
+        RequestTimings.start();
+        RequestTimings.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestTimings.clear();
+    }
+
+    @Test
+    void record_KeepsSlowestAndMostRecent() throws Exception {
+        // Given / When: requests finishing after increasing delays, so each is slower than the one before
+        for (int i = 0; i < 6; i++) {
+            RequestTimings timings = RequestTimings.start();
+            TimeUnit.MILLISECONDS.sleep(5L * (i + 1));
+            recorder.record(timings, "corr-" + i, "POST", "/api/prs/otp/send", 200);
+        }
+
+        // Then
+        assertEquals(List.of("corr-5", "corr-4", "corr-3"), correlationIds(recorder.slowest()));
+        assertEquals(List.of("corr-5", "corr-4", "corr-3", "corr-2"), correlationIds(recorder.recent()));
+    }
+
+    @Test
+    void record_KeepsStagesAndStatements() {
+        // Given
+        RequestTimings timings = RequestTimings.start();
+        RequestTimings.record("password_encode", 40_000_000);
+        RequestTimings.countStatement();
+        RequestTimings.countStatement();
+
+        // When
+        recorder.record(timings, "corr-1", "POST", "/api/prs/email-otp/send", 200);
+
+        // Then
+        SlowRequest request = recorder.recent().get(0);
+        assertEquals("/api/prs/email-otp/send", request.endpoint());
+        assertEquals(40.0, request.stages().get("password_encode"));
+        assertEquals(2, request.statements());
+    }
+
+    @Test
+    void record_BelowThreshold_IsNotKept() {
+        // Given
+        SlowRequestProperties properties = new SlowRequestProperties();
+        properties.setEnabled(true);
+        properties.setThreshold(Duration.ofHours(1));
+        SlowRequestRecorder slowOnly = new SlowRequestRecorder(properties);
+
+        // When
+        slowOnly.record(RequestTimings.start(), "corr-1", "GET", "/api/prs/kyc/pending", 200);
+
+        // Then
+        assertTrue(slowOnly.slowest().isEmpty());
+        assertTrue(slowOnly.recent().isEmpty());
+    }
+
+    @Test
+    void record_AllocationOutlier_KeptAmongRecentOnly() {
+        // Given
+        assumeTrue(ThreadResources.allocatedBytes() >= 0, "JVM does not measure thread allocation");
+        SlowRequestProperties properties = new SlowRequestProperties();
+        properties.setEnabled(true);
+        properties.setThreshold(Duration.ofHours(1));
+        properties.setAllocationThreshold(DataSize.ofKilobytes(64));
+        SlowRequestRecorder outlierRecorder = new SlowRequestRecorder(properties);
+        RequestTimings timings = RequestTimings.start();
+        byte[] document = new byte[256 * 1024];
+
+        // When
+        outlierRecorder.record(timings, "corr-1", "POST", "/api/prs/kyc/documents", 200);
+
+        // Then
+        assertEquals(List.of("allocation"), outlierRecorder.recent().get(0).outliers());
+        assertTrue(outlierRecorder.recent().get(0).allocatedBytes() >= document.length);
+        assertTrue(outlierRecorder.slowest().isEmpty());
+    }
+
+    @Test
+    void record_Concurrent_KeepsCapacity() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String correlationId = "corr-" + i;
+                futures.add(executor.submit(() -> {
+                    recorder.record(RequestTimings.start(), correlationId, "GET", "/api/prs/kyc/pending", 200);
+                    RequestTimings.clear();
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertEquals(3, recorder.slowest().size());
+        assertEquals(4, recorder.recent().size());
+    }
+
+    private static List<String> correlationIds(List<SlowRequest> requests) {
+        return requests.stream().map(SlowRequest::correlationId).toList();
+    }
+}
@@ -0,0 +1,54 @@
+package com.adorsys.webank.observability;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StageTimerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @Test
+    void record_ReturnsResultAndRecordsSuccess() {
+        // When
+        String result = StageTimer.record(Stage.JSON_CANONICALIZATION, () -> "{\"a\":1}");
+
+        // Then
+        assertEquals("{\"a\":1}", result);
+        assertEquals(1, timer(Stage.JSON_CANONICALIZATION, "succeeded").count());
+    }
+
+    @Test
+    void record_WorkThrowsCheckedException_RethrowsAndRecordsFailure() {
+        // When
+        IOException thrown = assertThrows(IOException.class, () -> StageTimer.record(Stage.SMTP_SEND, () -> {
+            throw new IOException("connection refused");
+        }));
+
+        // Then
+        assertEquals("connection refused", thrown.getMessage());
+        assertEquals(1, timer(Stage.SMTP_SEND, "failed").count());
+    }
+
+    private Timer timer(Stage stage, String outcome) {
+        return meterRegistry.get(StageTimer.METRIC_NAME).tag("stage", stage.tagValue()).tag("outcome", outcome).timer();
+    }
+}
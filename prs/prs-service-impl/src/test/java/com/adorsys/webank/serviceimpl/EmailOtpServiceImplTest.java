@@ -7,7 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -18,10 +21,13 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.adorsys.error.AccountNotFoundException;
 import com.adorsys.error.FailedToSendOTPException;
@@ -31,10 +37,14 @@ import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.dto.response.EmailResponse;
 import com.adorsys.webank.dto.response.EmailValidationResponse;
 import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.serviceimpl.cache.AccountIdFilter;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
 import com.adorsys.webank.serviceimpl.helper.MailHelper;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+
 @ExtendWith(MockitoExtension.class)
 class EmailOtpServiceImplTest {
 
@@ -50,6 +60,17 @@ class EmailOtpServiceImplTest {
     @Mock
     private MailHelper mailHelper;
 
+    @Mock
+    private PersonalInfoCache personalInfoCache;
+
+    @Mock
+    private AccountIdFilter accountIdFilter;
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Spy
+    private WriteTransactions writeTransactions = new WriteTransactions(transactionManager);
+
     @InjectMocks
     private EmailOtpServiceImpl emailOtpService;
 
@@ -63,6 +84,7 @@ class EmailOtpServiceImplTest {
     void setUp() throws Exception {
         reset(personalInfoRepository, objectMapper, passwordEncoder, mailHelper);
         lenient().when(objectMapper.writeValueAsString(any())).thenReturn(TEST_JSON_DATA);
+        lenient().when(accountIdFilter.mightContain(any())).thenReturn(true);
     }
 
     @Test
@@ -110,6 +132,16 @@ class EmailOtpServiceImplTest {
         assertEquals("No user found for account: " + TEST_ACCOUNT_ID, exception.getMessage());
     }
 
+    @Test
+    void sendEmailOtp_withAccountRejectedByFilter_shouldNotQueryDatabase() {
+        // Arrange
+        when(accountIdFilter.mightContain(TEST_ACCOUNT_ID)).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(AccountNotFoundException.class, () -> emailOtpService.sendEmailOtp(TEST_ACCOUNT_ID, TEST_EMAIL));
+        verify(personalInfoRepository, never()).findById(any());
+    }
+
     @Test
     void sendEmailOtp_success() throws JsonProcessingException {
         // Arrange
@@ -129,9 +161,28 @@ class EmailOtpServiceImplTest {
         assertEquals(EmailResponse.EmailStatus.SUCCESS, response.getStatus());
         assertTrue(response.getMessage().contains("OTP sent successfully"));
         verify(personalInfoRepository).save(any(PersonalInfoEntity.class));
+        verify(personalInfoCache).evictAfterCommit(TEST_ACCOUNT_ID);
         verify(mailHelper).sendOtpEmail(eq(TEST_EMAIL), any());
     }
 
+    @Test
+    void sendEmailOtp_hashesBeforeTransactionAndMailsAfterCommit() {
+        // Given
+        when(personalInfoRepository.findById(TEST_ACCOUNT_ID)).thenReturn(Optional.of(new PersonalInfoEntity()));
+        when(passwordEncoder.encode(any())).thenReturn(TEST_OTP_HASH);
+
+        // When
+        emailOtpService.sendEmailOtp(TEST_ACCOUNT_ID, TEST_EMAIL);
+
+        // Then: the transaction covers the read and write only
+        InOrder inOrder = inOrder(passwordEncoder, transactionManager, personalInfoRepository, mailHelper);
+        inOrder.verify(passwordEncoder).encode(any());
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(personalInfoRepository).save(any(PersonalInfoEntity.class));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(mailHelper).sendOtpEmail(eq(TEST_EMAIL), any());
+    }
+
     @Test
     void validateEmailOtp_withInvalidOtp_shouldReturnFailedResponse() {
         // Arrange
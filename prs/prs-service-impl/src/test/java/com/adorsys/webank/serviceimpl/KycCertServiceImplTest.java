@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,20 +16,26 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.adorsys.webank.config.CertGeneratorHelper;
 import com.adorsys.webank.config.SecurityUtils;
+import com.adorsys.webank.config.properties.KycCertCacheProperties;
+import com.adorsys.webank.config.properties.PersonalInfoCacheProperties;
 import com.adorsys.webank.domain.PersonalInfoStatus;
 import com.adorsys.webank.projection.PersonalInfoProjection;
 import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.properties.JwtProperties;
+import com.adorsys.webank.serviceimpl.cache.KycCertCache;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.SingleFlight;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.jwk.Curve;
 import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class KycCertServiceImplTest {
@@ -39,7 +46,6 @@ class KycCertServiceImplTest {
     @Mock
     private CertGeneratorHelper certGeneratorHelper;
 
-    @InjectMocks
     private KycCertServiceImpl kycCertService;
 
     private ECKey deviceKey;
@@ -48,6 +54,13 @@ class KycCertServiceImplTest {
     @BeforeEach
     void setUp() throws NoSuchAlgorithmException, JOSEException {
         deviceKey = new ECKeyGenerator(Curve.P_256).generate();
+        PersonalInfoCache personalInfoCache = new PersonalInfoCache(
+                personalInfoRepository, new PersonalInfoCacheProperties(), new SimpleMeterRegistry());
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpirationTimeMs(3_600_000);
+        KycCertCache kycCertCache = new KycCertCache(new KycCertCacheProperties(), jwtProperties, new SimpleMeterRegistry());
+        kycCertService = new KycCertServiceImpl(personalInfoCache, certGeneratorHelper, kycCertCache,
+                new SingleFlight(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -144,6 +157,32 @@ class KycCertServiceImplTest {
         verify(certGeneratorHelper, never()).generateCertificate(anyString());
     }
 
+    @Test
+    void testGetCert_SameDevice_ReusesCertificate() throws Exception {
+        // Arrange
+        PersonalInfoProjection personalInfo = mock(PersonalInfoProjection.class);
+        when(personalInfo.getStatus()).thenReturn(PersonalInfoStatus.APPROVED);
+        when(personalInfoRepository.findByAccountId(TEST_ACCOUNT_ID)).thenReturn(Optional.of(personalInfo));
+        when(certGeneratorHelper.generateCertificate(anyString())).thenReturn("first-certificate", "second-certificate");
+        ECKey otherDeviceKey = new ECKeyGenerator(Curve.P_256).generate();
+
+        try (MockedStatic<SecurityUtils> securityUtilsMock = mockStatic(SecurityUtils.class)) {
+            securityUtilsMock.when(SecurityUtils::extractDeviceJwkFromContext)
+                    .thenReturn(deviceKey, deviceKey, otherDeviceKey);
+
+            // Act
+            String first = kycCertService.getCert(TEST_ACCOUNT_ID);
+            String repeated = kycCertService.getCert(TEST_ACCOUNT_ID);
+            String otherDevice = kycCertService.getCert(TEST_ACCOUNT_ID);
+
+            // Assert
+            assertEquals("Your certificate is: first-certificate", first);
+            assertEquals(first, repeated);
+            assertEquals("Your certificate is: second-certificate", otherDevice);
+            verify(certGeneratorHelper, times(2)).generateCertificate(anyString());
+        }
+    }
+
     @Test
     void testGetCert_CertificateGenerationError() throws Exception {
         // Arrange
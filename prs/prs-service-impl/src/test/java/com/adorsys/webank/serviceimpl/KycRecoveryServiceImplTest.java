@@ -1,11 +1,14 @@
 package com.adorsys.webank.serviceimpl;
 
+import com.adorsys.webank.config.properties.PersonalInfoCacheProperties;
 import com.adorsys.webank.projection.PersonalInfoProjection;
 import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.serviceimpl.cache.AccountIdFilter;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -14,6 +17,7 @@ import org.mockito.quality.Strictness;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,7 +27,9 @@ class KycRecoveryServiceImplTest {
     @Mock
     private PersonalInfoRepository personalInfoRepository;
 
-    @InjectMocks
+    @Mock
+    private AccountIdFilter accountIdFilter;
+
     private KycRecoveryServiceImpl kycRecoveryService;
 
     private static final String TEST_ACCOUNT_ID = "test-account-id";
@@ -32,7 +38,10 @@ class KycRecoveryServiceImplTest {
 
     @BeforeEach
     void setUp() {
-        // No additional setup needed
+        when(accountIdFilter.mightContain(any())).thenReturn(true);
+        kycRecoveryService = new KycRecoveryServiceImpl(new PersonalInfoCache(
+                personalInfoRepository, new PersonalInfoCacheProperties(), new SimpleMeterRegistry()),
+                accountIdFilter);
     }
 
     @Test
@@ -69,6 +78,20 @@ class KycRecoveryServiceImplTest {
         verify(personalInfoRepository, times(1)).findByAccountId(TEST_ACCOUNT_ID);
     }
 
+    @Test
+    void verifyKycRecoveryFields_AccountRejectedByFilter() {
+        // Given
+        when(accountIdFilter.mightContain(TEST_ACCOUNT_ID)).thenReturn(false);
+
+        // When
+        String result = kycRecoveryService.verifyKycRecoveryFields(
+                TEST_ACCOUNT_ID, TEST_ID_NUMBER, TEST_EXPIRY_DATE);
+
+        // Then
+        assertEquals("Failed: No record found for accountId " + TEST_ACCOUNT_ID, result);
+        verify(personalInfoRepository, never()).findByAccountId(any());
+    }
+
     @Test
     void verifyKycRecoveryFields_DocumentIdMismatch() {
         // Given
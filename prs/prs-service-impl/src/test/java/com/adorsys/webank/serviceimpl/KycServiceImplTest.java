@@ -2,23 +2,34 @@ package com.adorsys.webank.serviceimpl;
 
 import com.adorsys.error.AccountNotFoundException;
 import com.adorsys.error.ValidationException;
+import com.adorsys.webank.config.properties.ShardingProperties;
 import com.adorsys.webank.domain.PersonalInfoEntity;
+import com.adorsys.webank.domain.PersonalInfoStatus;
 import com.adorsys.webank.domain.UserDocumentsEntity;
+import com.adorsys.webank.domain.UserDocumentsStatus;
 import com.adorsys.webank.dto.*;
 import com.adorsys.webank.dto.response.*;
 import com.adorsys.webank.projection.PersonalInfoProjection;
 import com.adorsys.webank.repository.PersonalInfoRepository;
 import com.adorsys.webank.repository.UserDocumentsRepository;
+import com.adorsys.webank.serviceimpl.cache.AccountIdFilter;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.KycDocumentProcessor;
+import com.adorsys.webank.serviceimpl.helper.SingleFlight;
+import com.adorsys.webank.sharding.AccountShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +41,21 @@ class KycServiceImplTest {
    @Mock
    private UserDocumentsRepository userDocumentsRepository;
 
+   @Mock
+   private KycDocumentProcessor documentProcessor;
+
+   @Mock
+   private PersonalInfoCache personalInfoCache;
+
+   @Mock
+   private AccountIdFilter accountIdFilter;
+
+   @Spy
+   private SingleFlight singleFlight = new SingleFlight(new SimpleMeterRegistry());
+
+   @Spy
+   private AccountShards accountShards = new AccountShards(new ShardingProperties(), null);
+
    @InjectMocks
    private KycServiceImpl kycService;
 
@@ -47,6 +73,7 @@ class KycServiceImplTest {
    void setUp() {
        // Reset mocks before each test
        reset(personalInfoRepository, userDocumentsRepository);
+       lenient().when(accountIdFilter.mightContain(any())).thenReturn(true);
    }
 
    @Test
@@ -69,6 +96,31 @@ class KycServiceImplTest {
        // Then
        assertEquals("KYC Document sent successfully and saved", response.getMessage());
        verify(userDocumentsRepository).save(any(UserDocumentsEntity.class));
+       verify(documentProcessor).scheduleProcessing(eq(TEST_ACCOUNT_ID), anyString(), eq(request));
+   }
+
+   @Test
+   void sendKycDocument_ExistingRecord_UpdatesInPlace() {
+       // Given
+       KycDocumentRequest request = new KycDocumentRequest(
+           TEST_FRONT_ID,
+           TEST_BACK_ID,
+           TEST_TAX_ID,
+           TEST_SELFIE_ID,
+           TEST_ACCOUNT_ID
+       );
+
+       when(userDocumentsRepository.updateDocuments(eq(TEST_ACCOUNT_ID), eq(TEST_FRONT_ID), eq(TEST_BACK_ID),
+               eq(TEST_SELFIE_ID), eq(TEST_TAX_ID), eq(UserDocumentsStatus.PENDING), anyString()))
+           .thenReturn(1);
+
+       // When
+       KycDocumentResponse response = kycService.sendKycDocument(TEST_ACCOUNT_ID, request);
+
+       // Then
+       assertEquals("KYC Document sent successfully and saved", response.getMessage());
+       verify(userDocumentsRepository, never()).save(any(UserDocumentsEntity.class));
+       verify(userDocumentsRepository, never()).findByAccountId(any());
    }
 
    @Test
@@ -98,6 +150,29 @@ class KycServiceImplTest {
        // Then
        assertEquals("KYC Info submitted successfully", response.getMessage());
        verify(personalInfoRepository).save(any(PersonalInfoEntity.class));
+       verify(accountIdFilter).addAccountId(TEST_ACCOUNT_ID);
+   }
+
+   @Test
+   void sendKycInfo_ExistingRecord_UpdatesOnlySubmittedColumns() {
+       // Given
+       KycInfoRequest request = new KycInfoRequest();
+       request.setIdNumber(TEST_ID_NUMBER);
+       request.setExpiryDate(TEST_EXPIRY_DATE);
+       request.setAccountId(TEST_ACCOUNT_ID);
+
+       when(personalInfoRepository.updateKycInfo(TEST_ACCOUNT_ID, TEST_ID_NUMBER, TEST_EXPIRY_DATE,
+               PersonalInfoStatus.PENDING))
+           .thenReturn(1);
+
+       // When
+       KycInfoResponse response = kycService.sendKycInfo(TEST_ACCOUNT_ID, request);
+
+       // Then
+       assertEquals("KYC Info submitted successfully", response.getMessage());
+       verify(personalInfoRepository, never()).save(any(PersonalInfoEntity.class));
+       verify(personalInfoRepository, never()).findByAccountId(any());
+       verify(accountIdFilter, never()).addAccountId(any());
    }
 
    @Test
@@ -129,6 +204,7 @@ class KycServiceImplTest {
        // Then
        assertEquals("KYC Location submitted successfully", response.getMessage());
        verify(personalInfoRepository).save(any(PersonalInfoEntity.class));
+       verify(personalInfoCache).evictAfterCommit(TEST_ACCOUNT_ID);
    }
 
    @Test
@@ -149,6 +225,20 @@ class KycServiceImplTest {
        assertEquals("No KYC record found for the provided accountId.", exception.getMessage());
    }
 
+   @Test
+   void sendKycLocation_UnknownAccount_RejectedWithoutLookup() {
+       // Given
+       KycLocationRequest request = new KycLocationRequest(
+           TEST_LOCATION,
+           TEST_ACCOUNT_ID
+       );
+       when(accountIdFilter.mightContain(TEST_ACCOUNT_ID)).thenReturn(false);
+
+       // When & Then
+       assertThrows(AccountNotFoundException.class, () -> kycService.sendKycLocation(request));
+       verify(personalInfoRepository, never()).findById(any());
+   }
+
    @Test
    void sendKycEmail_Success() {
        // Given
@@ -189,11 +279,62 @@ class KycServiceImplTest {
        assertEquals("No KYC record found for the provided accountId.", exception.getMessage());
    }
 
+   @Test
+   void submitKyc_NewAccount_StoresAllPartsInOneTransaction() {
+       // Given
+       KycSubmissionRequest request = new KycSubmissionRequest(
+           TEST_ACCOUNT_ID,
+           TEST_ID_NUMBER,
+           TEST_EXPIRY_DATE,
+           TEST_LOCATION,
+           TEST_EMAIL,
+           TEST_FRONT_ID,
+           TEST_BACK_ID,
+           TEST_SELFIE_ID,
+           TEST_TAX_ID
+       );
+
+       // When
+       KycSubmissionResponse response = kycService.submitKyc(request);
+
+       // Then
+       assertEquals("KYC submission received successfully", response.getMessage());
+       assertEquals(TEST_ACCOUNT_ID, response.getKycId());
+       verify(personalInfoRepository).updateKycSubmission(TEST_ACCOUNT_ID, TEST_ID_NUMBER, TEST_EXPIRY_DATE,
+               TEST_LOCATION, TEST_EMAIL, PersonalInfoStatus.PENDING);
+       verify(personalInfoRepository).save(any(PersonalInfoEntity.class));
+       verify(userDocumentsRepository).save(any(UserDocumentsEntity.class));
+       verify(documentProcessor).scheduleProcessing(eq(TEST_ACCOUNT_ID), anyString(), any(KycDocumentRequest.class));
+   }
+
+   @Test
+   void submitKyc_MissingEmail_ThrowsException() {
+       // Given
+       KycSubmissionRequest request = new KycSubmissionRequest(
+           TEST_ACCOUNT_ID,
+           TEST_ID_NUMBER,
+           TEST_EXPIRY_DATE,
+           TEST_LOCATION,
+           null,
+           TEST_FRONT_ID,
+           TEST_BACK_ID,
+           TEST_SELFIE_ID,
+           TEST_TAX_ID
+       );
+
+       // When & Then
+       ValidationException exception = assertThrows(ValidationException.class, () -> {
+           kycService.submitKyc(request);
+       });
+       assertEquals("Invalid KYC Submission Request", exception.getMessage());
+       verifyNoInteractions(personalInfoRepository, userDocumentsRepository);
+   }
+
    @Test
    void getPersonalInfoAccountId_Success() {
        // Given
        PersonalInfoProjection info = mock(PersonalInfoProjection.class);
-       when(personalInfoRepository.findByAccountId(TEST_ACCOUNT_ID))
+       when(personalInfoCache.findByAccountId(TEST_ACCOUNT_ID))
            .thenReturn(Optional.of(info));
 
        // When
@@ -207,7 +348,7 @@ class KycServiceImplTest {
    @Test
    void getPersonalInfoAccountId_NotFound() {
        // Given
-       when(personalInfoRepository.findByAccountId(TEST_ACCOUNT_ID))
+       when(personalInfoCache.findByAccountId(TEST_ACCOUNT_ID))
            .thenReturn(Optional.empty());
 
        // When
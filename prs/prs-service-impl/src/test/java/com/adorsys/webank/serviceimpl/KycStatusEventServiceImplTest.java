@@ -0,0 +1,192 @@
+package com.adorsys.webank.serviceimpl;
+
+import com.adorsys.webank.config.properties.KycStatusEventProperties;
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.adorsys.webank.domain.KycStatusEventEntity;
+import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.dto.response.KycStatusChangeResponse;
+import com.adorsys.webank.projection.PersonalInfoProjection;
+import com.adorsys.webank.repository.KycStatusEventRepository;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.sharding.AccountShards;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KycStatusEventServiceImplTest {
+
+    private static final String ACCOUNT_ID = "test-account-id";
+
+    @Mock
+    private KycStatusEventRepository eventRepository;
+
+    @Mock
+    private PersonalInfoRepository personalInfoRepository;
+
+    private KycStatusEventProperties properties;
+    private KycStatusEventServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new KycStatusEventProperties();
+        service = new KycStatusEventServiceImpl(eventRepository, personalInfoRepository, properties,
+                new AccountShards(new ShardingProperties(), null));
+    }
+
+    @Test
+    void awaitDecision_AlreadyApproved_CompletesImmediately() throws Exception {
+        // Given
+        PersonalInfoProjection personalInfo = mock(PersonalInfoProjection.class);
+        when(personalInfo.getStatus()).thenReturn(PersonalInfoStatus.APPROVED);
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.of(personalInfo));
+
+        // When
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+
+        // Then
+        assertTrue(decision.isDone());
+        assertEquals("APPROVED", decision.get().getStatus());
+    }
+
+    @Test
+    void pollEvents_DecisionEvent_CompletesWaiter() throws Exception {
+        // Given
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+        KycStatusEventEntity event = new KycStatusEventEntity(1L, ACCOUNT_ID, PersonalInfoStatus.REJECTED,
+                LocalDateTime.now().plusSeconds(1));
+        when(eventRepository.findAfter(any(), any(), any())).thenReturn(List.of(event));
+
+        // When
+        service.pollEvents();
+
+        // Then
+        KycStatusChangeResponse change = decision.get(1, TimeUnit.SECONDS);
+        assertEquals(ACCOUNT_ID, change.getAccountId());
+        assertEquals("REJECTED", change.getStatus());
+    }
+
+    @Test
+    void pollEvents_EventBeforeSubscription_IsIgnored() {
+        // Given
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+        KycStatusEventEntity staleEvent = new KycStatusEventEntity(1L, ACCOUNT_ID, PersonalInfoStatus.APPROVED,
+                LocalDateTime.now().minusMinutes(1));
+        when(eventRepository.findAfter(any(), any(), any())).thenReturn(List.of(staleEvent));
+
+        // When
+        service.pollEvents();
+
+        // Then
+        assertFalse(decision.isDone());
+    }
+
+    @Test
+    void pollEvents_EventCommittedAfterInitialRead_CompletesWaiter() throws Exception {
+        // Given
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+        KycStatusEventEntity lateEvent = new KycStatusEventEntity(1L, ACCOUNT_ID, PersonalInfoStatus.APPROVED,
+                LocalDateTime.now().minusSeconds(2));
+        when(eventRepository.findAfter(any(), any(), any())).thenReturn(List.of(lateEvent));
+
+        // When
+        service.pollEvents();
+
+        // Then
+        assertEquals("APPROVED", decision.get(1, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void pollEvents_FullPageEndsInsideTimestamp_ContinuesAfterLastId() throws Exception {
+        // Given
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+        LocalDateTime createdAt = LocalDateTime.now().plusSeconds(1);
+        List<KycStatusEventEntity> firstPage = LongStream.rangeClosed(1, KycStatusEventRepository.POLL_BATCH_SIZE)
+                .mapToObj(id -> new KycStatusEventEntity(id, "other-account-id", PersonalInfoStatus.APPROVED, createdAt))
+                .toList();
+        KycStatusEventEntity sameTimestamp = new KycStatusEventEntity(501L, ACCOUNT_ID, PersonalInfoStatus.APPROVED,
+                createdAt);
+        when(eventRepository.findAfter(any(), eq(Long.MAX_VALUE), any())).thenReturn(firstPage);
+        when(eventRepository.findAfter(createdAt, 500L, Limit.of(KycStatusEventRepository.POLL_BATCH_SIZE)))
+                .thenReturn(List.of(sameTimestamp));
+
+        // When
+        service.pollEvents();
+
+        // Then
+        assertEquals("APPROVED", decision.get(1, TimeUnit.SECONDS).getStatus());
+    }
+
+    @Test
+    void pollEvents_NoWaiters_SkipsDatabase() {
+        // When
+        service.pollEvents();
+
+        // Then
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void awaitDecision_Timeout_CompletesWithNull() throws Exception {
+        // Given
+        properties.setWaitTimeout(Duration.ofMillis(50));
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // When
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+
+        // Then
+        assertNull(decision.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void awaitDecision_StatusReadFails_ReleasesWaiter() throws Exception {
+        // Given
+        properties.setMaxWaiters(1);
+        when(personalInfoRepository.findByAccountId(ACCOUNT_ID))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(Optional.empty());
+        assertThrows(IllegalStateException.class, () -> service.awaitDecision(ACCOUNT_ID));
+
+        // When
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision(ACCOUNT_ID);
+
+        // Then the second subscriber gets the slot instead of being refused
+        assertFalse(decision.isDone());
+    }
+
+    @Test
+    void awaitDecision_WaiterLimitReached_CompletesWithNull() throws Exception {
+        // Given
+        properties.setMaxWaiters(1);
+        when(personalInfoRepository.findByAccountId(any())).thenReturn(Optional.empty());
+        service.awaitDecision(ACCOUNT_ID);
+
+        // When
+        CompletableFuture<KycStatusChangeResponse> decision = service.awaitDecision("other-account-id");
+
+        // Then
+        assertTrue(decision.isDone());
+        assertNull(decision.get());
+    }
+}
@@ -1,8 +1,19 @@
 package com.adorsys.webank.serviceimpl;
 
+import com.adorsys.error.ValidationException;
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.adorsys.webank.domain.KycStatusEventEntity;
 import com.adorsys.webank.domain.PersonalInfoEntity;
 import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.dto.KycStatusUpdateDto;
+import com.adorsys.webank.dto.response.KycStatusUpdateResult;
+import com.adorsys.webank.repository.KycStatusEventRepository;
 import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.serviceimpl.cache.KycCertCache;
+import com.adorsys.webank.serviceimpl.cache.PersonalInfoCache;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
+import com.adorsys.webank.sharding.AccountShards;
+import com.adorsys.webank.sharding.ShardContext;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +21,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.MDC;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -22,6 +37,22 @@ class KycStatusUpdateServiceImplTest {
     @Mock
     private PersonalInfoRepository personalInfoRepository;
 
+    @Mock
+    private PersonalInfoCache personalInfoCache;
+
+    @Mock
+    private KycStatusEventRepository eventRepository;
+
+    @Mock
+    private KycCertCache kycCertCache;
+
+    @Spy
+    private AccountShards accountShards = new AccountShards(new ShardingProperties(), null);
+
+    @Spy
+    private WriteTransactions writeTransactions =
+            new WriteTransactions(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private KycStatusUpdateServiceImpl kycStatusUpdateServiceImpl;
 
@@ -54,6 +85,26 @@ class KycStatusUpdateServiceImplTest {
         assertEquals(PersonalInfoStatus.APPROVED, dummyEntity.getStatus());
         assertNull(dummyEntity.getRejectionReason());
         verify(personalInfoRepository).save(dummyEntity);
+        verify(personalInfoCache).evictAfterCommit(accountId);
+        ArgumentCaptor<KycStatusEventEntity> event = ArgumentCaptor.forClass(KycStatusEventEntity.class);
+        verify(eventRepository).save(event.capture());
+        assertEquals(accountId, event.getValue().getAccountId());
+        assertEquals(PersonalInfoStatus.APPROVED, event.getValue().getStatus());
+        verify(kycCertCache).evictAfterCommit(accountId);
+    }
+
+    @Test
+    void testUpdateKycStatus_SameStatus_PublishesNoEvent() {
+        // Given
+        when(personalInfoRepository.findById(accountId)).thenReturn(Optional.of(dummyEntity));
+
+        // When
+        String response = kycStatusUpdateServiceImpl.updateKycStatus(accountId, "PENDING", idNumber, expiryDate, null);
+
+        // Then
+        assertEquals("KYC status updated successfully to PENDING", response);
+        verify(personalInfoRepository).save(dummyEntity);
+        verify(eventRepository, never()).save(any(KycStatusEventEntity.class));
     }
 
     @Test
@@ -97,6 +148,7 @@ class KycStatusUpdateServiceImplTest {
         // Then
         assertEquals("Failed: Invalid KYC status value '" + invalidStatus + "'", response);
         verify(personalInfoRepository, never()).save(any(PersonalInfoEntity.class));
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
@@ -138,4 +190,162 @@ class KycStatusUpdateServiceImplTest {
         assertEquals("Failed: Document expiry date mismatch", response);
         verify(personalInfoRepository, never()).save(any(PersonalInfoEntity.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testUpdateKycStatuses_MixedBatch_ReportsPerItemAndLoadsOnce() {
+        // Given
+        PersonalInfoEntity otherEntity = new PersonalInfoEntity();
+        otherEntity.setAccountId("other-account-id");
+        otherEntity.setStatus(PersonalInfoStatus.PENDING);
+        otherEntity.setDocumentUniqueId("other-id-number");
+        otherEntity.setExpirationDate(expiryDate);
+        when(personalInfoRepository.findAllById(anyIterable())).thenReturn(List.of(dummyEntity, otherEntity));
+
+        List<KycStatusUpdateDto> updates = List.of(
+                statusUpdate(accountId, "APPROVED", idNumber, null),
+                statusUpdate("other-account-id", "REJECTED", "other-id-number", null),
+                statusUpdate("missing-account-id", "APPROVED", idNumber, null));
+
+        // When
+        List<KycStatusUpdateResult> results = kycStatusUpdateServiceImpl.updateKycStatuses(updates);
+
+        // Then
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("KYC status updated successfully to APPROVED", results.get(0).getMessage());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Failed: Rejection reason is required when status is REJECTED", results.get(1).getMessage());
+        assertFalse(results.get(2).isSuccess());
+        assertEquals("Failed: No KYC record found", results.get(2).getMessage());
+        assertEquals(PersonalInfoStatus.APPROVED, dummyEntity.getStatus());
+        assertEquals(PersonalInfoStatus.PENDING, otherEntity.getStatus());
+        verify(personalInfoRepository, times(1)).findAllById(anyIterable());
+        verify(personalInfoRepository, never()).findById(any());
+        verify(personalInfoRepository).saveAll(List.of(dummyEntity));
+        ArgumentCaptor<List<KycStatusEventEntity>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository).saveAll(events.capture());
+        assertEquals(1, events.getValue().size());
+        assertEquals(accountId, events.getValue().get(0).getAccountId());
+    }
+
+    @Test
+    void testUpdateKycStatuses_DuplicateAccount_RejectsSecondItem() {
+        // Given
+        when(personalInfoRepository.findAllById(anyIterable())).thenReturn(List.of(dummyEntity));
+
+        // When
+        List<KycStatusUpdateResult> results = kycStatusUpdateServiceImpl.updateKycStatuses(List.of(
+                statusUpdate(accountId, "APPROVED", idNumber, null),
+                statusUpdate(accountId, "REJECTED", idNumber, "Blurry")));
+
+        // Then
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(PersonalInfoStatus.APPROVED, dummyEntity.getStatus());
+    }
+
+    @Test
+    void testUpdateKycStatuses_ShardedBatch_AppliesEachShardSeparatelyInInputOrder() {
+        // Given
+        ShardingProperties shardingProperties = new ShardingProperties();
+        shardingProperties.setEnabled(true);
+        shardingProperties.setShards(List.of(shard("shard-a"), shard("shard-b")));
+        AccountShards shardedAccounts = new AccountShards(shardingProperties, mock(PlatformTransactionManager.class));
+        String firstAccount = accountOn(shardedAccounts, "shard-a");
+        String secondAccount = accountOn(shardedAccounts, "shard-b");
+        Map<String, PersonalInfoEntity> entities = Map.of(
+                firstAccount, pendingEntity(firstAccount), secondAccount, pendingEntity(secondAccount));
+        List<String> shardsQueried = new ArrayList<>();
+        when(personalInfoRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            shardsQueried.add(ShardContext.current());
+            List<PersonalInfoEntity> found = new ArrayList<>();
+            invocation.<Iterable<String>>getArgument(0).forEach(id -> found.add(entities.get(id)));
+            return found;
+        });
+        KycStatusUpdateServiceImpl shardedService = new KycStatusUpdateServiceImpl(personalInfoRepository,
+                personalInfoCache, eventRepository, kycCertCache, shardedAccounts, writeTransactions);
+
+        // When
+        List<KycStatusUpdateResult> results = shardedService.updateKycStatuses(List.of(
+                statusUpdate(secondAccount, "APPROVED", idNumber, null),
+                statusUpdate(firstAccount, "APPROVED", "wrong-id-number", null)));
+
+        // Then
+        assertEquals(List.of("shard-b", "shard-a"), shardsQueried);
+        assertEquals(secondAccount, results.get(0).getAccountId());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(firstAccount, results.get(1).getAccountId());
+        assertEquals("Failed: Document ID mismatch", results.get(1).getMessage());
+        verify(personalInfoRepository, times(2)).saveAll(anyIterable());
+    }
+
+    @Test
+    void testUpdateKycStatuses_ShardFails_ReportsOnlyItsItemsAsFailed() {
+        // Given
+        ShardingProperties shardingProperties = new ShardingProperties();
+        shardingProperties.setEnabled(true);
+        shardingProperties.setShards(List.of(shard("shard-a"), shard("shard-b")));
+        AccountShards shardedAccounts = new AccountShards(shardingProperties, mock(PlatformTransactionManager.class));
+        String firstAccount = accountOn(shardedAccounts, "shard-a");
+        String secondAccount = accountOn(shardedAccounts, "shard-b");
+        when(personalInfoRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            if ("shard-b".equals(ShardContext.current())) {
+                throw new IllegalStateException("shard-b unavailable");
+            }
+            return List.of(pendingEntity(firstAccount));
+        });
+        KycStatusUpdateServiceImpl shardedService = new KycStatusUpdateServiceImpl(personalInfoRepository,
+                personalInfoCache, eventRepository, kycCertCache, shardedAccounts, writeTransactions);
+
+        // When
+        List<KycStatusUpdateResult> results = shardedService.updateKycStatuses(List.of(
+                statusUpdate(firstAccount, "APPROVED", idNumber, null),
+                statusUpdate(secondAccount, "APPROVED", idNumber, null)));
+
+        // Then
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(secondAccount, results.get(1).getAccountId());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Failed: Could not store the status update", results.get(1).getMessage());
+    }
+
+    @Test
+    void testUpdateKycStatuses_EmptyBatch_ThrowsValidationException() {
+        assertThrows(ValidationException.class, () -> kycStatusUpdateServiceImpl.updateKycStatuses(List.of()));
+        verifyNoInteractions(personalInfoRepository);
+    }
+
+    private static ShardingProperties.Shard shard(String name) {
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName(name);
+        return shard;
+    }
+
+    private static String accountOn(AccountShards accountShards, String shard) {
+        for (int i = 0; ; i++) {
+            String candidate = "account-" + i;
+            if (accountShards.shardFor(candidate).equals(shard)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static PersonalInfoEntity pendingEntity(String accountId) {
+        PersonalInfoEntity entity = new PersonalInfoEntity();
+        entity.setAccountId(accountId);
+        entity.setStatus(PersonalInfoStatus.PENDING);
+        entity.setDocumentUniqueId(idNumber);
+        entity.setExpirationDate(expiryDate);
+        return entity;
+    }
+
+    private static KycStatusUpdateDto statusUpdate(String accountId, String status, String idNumber, String rejectionReason) {
+        KycStatusUpdateDto update = new KycStatusUpdateDto();
+        update.setAccountId(accountId);
+        update.setStatus(status);
+        update.setIdNumber(idNumber);
+        update.setExpiryDate(expiryDate);
+        update.setRejectionReason(rejectionReason);
+        return update;
+    }
+}
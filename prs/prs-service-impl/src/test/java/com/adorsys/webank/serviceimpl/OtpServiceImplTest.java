@@ -2,10 +2,12 @@ package com.adorsys.webank.serviceimpl;
 
 import com.adorsys.error.ValidationException;
 import com.adorsys.webank.repository.*;
+import com.adorsys.webank.serviceimpl.helper.WriteTransactions;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
 import org.mockito.*;
 import org.mockito.junit.jupiter.*;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -15,6 +17,10 @@ class OtpServiceImplTest {
     @Mock
     private OtpRequestRepository otpRequestRepository;
 
+    @Spy
+    private WriteTransactions writeTransactions =
+            new WriteTransactions(mock(PlatformTransactionManager.class));
+
     @InjectMocks
     private OtpServiceImpl otpService;
 
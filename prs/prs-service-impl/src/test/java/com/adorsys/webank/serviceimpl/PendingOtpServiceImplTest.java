@@ -3,6 +3,8 @@ package com.adorsys.webank.serviceimpl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,11 +17,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.adorsys.webank.config.properties.OtpPartitioningProperties;
 import com.adorsys.webank.domain.OtpStatus;
 import com.adorsys.webank.dto.PendingOtpDto;
-import com.adorsys.webank.projection.OtpProjection;
+import com.adorsys.webank.projection.PendingOtpProjection;
 import com.adorsys.webank.repository.OtpRequestRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +32,9 @@ class PendingOtpServiceImplTest {
     @Mock
     private OtpRequestRepository otpRequestRepository;
 
+    @Spy
+    private OtpPartitioningProperties partitioningProperties = new OtpPartitioningProperties();
+
     @InjectMocks
     private PendingOtpServiceImpl pendingOtpService;
 
@@ -44,19 +51,19 @@ class PendingOtpServiceImplTest {
     @Test
     void testFetchPendingOtpEntries_Success() {
         // Arrange
-        OtpProjection otpProjection1 = mock(OtpProjection.class);
+        PendingOtpProjection otpProjection1 = mock(PendingOtpProjection.class);
         when(otpProjection1.getPhoneNumber()).thenReturn(TEST_PHONE_1);
         when(otpProjection1.getOtpCode()).thenReturn(TEST_OTP_1);
         when(otpProjection1.getStatus()).thenReturn(OtpStatus.PENDING);
 
-        OtpProjection otpProjection2 = mock(OtpProjection.class);
+        PendingOtpProjection otpProjection2 = mock(PendingOtpProjection.class);
         when(otpProjection2.getPhoneNumber()).thenReturn(TEST_PHONE_2);
         when(otpProjection2.getOtpCode()).thenReturn(TEST_OTP_2);
         when(otpProjection2.getStatus()).thenReturn(OtpStatus.PENDING);
 
-        List<OtpProjection> otpList = List.of(otpProjection1, otpProjection2);
+        List<PendingOtpProjection> otpList = List.of(otpProjection1, otpProjection2);
         
-        when(otpRequestRepository.findByStatus(OtpStatus.PENDING)).thenReturn(otpList);
+        when(otpRequestRepository.findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any())).thenReturn(otpList);
 
         // Act
         List<PendingOtpDto> result = pendingOtpService.fetchPendingOtpEntries();
@@ -77,13 +84,13 @@ class PendingOtpServiceImplTest {
         assertEquals(TEST_OTP_2, dto2.getOtpCode());
         assertEquals(OtpStatus.PENDING.name(), dto2.getStatus());
 
-        verify(otpRequestRepository).findByStatus(OtpStatus.PENDING);
+        verify(otpRequestRepository).findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any());
     }
 
     @Test
     void testFetchPendingOtpEntries_EmptyList() {
         // Arrange
-        when(otpRequestRepository.findByStatus(OtpStatus.PENDING)).thenReturn(Collections.emptyList());
+        when(otpRequestRepository.findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any())).thenReturn(Collections.emptyList());
 
         // Act
         List<PendingOtpDto> result = pendingOtpService.fetchPendingOtpEntries();
@@ -91,13 +98,13 @@ class PendingOtpServiceImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(otpRequestRepository).findByStatus(OtpStatus.PENDING);
+        verify(otpRequestRepository).findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any());
     }
 
     @Test
     void testFetchPendingOtpEntries_NoPendingEntries() {
         // Arrange
-        when(otpRequestRepository.findByStatus(OtpStatus.PENDING)).thenReturn(Collections.emptyList());
+        when(otpRequestRepository.findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any())).thenReturn(Collections.emptyList());
 
         // Act
         List<PendingOtpDto> result = pendingOtpService.fetchPendingOtpEntries();
@@ -105,6 +112,6 @@ class PendingOtpServiceImplTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(otpRequestRepository).findByStatus(OtpStatus.PENDING);
+        verify(otpRequestRepository).findPendingByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtAsc(eq(OtpStatus.PENDING), any());
     }
 }
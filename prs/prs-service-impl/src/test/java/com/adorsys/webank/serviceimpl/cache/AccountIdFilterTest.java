@@ -0,0 +1,122 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.AccountIdFilterProperties;
+import com.adorsys.webank.config.properties.ShardingProperties;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import com.adorsys.webank.sharding.AccountShards;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountIdFilterTest {
+
+    @Mock
+    private PersonalInfoRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AccountIdFilterProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AccountIdFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AccountIdFilterProperties();
+        properties.setEnabled(true);
+        properties.setExpectedInsertions(1_000);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AccountIdFilter(repository, properties, new AccountShards(new ShardingProperties(), null),
+                transactionManager, meterRegistry);
+    }
+
+    @Test
+    void mightContain_BeforeFirstBuild_PassesEveryAccount() {
+        assertTrue(filter.mightContain("unknown-account"));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void rebuild_KnownAndUnknownAccounts_RejectsOnlyUnknown() {
+        // Given
+        when(repository.count()).thenReturn(2L);
+        when(repository.streamAllAccountIds()).thenReturn(Stream.of("account-1", "account-2"));
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertTrue(filter.mightContain("account-1"));
+        assertTrue(filter.mightContain("account-2"));
+        assertFalse(filter.mightContain("unknown-account"));
+        assertEquals(1.0, meterRegistry.get("prs.account_filter.checks").tag("result", "rejected").counter().count());
+        assertEquals(2.0, meterRegistry.get("prs.account_filter.entries").gauge().value());
+        assertTrue(meterRegistry.get("prs.account_filter.memory").gauge().value() > 0);
+        assertTrue(meterRegistry.get("prs.account_filter.false_positive_rate").gauge().value() < 0.01);
+    }
+
+    @Test
+    void add_AfterBuild_AccountPasses() {
+        // Given
+        when(repository.streamAllAccountIds()).thenReturn(Stream.empty());
+        filter.rebuild();
+
+        // When
+        filter.addAccountId("new-account");
+
+        // Then
+        assertTrue(filter.mightContain("new-account"));
+    }
+
+    @Test
+    void add_DuringRebuildScan_IsKeptInNewFilter() {
+        // Given
+        when(repository.streamAllAccountIds())
+                .thenReturn(Stream.of("account-1").peek(accountId -> filter.addAccountId("created-during-scan")));
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertTrue(filter.mightContain("created-during-scan"));
+    }
+
+    @Test
+    void rebuild_ScanFails_KeepsPreviousFilter() {
+        // Given
+        when(repository.streamAllAccountIds()).thenReturn(Stream.of("account-1"));
+        filter.rebuild();
+        when(repository.streamAllAccountIds()).thenThrow(new IllegalStateException("connection lost"));
+
+        // When
+        filter.rebuild();
+
+        // Then
+        assertTrue(filter.mightContain("account-1"));
+        assertFalse(filter.mightContain("unknown-account"));
+    }
+
+    @Test
+    void disabled_NeverBuildsAndPassesEveryAccount() {
+        // Given
+        properties.setEnabled(false);
+
+        // When
+        filter.rebuild();
+        filter.addAccountId("new-account");
+
+        // Then
+        assertTrue(filter.mightContain("unknown-account"));
+        verifyNoInteractions(repository);
+    }
+}
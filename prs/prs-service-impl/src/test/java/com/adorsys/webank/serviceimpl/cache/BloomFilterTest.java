@@ -0,0 +1,55 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_AddedValues_NoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, Long.MAX_VALUE);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.putValue("account-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("account-" + i));
+        }
+    }
+
+    @Test
+    void mightContain_UnknownValues_FalsePositiveRateNearTarget() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            filter.putValue("account-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(10_000), 0.002);
+    }
+
+    @Test
+    void create_MemoryCap_LimitsSize() {
+        // When
+        BloomFilter filter = BloomFilter.create(10_000_000, 0.001, 8L * 1024 * 8);
+
+        // Then
+        assertEquals(8 * 1024, filter.sizeInBytes());
+        assertTrue(filter.expectedFalsePositiveRate(10_000_000) > 0.001);
+    }
+}
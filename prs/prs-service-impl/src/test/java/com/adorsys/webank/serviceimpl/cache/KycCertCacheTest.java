@@ -0,0 +1,109 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.KycCertCacheProperties;
+import com.adorsys.webank.properties.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KycCertCacheTest {
+
+    private static final String ACCOUNT_ID = "test-account-id";
+    private static final String THUMBPRINT = "device-thumbprint";
+
+    private MutableClock clock;
+    private KycCertCache cache;
+    private AtomicInteger signed;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setExpirationTimeMs(Duration.ofHours(1).toMillis());
+        KycCertCacheProperties properties = new KycCertCacheProperties();
+        properties.setReuseFraction(0.5);
+        clock = new MutableClock();
+        cache = new KycCertCache(properties, jwtProperties, new SimpleMeterRegistry(), clock);
+        signed = new AtomicInteger();
+    }
+
+    @Test
+    void getOrIssue_WithinReuseWindow_ReturnsSameCertificate() {
+        // When
+        String first = issue();
+        clock.advance(Duration.ofMinutes(29));
+        String second = issue();
+
+        // Then
+        assertEquals("cert-1", first);
+        assertEquals(first, second);
+        assertEquals(1, signed.get());
+    }
+
+    @Test
+    void getOrIssue_AfterReuseWindow_SignsNewCertificate() {
+        // When
+        issue();
+        clock.advance(Duration.ofMinutes(31));
+        String renewed = issue();
+
+        // Then
+        assertEquals("cert-2", renewed);
+    }
+
+    @Test
+    void evictAfterCommit_DropsAccountCertificates() {
+        // When
+        issue();
+        cache.evictAfterCommit(ACCOUNT_ID);
+        String renewed = issue();
+
+        // Then
+        assertEquals("cert-2", renewed);
+    }
+
+    @Test
+    void getOrIssue_NotCacheable_IsNotReused() {
+        // When
+        cache.getOrIssue(ACCOUNT_ID, THUMBPRINT, () -> "Error " + signed.incrementAndGet(), cert -> false);
+        String second = cache.getOrIssue(ACCOUNT_ID, THUMBPRINT, () -> "Error " + signed.incrementAndGet(), cert -> false);
+
+        // Then
+        assertEquals("Error 2", second);
+    }
+
+    private String issue() {
+        return cache.getOrIssue(ACCOUNT_ID, THUMBPRINT, () -> "cert-" + signed.incrementAndGet(), cert -> true);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.adorsys.webank.serviceimpl.cache;
+
+import com.adorsys.webank.config.properties.PersonalInfoCacheProperties;
+import com.adorsys.webank.domain.PersonalInfoStatus;
+import com.adorsys.webank.projection.PersonalInfoProjection;
+import com.adorsys.webank.repository.PersonalInfoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PersonalInfoCacheTest {
+
+    private static final String ACCOUNT_ID = "test-account-id";
+
+    @Mock
+    private PersonalInfoRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PersonalInfoCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new PersonalInfoCache(repository, new PersonalInfoCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    void findByAccountId_SecondRead_ServedFromCache() {
+        // Given
+        PersonalInfoProjection projection = mock(PersonalInfoProjection.class);
+        when(projection.getAccountId()).thenReturn(ACCOUNT_ID);
+        when(projection.getStatus()).thenReturn(PersonalInfoStatus.APPROVED);
+        when(repository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.of(projection));
+
+        // When
+        Optional<PersonalInfoProjection> first = cache.findByAccountId(ACCOUNT_ID);
+        Optional<PersonalInfoProjection> second = cache.findByAccountId(ACCOUNT_ID);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertEquals(PersonalInfoStatus.APPROVED, second.orElseThrow().getStatus());
+        verify(repository, times(1)).findByAccountId(ACCOUNT_ID);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "personalInfo").tag("result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "personalInfo").tag("result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void findByAccountId_ReadOnlyTransaction_DoesNotFillCache() {
+        // Given
+        when(repository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            // When
+            cache.findByAccountId(ACCOUNT_ID);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+        cache.findByAccountId(ACCOUNT_ID);
+
+        // Then the row read in the read-only transaction may come from a replica and is not reused
+        verify(repository, times(2)).findByAccountId(ACCOUNT_ID);
+    }
+
+    @Test
+    void evictAfterCommit_NextReadReloads() {
+        // Given
+        when(repository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+        cache.findByAccountId(ACCOUNT_ID);
+
+        // When
+        cache.evictAfterCommit(ACCOUNT_ID);
+        cache.findByAccountId(ACCOUNT_ID);
+
+        // Then
+        verify(repository, times(2)).findByAccountId(ACCOUNT_ID);
+    }
+
+    @Test
+    void findByAccountId_Disabled_AlwaysReadsRepository() {
+        // Given
+        PersonalInfoCacheProperties properties = new PersonalInfoCacheProperties();
+        properties.setEnabled(false);
+        PersonalInfoCache disabled = new PersonalInfoCache(repository, properties, meterRegistry);
+        when(repository.findByAccountId(ACCOUNT_ID)).thenReturn(Optional.empty());
+
+        // When
+        disabled.findByAccountId(ACCOUNT_ID);
+        disabled.findByAccountId(ACCOUNT_ID);
+
+        // Then
+        verify(repository, times(2)).findByAccountId(ACCOUNT_ID);
+    }
+}
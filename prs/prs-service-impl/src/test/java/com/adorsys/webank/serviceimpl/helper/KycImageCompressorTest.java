@@ -0,0 +1,96 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import com.adorsys.webank.config.properties.KycDocumentProcessingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KycImageCompressorTest {
+
+    private KycImageCompressor compressor;
+
+    @BeforeEach
+    void setUp() {
+        KycDocumentProcessingProperties properties = new KycDocumentProcessingProperties();
+        properties.setMaxDimension(800);
+        properties.setThumbnailDimension(100);
+        compressor = new KycImageCompressor(properties);
+    }
+
+    @Test
+    void compress_LargePng_DownscalesAndCreatesThumbnail() throws IOException {
+        // Given
+        String document = Base64.getEncoder().encodeToString(pngImage(2400, 1600));
+
+        // When
+        KycImageCompressor.CompressedDocument result = compressor.compress(document);
+
+        // Then
+        assertNotNull(result);
+        assertNotNull(result.content());
+        BufferedImage content = decode(result.content());
+        assertEquals(800, content.getWidth());
+        assertEquals(533, content.getHeight());
+        BufferedImage thumbnail = decode(result.thumbnail());
+        assertEquals(100, thumbnail.getWidth());
+        assertTrue(result.content().length() < document.length());
+    }
+
+    @Test
+    void compress_DataUri_KeepsDataUriForm() throws IOException {
+        // Given
+        String document = "data:image/png;base64," + Base64.getEncoder().encodeToString(pngImage(1200, 900));
+
+        // When
+        KycImageCompressor.CompressedDocument result = compressor.compress(document);
+
+        // Then
+        assertNotNull(result);
+        assertTrue(result.thumbnail().startsWith("data:image/jpeg;base64,"));
+        assertTrue(result.content().startsWith("data:image/jpeg;base64,"));
+    }
+
+    @Test
+    void compress_NotAnImage_ReturnsNull() throws IOException {
+        // Given
+        String document = Base64.getEncoder().encodeToString("%PDF-1.7 not an image".getBytes());
+
+        // When & Then
+        assertNull(compressor.compress(document));
+        assertNull(compressor.compress("not base64 at all!"));
+        assertNull(compressor.compress(""));
+        assertNull(compressor.compress(null));
+    }
+
+    @Test
+    void readExifOrientation_NonJpeg_DefaultsToUpright() {
+        assertEquals(1, KycImageCompressor.readExifOrientation(new byte[]{1, 2, 3, 4, 5}));
+    }
+
+    private static byte[] pngImage(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y += 4) {
+            for (int x = 0; x < width; x += 4) {
+                image.setRGB(x, y, random.nextInt(0xFFFFFF));
+            }
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+
+    private static BufferedImage decode(String document) throws IOException {
+        String payload = document.substring(document.indexOf(',') + 1);
+        return ImageIO.read(new ByteArrayInputStream(Base64.getDecoder().decode(payload)));
+    }
+}
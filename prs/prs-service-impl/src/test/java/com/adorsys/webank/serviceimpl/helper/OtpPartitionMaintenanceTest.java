@@ -0,0 +1,160 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import com.adorsys.webank.config.properties.OtpPartitioningProperties;
+import com.adorsys.webank.config.properties.OtpPartitioningProperties.RetireMode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OtpPartitionMaintenanceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2025-06-10T12:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OtpPartitioningProperties properties;
+    private OtpPartitionMaintenance maintenance;
+
+    @BeforeEach
+    void setUp() {
+        properties = new OtpPartitioningProperties();
+        properties.setEnabled(true);
+        properties.setDaysAhead(2);
+        maintenance = new OtpPartitionMaintenance(jdbcTemplate, properties, transactionManager, CLOCK);
+    }
+
+    @Test
+    void maintain_CreatesPartitionsAheadAndDropsExpired() {
+        // Given
+        givenLockAcquired();
+        givenPartitionsExist(false);
+        givenRowsInDefaultPartition(0);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of(
+                "otp_requests_default", "otp_requests_p20250607", "otp_requests_p20250608", "otp_requests_p20250609"));
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("CREATE TABLE otp_requests_p20250610 PARTITION OF otp_requests"
+                + " FOR VALUES FROM ('2025-06-10') TO ('2025-06-11')");
+        verify(jdbcTemplate).execute("CREATE TABLE otp_requests_p20250612 PARTITION OF otp_requests"
+                + " FOR VALUES FROM ('2025-06-12') TO ('2025-06-13')");
+        // Retention is two days: only partitions ending before 2025-06-08T12:00 are retired
+        verify(jdbcTemplate).execute("ALTER TABLE otp_requests DETACH PARTITION otp_requests_p20250607");
+        verify(jdbcTemplate).execute("DROP TABLE otp_requests_p20250607");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE otp_requests DETACH PARTITION otp_requests_p20250608");
+        verify(jdbcTemplate, never()).execute("ALTER TABLE otp_requests DETACH PARTITION otp_requests_default");
+        verify(jdbcTemplate).update("DELETE FROM otp_requests_default WHERE created_at < ?",
+                LocalDateTime.parse("2025-06-08T12:00:00"));
+    }
+
+    @Test
+    void maintain_DefaultPartitionHoldsRowsOfDay_MovesThemBeforeAttaching() {
+        // Given
+        givenLockAcquired();
+        givenPartitionsExist(false);
+        givenRowsInDefaultPartition(3);
+        LocalDateTime from = LocalDateTime.parse("2025-06-10T00:00:00");
+        LocalDateTime to = LocalDateTime.parse("2025-06-11T00:00:00");
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        var inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("CREATE TABLE otp_requests_p20250610 (LIKE otp_requests"
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+        inOrder.verify(jdbcTemplate).update("INSERT INTO otp_requests_p20250610 SELECT * FROM otp_requests_default"
+                + " WHERE created_at >= ? AND created_at < ?", from, to);
+        inOrder.verify(jdbcTemplate).update("DELETE FROM otp_requests_default WHERE created_at >= ? AND created_at < ?",
+                from, to);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE otp_requests ATTACH PARTITION otp_requests_p20250610"
+                + " FOR VALUES FROM ('2025-06-10') TO ('2025-06-11')");
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE TABLE otp_requests_p20250610 PARTITION OF"));
+    }
+
+    @Test
+    void maintain_CreatingPartitionFails_StillRetires() {
+        // Given
+        givenLockAcquired();
+        givenPartitionsExist(false);
+        givenRowsInDefaultPartition(0);
+        doThrow(new BadSqlGrammarException("create", "CREATE TABLE", new SQLException("failed")))
+                .when(jdbcTemplate).execute(startsWith("CREATE TABLE otp_requests_p20250610"));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of("otp_requests_p20250601"));
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE otp_requests_p20250611 PARTITION OF"));
+        verify(jdbcTemplate).execute("ALTER TABLE otp_requests DETACH PARTITION otp_requests_p20250601");
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void maintain_DetachMode_KeepsRetiredTable() {
+        // Given
+        properties.setRetireMode(RetireMode.DETACH);
+        givenLockAcquired();
+        givenPartitionsExist(true);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any())).thenReturn(List.of("otp_requests_p20250601"));
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE otp_requests DETACH PARTITION otp_requests_p20250601");
+        verify(jdbcTemplate, never()).execute("DROP TABLE otp_requests_p20250601");
+    }
+
+    @Test
+    void maintain_LockHeldByOtherInstance_DoesNothing() {
+        // Given
+        when(jdbcTemplate.queryForObject(startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenReturn(false);
+
+        // When
+        maintenance.maintain();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void givenLockAcquired() {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                .thenReturn(true);
+    }
+
+    private void givenPartitionsExist(boolean exist) {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT to_regclass"), eq(Boolean.class), any())).thenReturn(exist);
+    }
+
+    private void givenRowsInDefaultPartition(int rows) {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT count(*)"), eq(Integer.class), any(), any())).thenReturn(rows);
+    }
+}
@@ -0,0 +1,94 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+    }
+
+    @Test
+    void execute_ConcurrentSameKey_RunsWorkOnce() throws Exception {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<String> leader = executor.submit(() -> singleFlight.execute("op", "key", () -> {
+                runs.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "result";
+            }));
+            assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+            Future<String> follower = executor.submit(() -> singleFlight.execute("op", "key", () -> {
+                runs.incrementAndGet();
+                return "other";
+            }));
+            // Give the follower time to join the in-flight call before it is released
+            while (meterRegistry.find("prs.single_flight.calls").tag("result", "coalesced").counter() == null) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            // Then
+            assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+            assertEquals("result", follower.get(5, TimeUnit.SECONDS));
+            assertEquals(1, runs.get());
+            assertEquals(1.0, meterRegistry.get("prs.single_flight.calls")
+                    .tag("operation", "op").tag("result", "executed").counter().count());
+            assertEquals(1.0, meterRegistry.get("prs.single_flight.calls")
+                    .tag("operation", "op").tag("result", "coalesced").counter().count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_Sequential_DoesNotCacheResults() {
+        // When
+        String first = singleFlight.execute("op", "key", () -> "first");
+        String second = singleFlight.execute("op", "key", () -> "second");
+
+        // Then
+        assertEquals("first", first);
+        assertEquals("second", second);
+    }
+
+    @Test
+    void execute_WorkFails_ExceptionPropagatesAndKeyIsReleased() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("op", "key", () -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals("retry", singleFlight.execute("op", "key", () -> "retry"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
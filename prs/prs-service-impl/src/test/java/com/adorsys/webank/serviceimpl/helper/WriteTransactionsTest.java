@@ -0,0 +1,63 @@
+package com.adorsys.webank.serviceimpl.helper;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class WriteTransactionsTest {
+
+    private PlatformTransactionManager transactionManager;
+    private WriteTransactions writeTransactions;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        writeTransactions = new WriteTransactions(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void execute_RunsWorkInTransaction() {
+        // When
+        String result = writeTransactions.execute(() -> "saved");
+
+        // Then
+        assertEquals("saved", result);
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void execute_WorkFails_RollsBack() {
+        // When
+        assertThrows(IllegalStateException.class, () -> writeTransactions.execute(() -> {
+            throw new IllegalStateException("write failed");
+        }));
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void execute_InsideTransaction_Rejected() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        assertThrows(IllegalStateException.class, () -> writeTransactions.execute(() -> "saved"));
+
+        // Then
+        verifyNoInteractions(transactionManager);
+    }
+}